@@ -0,0 +1,113 @@
+package com.guacom.notificationservice.application.services;
+
+import com.guacom.notificationservice.application.dto.NotificationLogDto;
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.infrastructure.channels.EmailNotificationStrategy;
+import com.guacom.notificationservice.infrastructure.channels.NotificationChannelFactory;
+import com.guacom.notificationservice.infrastructure.channels.PushNotificationStrategy;
+import com.guacom.notificationservice.infrastructure.channels.SmsNotificationStrategy;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import com.guacom.notificationservice.infrastructure.events.AsyncDeliveryEventJournal;
+import com.guacom.notificationservice.infrastructure.ids.SnowflakeIdGenerator;
+import com.guacom.notificationservice.infrastructure.repositories.InMemoryNotificationRepository;
+import com.guacom.notificationservice.infrastructure.repositories.InMemoryUserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * One broadcast through {@link NotificationServiceImpl#sendNotifications(Message)}, with the real
+ * channel strategies and in-memory repositories, to audiences of the same sizes as the repository
+ * benchmarks. A 1M audience on all channels keeps a few million logs alive per broadcast, hence the
+ * larger heap the jmh task runs with.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NotificationDispatchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int audienceSize;
+
+    @Param({"EMAIL", "EMAIL_SMS", "ALL"})
+    public ChannelMix channelMix;
+
+    @Param({"SEQUENTIAL", "CONCURRENT"})
+    public NotificationProperties.DispatchMode dispatchMode;
+
+    private final Logger eventLogger = Logger.getLogger(AsyncDeliveryEventJournal.class.getName());
+    private InMemoryUserRepository userRepository;
+    private NotificationServiceImpl notificationService;
+    private Message message;
+
+    @Setup(Level.Trial)
+    public void createAudience() {
+        // Delivery events go to the console otherwise, which is not what is measured here
+        eventLogger.setLevel(java.util.logging.Level.WARNING);
+
+        userRepository = new InMemoryUserRepository();
+        for (int i = 0; i < audienceSize; i++) {
+            userRepository.save(new User("user-" + i, "User " + i, "user" + i + "@example.com",
+                    String.format("+1555%07d", i), List.of(MessageCategory.SPORTS), channelMix.channels));
+        }
+        message = Message.builder()
+                .id("message-1")
+                .category(MessageCategory.SPORTS)
+                .content("Final score: 3-1. Highlights are available in the app.")
+                .build();
+    }
+
+    @Setup(Level.Iteration)
+    public void createService() {
+        // Short segments keep the log bounded to the last few seconds of the run
+        NotificationProperties.Retention retention = new NotificationProperties.Retention();
+        retention.setSegmentDuration(Duration.ofSeconds(1));
+        retention.setMaxAge(Duration.ofSeconds(5));
+        InMemoryNotificationRepository notificationRepository = new InMemoryNotificationRepository(retention);
+
+        NotificationChannelFactory channelFactory = new NotificationChannelFactory(List.of(
+                new EmailNotificationStrategy(), new SmsNotificationStrategy(), new PushNotificationStrategy()));
+        NotificationServiceImpl.Builder builder = NotificationServiceImpl.builder(userRepository,
+                notificationRepository, channelFactory, SnowflakeIdGenerator.defaultInstance(),
+                AsyncDeliveryEventJournal.synchronous());
+        if (dispatchMode == NotificationProperties.DispatchMode.CONCURRENT) {
+            builder.dispatchExecutor(Executors.newFixedThreadPool(64), 64);
+        }
+        notificationService = builder.build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void shutdownService() {
+        notificationService.shutdown();
+    }
+
+    @Benchmark
+    public List<NotificationLogDto> sendNotifications() {
+        return notificationService.sendNotifications(message);
+    }
+
+    public enum ChannelMix {
+        EMAIL(NotificationChannel.EMAIL),
+        EMAIL_SMS(NotificationChannel.EMAIL, NotificationChannel.SMS),
+        ALL(NotificationChannel.EMAIL, NotificationChannel.SMS, NotificationChannel.PUSH);
+
+        private final List<NotificationChannel> channels;
+
+        ChannelMix(NotificationChannel... channels) {
+            this.channels = List.of(channels);
+        }
+    }
+}
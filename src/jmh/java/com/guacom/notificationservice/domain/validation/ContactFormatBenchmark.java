@@ -0,0 +1,47 @@
+package com.guacom.notificationservice.domain.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Contact validation as done when users are saved, next to the patterns it replaced.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContactFormatBenchmark {
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?[0-9\\s\\-\\(\\)]{10,}$");
+
+    public String email = "john.smith@email.com";
+    public String phone = "+1 (234) 567-8900";
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return ContactFormat.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean isValidPhone() {
+        return ContactFormat.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public String normalizePhone() {
+        return ContactFormat.normalizePhone(phone);
+    }
+
+    @Benchmark
+    public boolean emailPattern() {
+        return EMAIL_PATTERN.matcher(email.trim()).matches();
+    }
+
+    @Benchmark
+    public boolean phonePattern() {
+        return PHONE_PATTERN.matcher(phone.trim()).matches();
+    }
+}
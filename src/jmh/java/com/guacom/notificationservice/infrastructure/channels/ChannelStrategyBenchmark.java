@@ -0,0 +1,58 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.interfaces.NotificationChannelStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-recipient work of every channel strategy: rendering the message and checking the recipient.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChannelStrategyBenchmark {
+
+    @Param({"EMAIL", "SMS", "PUSH"})
+    public NotificationChannel channel;
+
+    private NotificationChannelStrategy strategy;
+    private User user;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        strategy = switch (channel) {
+            case EMAIL -> new EmailNotificationStrategy();
+            case SMS -> new SmsNotificationStrategy();
+            case PUSH -> new PushNotificationStrategy();
+        };
+        user = new User("user-1", "John Smith", "john.smith@email.com", "+1-555-0101",
+                List.of(MessageCategory.SPORTS), List.of(channel));
+        message = Message.builder()
+                .id("message-1")
+                .category(MessageCategory.SPORTS)
+                .content("Final score: 3-1. Highlights, the full match replay and post-match interviews are "
+                        + "available in the app for the next seven days.")
+                .build();
+    }
+
+    @Benchmark
+    public String formatMessage() {
+        return strategy.formatMessage(message, user);
+    }
+
+    @Benchmark
+    public boolean validateRecipient() {
+        return strategy.validateRecipient(user);
+    }
+}
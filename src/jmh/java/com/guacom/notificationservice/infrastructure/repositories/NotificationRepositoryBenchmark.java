@@ -0,0 +1,72 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * History reads over a log of broadcasts spread across the last 20 hours: 1000 users, 100 messages,
+ * every channel.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NotificationRepositoryBenchmark {
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+    private static final int USERS = 1000;
+    private static final int MESSAGES = 100;
+
+    @Param({"10000", "100000", "1000000"})
+    public int records;
+
+    private InMemoryNotificationRepository notificationRepository;
+
+    @Setup
+    public void setUp() {
+        NotificationProperties.Retention retention = new NotificationProperties.Retention();
+        retention.setMaxRecords(2L * records);
+        notificationRepository = new InMemoryNotificationRepository(retention);
+
+        LocalDateTime start = LocalDateTime.now().minusHours(20);
+        long stepMillis = 20L * 60 * 60 * 1000 / records;
+        for (int i = 0; i < records; i++) {
+            int message = i % MESSAGES;
+            int user = i % USERS;
+            notificationRepository.save(NotificationLog.builder()
+                    .id(String.format("log-%09d", i))
+                    .messageId("message-" + message)
+                    .userId("user-" + user)
+                    .userName("User " + user)
+                    .userEmail("user" + user + "@example.com")
+                    .userPhone(String.format("+1555%07d", user))
+                    .messageCategory(MessageCategory.SPORTS)
+                    .messageContent("Update number " + message)
+                    .channel(CHANNELS[i % CHANNELS.length])
+                    .status(NotificationStatus.SENT)
+                    .sentAt(start.plusNanos(i * stepMillis * 1_000_000))
+                    .externalMessageId("EXT-" + i)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<NotificationLog> findAllOrderByCreatedDateDesc() {
+        return notificationRepository.findAllOrderByCreatedDateDesc();
+    }
+
+    @Benchmark
+    public List<NotificationLog> findFirstPageOrderByCreatedDateDesc() {
+        return notificationRepository.findPageOrderByCreatedDateDesc(null, null, 50);
+    }
+}
@@ -0,0 +1,53 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Audience lookups over a user base where every user follows one or two of the three categories
+ * and prefers one to three channels.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserRepositoryBenchmark {
+    private static final MessageCategory[] CATEGORIES = MessageCategory.values();
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+
+    @Param({"10000", "100000", "1000000"})
+    public int users;
+
+    private InMemoryUserRepository userRepository;
+
+    @Setup
+    public void setUp() {
+        userRepository = new InMemoryUserRepository();
+        for (int i = 0; i < users; i++) {
+            List<MessageCategory> categories = i % 2 == 0
+                    ? List.of(CATEGORIES[i % CATEGORIES.length])
+                    : List.of(CATEGORIES[i % CATEGORIES.length], CATEGORIES[(i + 1) % CATEGORIES.length]);
+            List<NotificationChannel> channels = List.of(CHANNELS).subList(0, 1 + i % CHANNELS.length);
+            userRepository.save(new User("user-" + i, "User " + i, "user" + i + "@example.com",
+                    String.format("+1555%07d", i), categories, channels));
+        }
+    }
+
+    @Benchmark
+    public List<User> findBySubscribedCategory() {
+        return userRepository.findBySubscribedCategory(MessageCategory.SPORTS);
+    }
+
+    @Benchmark
+    public List<User> findBySubscribedCategoryAndChannel() {
+        return userRepository.findBySubscribedCategoryAndChannel(MessageCategory.SPORTS, NotificationChannel.SMS);
+    }
+}
@@ -0,0 +1,28 @@
+package com.guacom.notificationservice.application.dto;
+
+import com.guacom.notificationservice.domain.enums.CircuitState;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CircuitBreakerDto {
+    private NotificationChannel channel;
+    private CircuitState state;
+    private LocalDateTime stateSince;
+    /**
+     * Percent of failed calls in the window, or -1 while the circuit is not closed or the window
+     * holds too few calls.
+     */
+    private double failureRate;
+    private int bufferedCalls;
+    private int failedCalls;
+    private long rejectedCalls;
+}
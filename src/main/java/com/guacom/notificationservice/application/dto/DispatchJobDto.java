@@ -0,0 +1,30 @@
+package com.guacom.notificationservice.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.guacom.notificationservice.domain.enums.DispatchJobStatus;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DispatchJobDto {
+    private String jobId;
+    private MessageCategory category;
+    private DispatchJobStatus status;
+    private long processedNotifications;
+    private long sentNotifications;
+    private long failedNotifications;
+    private long retryingNotifications;
+    private LocalDateTime acceptedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String errorMessage;
+}
@@ -0,0 +1,18 @@
+package com.guacom.notificationservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationHistoryPageDto {
+    private List<NotificationLogDto> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
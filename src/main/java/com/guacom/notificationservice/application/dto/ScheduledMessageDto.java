@@ -0,0 +1,25 @@
+package com.guacom.notificationservice.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.ScheduledMessageStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScheduledMessageDto {
+    private String messageId;
+    private MessageCategory category;
+    private String content;
+    private ScheduledMessageStatus status;
+    private LocalDateTime sendAt;
+    private LocalDateTime acceptedAt;
+}
@@ -0,0 +1,14 @@
+package com.guacom.notificationservice.application.services;
+
+import java.time.Duration;
+
+/**
+ * How {@link MessageDispatchServiceImpl} runs accepted messages in the background.
+ *
+ * @param workers         messages dispatched in parallel
+ * @param queueCapacity   accepted messages waiting for a worker; submissions beyond this are rejected
+ * @param maxRetainedJobs finished jobs kept around for status polling before the oldest are forgotten
+ * @param shutdownTimeout how long shutdown waits for queued and running messages
+ */
+public record AsyncDispatchSettings(int workers, int queueCapacity, int maxRetainedJobs, Duration shutdownTimeout) {
+}
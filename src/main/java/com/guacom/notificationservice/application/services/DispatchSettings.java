@@ -0,0 +1,20 @@
+package com.guacom.notificationservice.application.services;
+
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+
+import java.util.Map;
+
+/**
+ * How {@link NotificationServiceImpl} fans deliveries out, whatever the values are configured with.
+ *
+ * @param concurrent     whether deliveries run on a pool of {@code maxConcurrency} threads instead of
+ *                       the calling thread
+ * @param maxConcurrency upper bound of deliveries in flight, shared by all broadcasts
+ * @param batchSizes     recipients grouped into one provider call per channel; channels that are
+ *                       missing, or mapped to 1, are sent one recipient at a time
+ */
+public record DispatchSettings(boolean concurrent, int maxConcurrency, Map<NotificationChannel, Integer> batchSizes) {
+    public DispatchSettings {
+        batchSizes = Map.copyOf(batchSizes);
+    }
+}
@@ -0,0 +1,139 @@
+package com.guacom.notificationservice.application.services;
+
+import com.guacom.notificationservice.application.dto.DispatchJobDto;
+import com.guacom.notificationservice.domain.entities.DispatchJob;
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.exceptions.ResourceNotFoundException;
+import com.guacom.notificationservice.domain.exceptions.ServiceUnavailableException;
+import com.guacom.notificationservice.domain.interfaces.MessageDispatchService;
+import com.guacom.notificationservice.domain.interfaces.MessageService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Accepts messages for background dispatch. Submissions are validated and queued immediately;
+ * a fixed pool of workers then runs them through {@link MessageService#processMessage}, recording
+ * progress on a {@link DispatchJob} that can be polled by id.
+ */
+@Service
+public class MessageDispatchServiceImpl implements MessageDispatchService {
+    private static final Logger logger = Logger.getLogger(MessageDispatchServiceImpl.class.getName());
+
+    private final MessageService messageService;
+    private final ThreadPoolExecutor dispatchEngine;
+    private final AsyncDispatchSettings settings;
+    private final Map<String, DispatchJob> jobs = new ConcurrentHashMap<>();
+    // Ids of finished jobs in the order they finished, the only ones eviction may forget
+    private final Queue<String> finishedJobs = new ConcurrentLinkedQueue<>();
+
+    public MessageDispatchServiceImpl(MessageService messageService, AsyncDispatchSettings settings) {
+        this.messageService = messageService;
+        this.settings = settings;
+        this.dispatchEngine = createDispatchEngine(settings);
+    }
+
+    public DispatchJobDto submit(MessageCategory category, String content) {
+        Message message = messageService.createMessage(category, content);
+        DispatchJob job = new DispatchJob(message.getId(), message.getCategory());
+
+        jobs.put(job.getId(), job);
+        try {
+            dispatchEngine.execute(() -> run(job, message));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            logger.warning(String.format("Dispatch queue full, rejecting message %s", message.getId()));
+            throw new ServiceUnavailableException("Dispatch queue is full, please retry later", e);
+        }
+        evictFinishedJobs();
+
+        logger.info(String.format("Message %s accepted for asynchronous dispatch", message.getId()));
+        return convertToDto(job);
+    }
+
+    public DispatchJobDto getJob(String jobId) {
+        DispatchJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Dispatch job not found: " + jobId);
+        }
+        return convertToDto(job);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatchEngine.shutdown();
+        if (!dispatchEngine.awaitTermination(settings.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            logger.warning(String.format("Dispatch engine did not drain within %s, %d jobs still queued",
+                    settings.shutdownTimeout(), dispatchEngine.getQueue().size()));
+        }
+    }
+
+    private void run(DispatchJob job, Message message) {
+        job.start();
+        try {
+            messageService.processMessage(message,
+                    result -> job.recordDelivery(result.getStatus()),
+                    result -> job.recordRetryOutcome(result.getStatus()));
+            job.complete();
+        } catch (RuntimeException e) {
+            logger.severe(String.format("Dispatch job %s failed: %s", job.getId(), e.getMessage()));
+            job.fail(e.getMessage());
+        }
+        finishedJobs.add(job.getId());
+        evictFinishedJobs();
+    }
+
+    /**
+     * Forgets the jobs that finished first once more than {@code maxRetainedJobs} are tracked. Jobs
+     * still queued or running are never evicted, and a long-running one does not hold back the
+     * eviction of those that finished after it.
+     */
+    private synchronized void evictFinishedJobs() {
+        String finishedId;
+        while (jobs.size() > settings.maxRetainedJobs() && (finishedId = finishedJobs.poll()) != null) {
+            jobs.remove(finishedId);
+        }
+    }
+
+    private DispatchJobDto convertToDto(DispatchJob job) {
+        return DispatchJobDto.builder()
+                .jobId(job.getId())
+                .category(job.getCategory())
+                .status(job.getStatus())
+                .processedNotifications(job.getSentCount() + job.getFailedCount() + job.getRetryingCount())
+                .sentNotifications(job.getSentCount())
+                .failedNotifications(job.getFailedCount())
+                .retryingNotifications(job.getRetryingCount())
+                .acceptedAt(job.getAcceptedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+
+    private static ThreadPoolExecutor createDispatchEngine(AsyncDispatchSettings settings) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                settings.workers(),
+                settings.workers(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.queueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "message-dispatch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -4,11 +4,13 @@ import com.guacom.notificationservice.application.dto.NotificationLogDto;
 import com.guacom.notificationservice.application.validators.MessageValidator;
 import com.guacom.notificationservice.domain.entities.Message;
 import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.interfaces.IdGenerator;
 import com.guacom.notificationservice.domain.interfaces.MessageService;
 import com.guacom.notificationservice.domain.interfaces.NotificationService;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 @Service
@@ -17,26 +19,49 @@ public class MessageServiceImpl implements MessageService {
 
     private final MessageValidator messageValidator;
     private final NotificationService notificationService;
+    private final IdGenerator idGenerator;
 
-    public MessageServiceImpl(MessageValidator messageValidator, NotificationService notificationService) {
+    public MessageServiceImpl(MessageValidator messageValidator, NotificationService notificationService,
+                              IdGenerator idGenerator) {
         this.messageValidator = messageValidator;
         this.notificationService = notificationService;
+        this.idGenerator = idGenerator;
     }
 
-    public List<NotificationLogDto> processMessage(MessageCategory category, String content) {
-        logger.info(String.format("Processing message for category: %s", category));
-
+    public Message createMessage(MessageCategory category, String content) {
         String sanitizedContent = messageValidator.sanitizeContent(content);
 
         Message message = Message.builder()
+                .id(idGenerator.nextId())
                 .category(category)
                 .content(sanitizedContent)
                 .build();
         logger.info(String.format("Created message with ID: %s", message.getId()));
 
+        return message;
+    }
+
+    public List<NotificationLogDto> processMessage(MessageCategory category, String content) {
+        logger.info(String.format("Processing message for category: %s", category));
+
+        Message message = createMessage(category, content);
+
         List<NotificationLogDto> results = notificationService.sendNotifications(message);
 
         logger.info(String.format("Message processing completed. Sent %d notifications", results.size()));
         return results;
     }
+
+    public void processMessage(Message message, Consumer<NotificationLogDto> listener) {
+        processMessage(message, listener, result -> { });
+    }
+
+    public void processMessage(Message message, Consumer<NotificationLogDto> listener,
+                               Consumer<NotificationLogDto> retryOutcomes) {
+        logger.info(String.format("Processing message %s for category: %s", message.getId(), message.getCategory()));
+
+        notificationService.sendNotifications(message, listener, retryOutcomes);
+
+        logger.info(String.format("Message processing completed for message %s", message.getId()));
+    }
 }
@@ -1,52 +1,178 @@
 package com.guacom.notificationservice.application.services;
 
+import com.guacom.notificationservice.application.dto.NotificationHistoryPageDto;
 import com.guacom.notificationservice.application.dto.NotificationLogDto;
 import com.guacom.notificationservice.domain.entities.Message;
 import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.entities.NotificationResult;
 import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.DeliveryEventType;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
 import com.guacom.notificationservice.domain.enums.NotificationChannel;
 import com.guacom.notificationservice.domain.enums.NotificationStatus;
+import com.guacom.notificationservice.domain.exceptions.NotificationException;
 import com.guacom.notificationservice.domain.interfaces.ChannelFactory;
+import com.guacom.notificationservice.domain.interfaces.DeliveryEventJournal;
+import com.guacom.notificationservice.domain.interfaces.IdGenerator;
+import com.guacom.notificationservice.domain.interfaces.NotificationLogWriter;
 import com.guacom.notificationservice.domain.interfaces.NotificationRepository;
 import com.guacom.notificationservice.domain.interfaces.NotificationService;
+import com.guacom.notificationservice.domain.interfaces.RetryScheduler;
 import com.guacom.notificationservice.domain.interfaces.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
-import java.util.logging.Logger;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
-    private static final Logger logger = Logger.getLogger(NotificationServiceImpl.class.getName());
+    private static final Executor CALLER_THREAD = Runnable::run;
+    private static final int MAX_HISTORY_PAGE_SIZE = 500;
+    private static final String CURSOR_SEPARATOR = "|";
+    private static final Consumer<NotificationLogDto> IGNORE_RETRY_OUTCOMES = result -> { };
+    private static final RetryScheduler NO_RETRIES = new RetryScheduler() {
+        @Override
+        public long backoffMillis(NotificationChannel channel, int attempt) {
+            return -1;
+        }
+
+        @Override
+        public void schedule(long delayMillis, Runnable retry, Runnable abandon) {
+            abandon.run();
+        }
+    };
 
     private final UserRepository userRepository;
     private final NotificationRepository notificationRepository;
     private final ChannelFactory channelFactory;
+    private final NotificationLogWriter logWriter;
+    private final IdGenerator idGenerator;
+    private final DeliveryEventJournal events;
+    private final RetryScheduler retryScheduler;
+    private final Executor dispatchExecutor;
+    private final Executor[] lanes;
+    private final DueRetries[] dueRetries;
+    private final Semaphore dispatchPermits;
+    private final int[] batchSizes;
 
+    @Autowired
     public NotificationServiceImpl(UserRepository userRepository,
                                    NotificationRepository notificationRepository,
-                                   ChannelFactory channelFactory) {
+                                   ChannelFactory channelFactory,
+                                   DispatchSettings settings,
+                                   NotificationLogWriter logWriter,
+                                   IdGenerator idGenerator,
+                                   DeliveryEventJournal events,
+                                   RetryScheduler retryScheduler) {
+        this(userRepository, notificationRepository, channelFactory,
+                createDispatchExecutor(settings),
+                settings.maxConcurrency(),
+                settings.batchSizes(),
+                logWriter,
+                idGenerator,
+                events,
+                retryScheduler);
+    }
+
+    /**
+     * @param batchSizes recipients grouped into one provider call per channel; channels that are
+     *                   missing, or mapped to 1, are sent one recipient at a time
+     */
+    private NotificationServiceImpl(UserRepository userRepository,
+                                    NotificationRepository notificationRepository,
+                                    ChannelFactory channelFactory,
+                                    Executor dispatchExecutor,
+                                    int maxConcurrency,
+                                    Map<NotificationChannel, Integer> batchSizes,
+                                    NotificationLogWriter logWriter,
+                                    IdGenerator idGenerator,
+                                    DeliveryEventJournal events,
+                                    RetryScheduler retryScheduler) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be at least 1");
+        }
         this.userRepository = userRepository;
         this.notificationRepository = notificationRepository;
         this.channelFactory = channelFactory;
+        this.logWriter = logWriter;
+        this.idGenerator = idGenerator;
+        this.events = events;
+        this.retryScheduler = retryScheduler;
+        this.dispatchExecutor = dispatchExecutor;
+        this.lanes = new Executor[NotificationChannel.values().length];
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            lanes[channel.ordinal()] = dispatchExecutor == CALLER_THREAD
+                    ? CALLER_THREAD
+                    : Executors.newSingleThreadExecutor(
+                            daemonThreads("notification-" + channel.name().toLowerCase() + "-lane-"));
+        }
+        this.dueRetries = new DueRetries[NotificationChannel.values().length];
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            dueRetries[channel.ordinal()] = new DueRetries(channel);
+        }
+        this.dispatchPermits = new Semaphore(maxConcurrency);
+        this.batchSizes = new int[NotificationChannel.values().length];
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            this.batchSizes[channel.ordinal()] = Math.max(1, batchSizes.getOrDefault(channel, 1));
+        }
+    }
+
+    /**
+     * Starts a service outside Spring, sending on the calling thread without batching or retries,
+     * writing logs straight to {@code notificationRepository}, unless the builder is told otherwise.
+     */
+    static Builder builder(UserRepository userRepository, NotificationRepository notificationRepository,
+                           ChannelFactory channelFactory, IdGenerator idGenerator, DeliveryEventJournal events) {
+        return new Builder(userRepository, notificationRepository, channelFactory, idGenerator, events);
     }
 
     public List<NotificationLogDto> sendNotifications(Message message) {
-        logger.info(String.format("Starting notification process for message: %s", message.getId()));
+        List<User> subscribedUsers = findAudience(message);
+        int[] firstSlots = assignSlots(subscribedUsers, message.getCategory());
 
-        List<User> subscribedUsers = userRepository.findBySubscribedCategory(message.getCategory());
-        logger.info(String.format("Found %d users subscribed to category %s",
-                subscribedUsers.size(), message.getCategory()));
+        NotificationLogDto[] results = new NotificationLogDto[firstSlots[subscribedUsers.size()]];
+        dispatch(subscribedUsers, firstSlots, message, (result, slot) -> results[slot] = result,
+                IGNORE_RETRY_OUTCOMES);
 
-        var results = subscribedUsers.stream()
-                .map(user -> sendNotificationsToUser(user, message))
-                .flatMap(List::stream)
-                .toList();
+        events.record(DeliveryEventType.BROADCAST_COMPLETED, message.getId(), null, null, results.length, null);
+        return List.of(results);
+    }
 
-        logger.info(String.format("Notification process completed. Total notifications sent: %d", results.size()));
-        return results;
+    public void sendNotifications(Message message, Consumer<NotificationLogDto> listener) {
+        sendNotifications(message, listener, IGNORE_RETRY_OUTCOMES);
+    }
+
+    public void sendNotifications(Message message, Consumer<NotificationLogDto> listener,
+                                  Consumer<NotificationLogDto> retryOutcomes) {
+        List<User> subscribedUsers = findAudience(message);
+        int[] firstSlots = assignSlots(subscribedUsers, message.getCategory());
+        int sent = dispatch(subscribedUsers, firstSlots, message, (result, slot) -> listener.accept(result),
+                retryOutcomes);
+
+        events.record(DeliveryEventType.BROADCAST_COMPLETED, message.getId(), null, null, sent, null);
     }
 
     public List<NotificationLogDto> sendNotificationsToUser(User user, Message message) {
@@ -57,64 +183,362 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     public NotificationLogDto sendSingleNotification(User user, Message message, NotificationChannel channel) {
-        logger.info(String.format("Sending %s notification to user %s", channel, user.getName()));
+        return sendSingleNotification(user, message, channel, IGNORE_RETRY_OUTCOMES);
+    }
 
-        try {
-            var notificationChannelStrategy = channelFactory.getNotificationChannelStrategy(channel);
-            var result = notificationChannelStrategy.sendNotification(user, message);
-
-            NotificationLog log = NotificationLog.builder()
-                    .id(UUID.randomUUID().toString())
-                    .messageId(message.getId())
-                    .userId(user.getId())
-                    .userName(user.getName())
-                    .userEmail(user.getEmail())
-                    .userPhone(user.getPhoneNumber())
-                    .messageCategory(message.getCategory())
-                    .messageContent(message.getContent())
-                    .channel(channel)
-                    .status(result.getStatus())
-                    .sentAt(LocalDateTime.now())
-                    .deliveredAt(result.isSuccess() ? result.getTimestamp() : null)
-                    .errorMessage(result.getErrorMessage())
-                    .externalMessageId(result.getExternalMessageId())
-                    .build();
-
-            notificationRepository.save(log);
-
-            logger.info(String.format("Notification %s: %s",
-                    result.isSuccess() ? "sent successfully" : "failed", log.getId()));
+    public List<NotificationLogDto> sendBatchNotification(List<User> users, Message message, NotificationChannel channel) {
+        return sendBatchNotification(users, message, channel, IGNORE_RETRY_OUTCOMES);
+    }
 
-            return convertToDto(log);
+    private NotificationLogDto sendSingleNotification(User user, Message message, NotificationChannel channel,
+                                                      Consumer<NotificationLogDto> retryOutcomes) {
+        events.record(DeliveryEventType.DELIVERY_ATTEMPTED, message.getId(), channel, user.getId(), 1, null);
+
+        return recordAttempt(idGenerator.nextId(), LocalDateTime.now(), user, message, channel,
+                attempt(user, message, channel), 1, retryOutcomes);
+    }
+
+    private List<NotificationLogDto> sendBatchNotification(List<User> users, Message message,
+                                                           NotificationChannel channel,
+                                                           Consumer<NotificationLogDto> retryOutcomes) {
+        return sendBatch(users, message, channel, null, (i, result) -> recordAttempt(idGenerator.nextId(),
+                LocalDateTime.now(), users.get(i), message, channel, result, 1, retryOutcomes));
+    }
+
+    /**
+     * Sends {@code users} one provider call and hands each recipient's outcome, or the call's
+     * failure, to {@code recorder} by index.
+     */
+    private List<NotificationLogDto> sendBatch(List<User> users, Message message, NotificationChannel channel,
+                                               String detail, AttemptRecorder recorder) {
+        events.record(DeliveryEventType.BATCH_ATTEMPTED, message.getId(), channel, null, users.size(), detail);
 
+        List<NotificationResult> results;
+        try {
+            results = channelFactory.getNotificationChannelStrategy(channel).sendBatch(users, message);
+            if (results.size() != users.size()) {
+                throw new NotificationException(String.format("%s batch returned %d results for %d recipients",
+                        channel, results.size(), users.size()));
+            }
         } catch (Exception e) {
-            logger.severe(String.format("Error sending notification to user %s via %s: %s",
-                    user.getName(), channel, e.getMessage()));
-
-            NotificationLog failedLog = NotificationLog.builder()
-                    .messageId(message.getId())
-                    .userId(user.getId())
-                    .userName(user.getName())
-                    .userEmail(user.getEmail())
-                    .userPhone(user.getPhoneNumber())
-                    .messageCategory(message.getCategory())
-                    .messageContent(message.getContent())
-                    .channel(channel)
-                    .status(NotificationStatus.FAILED)
-                    .sentAt(LocalDateTime.now())
-                    .errorMessage("System error: " + e.getMessage())
-                    .build();
-
-            notificationRepository.save(failedLog);
-            return convertToDto(failedLog);
-        }
-    }
-
-    public List<NotificationLogDto> getNotificationHistory() {
-        List<NotificationLog> logs = notificationRepository.findAllOrderByCreatedDateDesc();
-        return logs.stream()
+            events.record(DeliveryEventType.BATCH_FAILED, message.getId(), channel, null, users.size(),
+                    e.getMessage());
+
+            NotificationResult failure = systemError(e);
+            List<NotificationLogDto> logs = new ArrayList<>(users.size());
+            for (int i = 0; i < users.size(); i++) {
+                logs.add(recorder.record(i, failure));
+            }
+            return logs;
+        }
+
+        List<NotificationLogDto> logs = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            logs.add(recorder.record(i, results.get(i)));
+        }
+        return logs;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Executor lane : lanes) {
+            if (lane instanceof ExecutorService executorService) {
+                executorService.shutdown();
+            }
+        }
+        if (dispatchExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * One page of the history, newest first. {@code cursor} is the {@code nextCursor} of the previous
+     * page, or null for the first one; {@code limit} is capped at {@value #MAX_HISTORY_PAGE_SIZE}.
+     */
+    public NotificationHistoryPageDto getNotificationHistory(String cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        int pageSize = Math.min(limit, MAX_HISTORY_PAGE_SIZE);
+
+        List<NotificationLog> logs;
+        if (cursor == null || cursor.isBlank()) {
+            logs = notificationRepository.findPageOrderByCreatedDateDesc(null, null, pageSize + 1);
+        } else {
+            String[] position = decodeCursor(cursor);
+            logs = notificationRepository.findPageOrderByCreatedDateDesc(
+                    LocalDateTime.parse(position[0]), position[1], pageSize + 1);
+        }
+
+        boolean hasMore = logs.size() > pageSize;
+        List<NotificationLogDto> items = logs.stream()
+                .limit(pageSize)
                 .map(this::convertToDto)
-                .collect(Collectors.toList());
+                .toList();
+
+        NotificationLog last = hasMore ? logs.get(pageSize - 1) : null;
+        return NotificationHistoryPageDto.builder()
+                .items(items)
+                .nextCursor(last == null ? null : encodeCursor(last))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private NotificationResult attempt(User user, Message message, NotificationChannel channel) {
+        try {
+            return channelFactory.getNotificationChannelStrategy(channel).sendNotification(user, message);
+        } catch (Exception e) {
+            return systemError(e);
+        }
+    }
+
+    /**
+     * Unexpected errors may be transient, except those raised by the service itself, such as a
+     * channel without strategy.
+     */
+    private static NotificationResult systemError(Exception e) {
+        String error = "System error: " + e.getMessage();
+        return e instanceof NotificationException
+                ? NotificationResult.failure(error)
+                : NotificationResult.retryableFailure(error);
+    }
+
+    private void retry(PendingRetry retry) {
+        User user = retry.user();
+        Message message = retry.message();
+        NotificationChannel channel = retry.channel();
+        events.record(DeliveryEventType.DELIVERY_ATTEMPTED, message.getId(), channel, user.getId(), 1,
+                "attempt " + retry.nextAttempt());
+        recordAttempt(retry.logId(), retry.sentAt(), user, message, channel, attempt(user, message, channel),
+                retry.nextAttempt(), retry.retryOutcomes());
+    }
+
+    private void retryBatch(List<PendingRetry> retries, Message message, NotificationChannel channel) {
+        List<User> users = new ArrayList<>(retries.size());
+        for (PendingRetry retry : retries) {
+            users.add(retry.user());
+        }
+        sendBatch(users, message, channel, "retry", (i, result) -> {
+            PendingRetry retry = retries.get(i);
+            return recordAttempt(retry.logId(), retry.sentAt(), retry.user(), message, channel, result,
+                    retry.nextAttempt(), retry.retryOutcomes());
+        });
+    }
+
+    /**
+     * Writes the outcome of attempt number {@code attempt} under {@code logId}, so every retry of a
+     * delivery updates the same log entry. A retryable failure with attempts left is written as
+     * RETRYING and its next attempt scheduled after the channel's backoff; whether a retry is taken
+     * is settled by {@link RetryScheduler#backoffMillis} before the log is written, so it is written
+     * once. A retry that comes due is sent through its channel like any other delivery, see
+     * {@link DueRetries}, and the last attempt of a retried delivery is handed to
+     * {@code retryOutcomes}.
+     */
+    private NotificationLogDto recordAttempt(String logId, LocalDateTime sentAt, User user, Message message,
+                                             NotificationChannel channel, NotificationResult result, int attempt,
+                                             Consumer<NotificationLogDto> retryOutcomes) {
+        long backoff = !result.isSuccess() && result.isRetryable()
+                ? retryScheduler.backoffMillis(channel, attempt + 1)
+                : -1;
+        NotificationLog log = buildLog(logId, sentAt, user, message, channel, result, attempt, backoff);
+        logWriter.write(log);
+
+        if (backoff >= 0) {
+            PendingRetry retry = new PendingRetry(logId, sentAt, user, message, channel, result, attempt,
+                    retryOutcomes);
+            retryScheduler.schedule(backoff, () -> dueRetries[channel.ordinal()].add(retry), () -> abandon(retry));
+            events.record(DeliveryEventType.RETRY_SCHEDULED, message.getId(), channel, user.getId(), 1,
+                    log.getErrorMessage());
+            return convertToDto(log);
+        }
+        if (result.isSuccess()) {
+            events.record(DeliveryEventType.NOTIFICATION_SENT, message.getId(), channel, user.getId(), 1, log.getId());
+        } else {
+            events.record(DeliveryEventType.NOTIFICATION_FAILED, message.getId(), channel, user.getId(), 1,
+                    log.getErrorMessage());
+        }
+        NotificationLogDto dto = convertToDto(log);
+        if (attempt > 1) {
+            retryOutcomes.accept(dto);
+        }
+        return dto;
+    }
+
+    /**
+     * Closes a RETRYING log as FAILED when the retry scheduler, or the service, stopped before the
+     * next attempt.
+     */
+    private void abandon(PendingRetry retry) {
+        NotificationLog log = buildLog(retry.logId(), retry.sentAt(), retry.user(), retry.message(), retry.channel(),
+                retry.lastResult(), retry.attempt(), -1);
+        logWriter.write(log);
+        events.record(DeliveryEventType.NOTIFICATION_FAILED, retry.message().getId(), retry.channel(),
+                retry.user().getId(), 1, log.getErrorMessage());
+        retry.retryOutcomes().accept(convertToDto(log));
+    }
+
+    private static NotificationLog buildLog(String logId, LocalDateTime sentAt, User user, Message message,
+                                            NotificationChannel channel, NotificationResult result, int attempt,
+                                            long backoff) {
+        NotificationStatus status = result.getStatus();
+        String errorMessage = result.getErrorMessage();
+        if (backoff >= 0) {
+            status = NotificationStatus.RETRYING;
+            errorMessage = String.format("Attempt %d failed, retrying in %d ms: %s", attempt, backoff, errorMessage);
+        } else if (!result.isSuccess() && attempt > 1) {
+            errorMessage = String.format("Failed after %d attempts: %s", attempt, errorMessage);
+        }
+
+        return NotificationLog.builder()
+                .id(logId)
+                .messageId(message.getId())
+                .userId(user.getId())
+                .userName(user.getName())
+                .userEmail(user.getEmail())
+                .userPhone(user.getPhoneNumber())
+                .messageCategory(message.getCategory())
+                .messageContent(message.getContent())
+                .channel(channel)
+                .status(status)
+                .sentAt(sentAt)
+                .deliveredAt(result.isSuccess() ? result.getTimestamp() : null)
+                .errorMessage(errorMessage)
+                .externalMessageId(result.getExternalMessageId())
+                .build();
+    }
+
+    private List<User> findAudience(Message message) {
+        List<User> subscribedUsers = userRepository.findBySubscribedCategory(message.getCategory());
+        events.record(DeliveryEventType.AUDIENCE_RESOLVED, message.getId(), null, null, subscribedUsers.size(),
+                message.getCategory().name());
+        return subscribedUsers;
+    }
+
+    /**
+     * Numbers every delivery in audience order: user {@code i} owns the result slots from
+     * {@code firstSlots[i]} up to {@code firstSlots[i + 1]}, one per eligible channel in preference
+     * order. The last element holds the total number of deliveries.
+     */
+    private int[] assignSlots(List<User> users, MessageCategory category) {
+        int[] firstSlots = new int[users.size() + 1];
+        for (int i = 0; i < users.size(); i++) {
+            firstSlots[i + 1] = firstSlots[i] + users.get(i).countReachableChannels(category);
+        }
+        return firstSlots;
+    }
+
+    /**
+     * Runs every eligible (user, channel) pair through its channel's executor and blocks until all
+     * of them have completed. Each result is handed to {@code sink} as soon as it is produced,
+     * together with its slot from {@link #assignSlots}.
+     */
+    private int dispatch(List<User> users, int[] firstSlots, Message message,
+                         ObjIntConsumer<NotificationLogDto> sink, Consumer<NotificationLogDto> retryOutcomes) {
+        DispatchTracker tracker = new DispatchTracker();
+
+        List<ChannelFeed> feeds = new ArrayList<>();
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            ChannelFeed feed = new ChannelFeed(channel, users, firstSlots, message, sink, retryOutcomes, tracker);
+            feeds.add(feed);
+            feed.start();
+        }
+
+        int submitted = 0;
+        for (ChannelFeed feed : feeds) {
+            submitted += feed.submitted.join();
+        }
+        tracker.awaitCompletion(submitted);
+        return submitted;
+    }
+
+    private void submitBatch(NotificationChannel channel, List<User> batch, int[] slots, Message message,
+                             ObjIntConsumer<NotificationLogDto> sink, Consumer<NotificationLogDto> retryOutcomes,
+                             DispatchTracker tracker) {
+        submit(channel, () -> {
+            try {
+                if (batch.size() == 1) {
+                    sink.accept(sendSingleNotification(batch.get(0), message, channel, retryOutcomes), slots[0]);
+                } else {
+                    List<NotificationLogDto> results = sendBatchNotification(batch, message, channel, retryOutcomes);
+                    for (int i = 0; i < results.size(); i++) {
+                        sink.accept(results.get(i), slots[i]);
+                    }
+                }
+            } catch (RuntimeException e) {
+                tracker.fail(e);
+            } finally {
+                tracker.completed(batch.size());
+            }
+        });
+    }
+
+    /**
+     * Runs a delivery on the channel's own executor when the factory provides one (it applies its own
+     * backpressure), otherwise on the shared dispatch pool once a permit is available, so that no more
+     * than {@code maxConcurrency} notifications are ever in flight there.
+     */
+    private void submit(NotificationChannel channel, Runnable delivery) {
+        Optional<Executor> channelExecutor = dispatchExecutor == CALLER_THREAD
+                ? Optional.empty()
+                : channelFactory.getChannelExecutor(channel);
+        if (channelExecutor.isPresent()) {
+            channelExecutor.get().execute(delivery);
+            return;
+        }
+
+        dispatchPermits.acquireUninterruptibly();
+        try {
+            dispatchExecutor.execute(() -> {
+                try {
+                    delivery.run();
+                } finally {
+                    dispatchPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dispatchPermits.release();
+            throw e;
+        }
+    }
+
+    private static String encodeCursor(NotificationLog log) {
+        String position = log.getSentAt() + CURSOR_SEPARATOR + log.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Splits a cursor into its sentAt and id parts, rejecting anything that was not produced by
+     * {@link #encodeCursor}.
+     */
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0 || separator == position.length() - CURSOR_SEPARATOR.length()) {
+                throw new IllegalArgumentException("Invalid history cursor");
+            }
+            String sentAt = position.substring(0, separator);
+            LocalDateTime.parse(sentAt);
+            return new String[]{sentAt, position.substring(separator + CURSOR_SEPARATOR.length())};
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid history cursor", e);
+        }
+    }
+
+    private static Executor createDispatchExecutor(DispatchSettings settings) {
+        if (!settings.concurrent()) {
+            return CALLER_THREAD;
+        }
+        return Executors.newFixedThreadPool(settings.maxConcurrency(), daemonThreads("notification-dispatch-"));
+    }
+
+    private static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 
     private NotificationLogDto convertToDto(NotificationLog log) {
@@ -135,4 +559,259 @@ public class NotificationServiceImpl implements NotificationService {
                 .externalMessageId(log.getExternalMessageId())
                 .build();
     }
+
+    static final class Builder {
+        private final UserRepository userRepository;
+        private final NotificationRepository notificationRepository;
+        private final ChannelFactory channelFactory;
+        private Executor dispatchExecutor = CALLER_THREAD;
+        private int maxConcurrency = 1;
+        private Map<NotificationChannel, Integer> batchSizes = new EnumMap<>(NotificationChannel.class);
+        private NotificationLogWriter logWriter;
+        private final IdGenerator idGenerator;
+        private final DeliveryEventJournal events;
+        private RetryScheduler retryScheduler = NO_RETRIES;
+
+        private Builder(UserRepository userRepository, NotificationRepository notificationRepository,
+                        ChannelFactory channelFactory, IdGenerator idGenerator, DeliveryEventJournal events) {
+            this.userRepository = userRepository;
+            this.notificationRepository = notificationRepository;
+            this.channelFactory = channelFactory;
+            this.idGenerator = idGenerator;
+            this.events = events;
+            this.logWriter = notificationRepository::save;
+        }
+
+        /**
+         * Dispatches on {@code dispatchExecutor} with at most {@code maxConcurrency} deliveries in
+         * flight; the service shuts the executor down with itself.
+         */
+        Builder dispatchExecutor(Executor dispatchExecutor, int maxConcurrency) {
+            this.dispatchExecutor = dispatchExecutor;
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        Builder batchSizes(Map<NotificationChannel, Integer> batchSizes) {
+            this.batchSizes = batchSizes;
+            return this;
+        }
+
+        Builder logWriter(NotificationLogWriter logWriter) {
+            this.logWriter = logWriter;
+            return this;
+        }
+
+        Builder retryScheduler(RetryScheduler retryScheduler) {
+            this.retryScheduler = retryScheduler;
+            return this;
+        }
+
+        NotificationServiceImpl build() {
+            return new NotificationServiceImpl(userRepository, notificationRepository, channelFactory,
+                    dispatchExecutor, maxConcurrency, batchSizes, logWriter, idGenerator, events, retryScheduler);
+        }
+    }
+
+    /**
+     * Feeds one channel's deliveries of a broadcast to that channel's executor, grouped into batches
+     * of the channel's configured size. Each channel is fed from its own single-threaded lane, so a
+     * saturated provider only holds back its own submissions and never the other channels. A feed
+     * submits one batch per turn and then queues up again behind the other broadcasts on the lane,
+     * so a small broadcast is not held back until a large one has been fed entirely.
+     */
+    private final class ChannelFeed implements Runnable {
+        private final NotificationChannel channel;
+        private final List<User> users;
+        private final int[] firstSlots;
+        private final Message message;
+        private final ObjIntConsumer<NotificationLogDto> sink;
+        private final Consumer<NotificationLogDto> retryOutcomes;
+        private final DispatchTracker tracker;
+        private final CompletableFuture<Integer> submitted = new CompletableFuture<>();
+        private int next;
+        private int count;
+
+        ChannelFeed(NotificationChannel channel, List<User> users, int[] firstSlots, Message message,
+                    ObjIntConsumer<NotificationLogDto> sink, Consumer<NotificationLogDto> retryOutcomes,
+                    DispatchTracker tracker) {
+            this.channel = channel;
+            this.users = users;
+            this.firstSlots = firstSlots;
+            this.message = message;
+            this.sink = sink;
+            this.retryOutcomes = retryOutcomes;
+            this.tracker = tracker;
+        }
+
+        void start() {
+            try {
+                lanes[channel.ordinal()].execute(this);
+            } catch (RejectedExecutionException e) {
+                tracker.fail(e);
+                submitted.complete(count);
+            }
+        }
+
+        @Override
+        public void run() {
+            Executor lane = lanes[channel.ordinal()];
+            try {
+                boolean more = feedBatch();
+                if (lane == CALLER_THREAD) {
+                    while (more) {
+                        more = feedBatch();
+                    }
+                } else if (more) {
+                    lane.execute(this);
+                    return;
+                }
+            } catch (RuntimeException e) {
+                tracker.fail(e);
+            }
+            submitted.complete(count);
+        }
+
+        /**
+         * Submits the next batch of recipients reachable over the channel.
+         *
+         * @return whether recipients are left to look at
+         */
+        private boolean feedBatch() {
+            int batchSize = batchSizes[channel.ordinal()];
+            List<User> batch = new ArrayList<>(batchSize);
+            int[] batchSlots = new int[batchSize];
+            while (next < users.size() && batch.size() < batchSize) {
+                User user = users.get(next);
+                int rank = user.channelRank(message.getCategory(), channel);
+                if (rank >= 0) {
+                    batchSlots[batch.size()] = firstSlots[next] + rank;
+                    batch.add(user);
+                }
+                next++;
+            }
+            if (!batch.isEmpty()) {
+                submitBatch(channel, batch, batchSlots, message, sink, retryOutcomes, tracker);
+                count += batch.size();
+            }
+            return next < users.size();
+        }
+    }
+
+    /**
+     * Retries of one channel that came due and wait for the channel's lane. The lane takes all of
+     * them at once, so retries due in the same tick travel together: grouped per message into
+     * batches of the channel's size and submitted like a broadcast's deliveries, through the
+     * channel's executor or the dispatch permits. Retries the service can no longer submit, because
+     * it is shutting down, are closed as failed.
+     */
+    private final class DueRetries implements Runnable {
+        private final NotificationChannel channel;
+        private final Queue<PendingRetry> due = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean queued = new AtomicBoolean();
+
+        DueRetries(NotificationChannel channel) {
+            this.channel = channel;
+        }
+
+        void add(PendingRetry retry) {
+            due.add(retry);
+            if (!queued.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                lanes[channel.ordinal()].execute(this);
+            } catch (RejectedExecutionException e) {
+                queued.set(false);
+                abandonAll(drain());
+            }
+        }
+
+        @Override
+        public void run() {
+            // Retries added from here on queue the lane again instead of being missed
+            queued.set(false);
+            Map<String, List<PendingRetry>> byMessage = new LinkedHashMap<>();
+            for (PendingRetry retry : drain()) {
+                byMessage.computeIfAbsent(retry.message().getId(), id -> new ArrayList<>()).add(retry);
+            }
+            int batchSize = batchSizes[channel.ordinal()];
+            for (List<PendingRetry> retries : byMessage.values()) {
+                for (int from = 0; from < retries.size(); from += batchSize) {
+                    submitRetries(retries.subList(from, Math.min(from + batchSize, retries.size())));
+                }
+            }
+        }
+
+        private List<PendingRetry> drain() {
+            List<PendingRetry> retries = new ArrayList<>();
+            PendingRetry retry;
+            while ((retry = due.poll()) != null) {
+                retries.add(retry);
+            }
+            return retries;
+        }
+
+        private void submitRetries(List<PendingRetry> retries) {
+            try {
+                submit(channel, () -> {
+                    if (retries.size() == 1) {
+                        retry(retries.get(0));
+                    } else {
+                        retryBatch(retries, retries.get(0).message(), channel);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                abandonAll(retries);
+            }
+        }
+
+        private void abandonAll(List<PendingRetry> retries) {
+            for (PendingRetry retry : retries) {
+                abandon(retry);
+            }
+        }
+    }
+
+    /**
+     * A delivery waiting for its next attempt; {@code attempt} and {@code lastResult} describe the
+     * attempt that failed, {@code retryOutcomes} takes the log of its last attempt.
+     */
+    private record PendingRetry(String logId, LocalDateTime sentAt, User user, Message message,
+                                NotificationChannel channel, NotificationResult lastResult, int attempt,
+                                Consumer<NotificationLogDto> retryOutcomes) {
+        int nextAttempt() {
+            return attempt + 1;
+        }
+    }
+
+    @FunctionalInterface
+    private interface AttemptRecorder {
+        NotificationLogDto record(int index, NotificationResult result);
+    }
+
+    /**
+     * Counts finished deliveries of one broadcast and keeps the first unexpected failure so it can be
+     * rethrown on the calling thread once everything has completed.
+     */
+    private static final class DispatchTracker {
+        private final Semaphore completed = new Semaphore(0);
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        void completed(int deliveries) {
+            completed.release(deliveries);
+        }
+
+        void fail(RuntimeException e) {
+            failure.compareAndSet(null, e);
+        }
+
+        void awaitCompletion(int deliveries) {
+            completed.acquireUninterruptibly(deliveries);
+            RuntimeException e = failure.get();
+            if (e != null) {
+                throw e;
+            }
+        }
+    }
 }
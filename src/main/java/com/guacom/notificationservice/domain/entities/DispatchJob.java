@@ -0,0 +1,109 @@
+package com.guacom.notificationservice.domain.entities;
+
+import com.guacom.notificationservice.domain.enums.DispatchJobStatus;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress of a message accepted for asynchronous dispatch. Delivery counters are updated
+ * concurrently by the dispatch threads and may be read at any time while the job runs.
+ * <p>
+ * A delivery handed to the retry engine counts as retrying until its last attempt, then moves to
+ * sent or failed. The job is only completed once the dispatch has finished and no delivery is
+ * retrying any more.
+ */
+public class DispatchJob {
+    private final String id;
+    private final MessageCategory category;
+    private final LocalDateTime acceptedAt;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    // Briefly negative when a retry settles before its first attempt was recorded
+    private final AtomicLong retrying = new AtomicLong();
+
+    private volatile DispatchJobStatus status;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile String errorMessage;
+    private volatile boolean dispatched;
+
+    public DispatchJob(String id, MessageCategory category) {
+        this.id = Objects.requireNonNull(id, "Job id cannot be null");
+        this.category = category;
+        this.acceptedAt = LocalDateTime.now();
+        this.status = DispatchJobStatus.QUEUED;
+    }
+
+    public void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = DispatchJobStatus.RUNNING;
+    }
+
+    /**
+     * Counts a delivery by its outcome when the dispatch got to it.
+     */
+    public void recordDelivery(NotificationStatus deliveryStatus) {
+        switch (deliveryStatus) {
+            case FAILED -> failed.increment();
+            case RETRYING -> retrying.incrementAndGet();
+            default -> sent.increment();
+        }
+    }
+
+    /**
+     * Moves a delivery recorded as retrying to the outcome of its last attempt, completing the job
+     * when it was the last one outstanding.
+     */
+    public void recordRetryOutcome(NotificationStatus deliveryStatus) {
+        if (deliveryStatus == NotificationStatus.FAILED) {
+            failed.increment();
+        } else {
+            sent.increment();
+        }
+        if (retrying.decrementAndGet() == 0) {
+            completeIfSettled();
+        }
+    }
+
+    /**
+     * Marks the dispatch as done; the job completes now, or with the last outstanding retry.
+     */
+    public void complete() {
+        this.dispatched = true;
+        completeIfSettled();
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+        this.status = DispatchJobStatus.FAILED;
+    }
+
+    private synchronized void completeIfSettled() {
+        if (dispatched && retrying.get() == 0 && status == DispatchJobStatus.RUNNING) {
+            this.completedAt = LocalDateTime.now();
+            this.status = DispatchJobStatus.COMPLETED;
+        }
+    }
+
+    public boolean isFinished() {
+        return status.isFinished();
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public MessageCategory getCategory() { return category; }
+    public DispatchJobStatus getStatus() { return status; }
+    public LocalDateTime getAcceptedAt() { return acceptedAt; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public String getErrorMessage() { return errorMessage; }
+    public long getSentCount() { return sent.sum(); }
+    public long getFailedCount() { return failed.sum(); }
+    public long getRetryingCount() { return Math.max(0, retrying.get()); }
+}
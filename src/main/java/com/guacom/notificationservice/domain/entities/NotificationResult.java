@@ -11,14 +11,21 @@ public class NotificationResult {
     private final String externalMessageId;
     private final String errorMessage;
     private final LocalDateTime timestamp;
+    private final boolean retryable;
 
     private NotificationResult(boolean success, NotificationStatus status,
                                String externalMessageId, String errorMessage) {
+        this(success, status, externalMessageId, errorMessage, false);
+    }
+
+    private NotificationResult(boolean success, NotificationStatus status,
+                               String externalMessageId, String errorMessage, boolean retryable) {
         this.success = success;
         this.status = Objects.requireNonNull(status, "Status cannot be null");
         this.externalMessageId = externalMessageId;
         this.errorMessage = errorMessage;
         this.timestamp = LocalDateTime.now();
+        this.retryable = retryable;
     }
 
     public static NotificationResult success(String externalMessageId) {
@@ -33,6 +40,14 @@ public class NotificationResult {
         return new NotificationResult(false, NotificationStatus.FAILED, null, errorMessage);
     }
 
+    /**
+     * A failure that may not happen again, such as a provider being unreachable, so the delivery
+     * is worth another attempt.
+     */
+    public static NotificationResult retryableFailure(String errorMessage) {
+        return new NotificationResult(false, NotificationStatus.FAILED, null, errorMessage, true);
+    }
+
     public static NotificationResult pending() {
         return new NotificationResult(false, NotificationStatus.PENDING, null, null);
     }
@@ -43,10 +58,11 @@ public class NotificationResult {
     public String getExternalMessageId() { return externalMessageId; }
     public String getErrorMessage() { return errorMessage; }
     public LocalDateTime getTimestamp() { return timestamp; }
+    public boolean isRetryable() { return retryable; }
 
     @Override
     public String toString() {
-        return String.format("NotificationResult{success=%s, status=%s, externalId='%s', error='%s'}",
-                success, status, externalMessageId, errorMessage);
+        return String.format("NotificationResult{success=%s, status=%s, externalId='%s', error='%s', retryable=%s}",
+                success, status, externalMessageId, errorMessage, retryable);
     }
 }
@@ -0,0 +1,59 @@
+package com.guacom.notificationservice.domain.entities;
+
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.ScheduledMessageStatus;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A message held back until {@code sendAt}. It leaves the {@code SCHEDULED} status exactly once,
+ * either released for dispatch or cancelled, whichever gets there first.
+ */
+public class ScheduledMessage {
+    private final String id;
+    private final MessageCategory category;
+    private final String content;
+    private final LocalDateTime sendAt;
+    private final LocalDateTime acceptedAt;
+    private final AtomicReference<ScheduledMessageStatus> status =
+            new AtomicReference<>(ScheduledMessageStatus.SCHEDULED);
+
+    public ScheduledMessage(String id, MessageCategory category, String content,
+                            LocalDateTime sendAt, LocalDateTime acceptedAt) {
+        this.id = Objects.requireNonNull(id, "Message id cannot be null");
+        this.category = category;
+        this.content = content;
+        this.sendAt = Objects.requireNonNull(sendAt, "Send time cannot be null");
+        this.acceptedAt = acceptedAt;
+    }
+
+    public boolean release() {
+        return status.compareAndSet(ScheduledMessageStatus.SCHEDULED, ScheduledMessageStatus.RELEASED);
+    }
+
+    public boolean cancel() {
+        return status.compareAndSet(ScheduledMessageStatus.SCHEDULED, ScheduledMessageStatus.CANCELLED);
+    }
+
+    public boolean isPending() {
+        return status.get() == ScheduledMessageStatus.SCHEDULED;
+    }
+
+    public Message toMessage() {
+        return Message.builder()
+                .id(id)
+                .category(category)
+                .content(content)
+                .build();
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public MessageCategory getCategory() { return category; }
+    public String getContent() { return content; }
+    public LocalDateTime getSendAt() { return sendAt; }
+    public LocalDateTime getAcceptedAt() { return acceptedAt; }
+    public ScheduledMessageStatus getStatus() { return status.get(); }
+}
@@ -2,34 +2,174 @@ package com.guacom.notificationservice.domain.entities;
 
 import com.guacom.notificationservice.domain.enums.MessageCategory;
 import com.guacom.notificationservice.domain.enums.NotificationChannel;
-import lombok.AllArgsConstructor;
+import com.guacom.notificationservice.domain.validation.ContactFormat;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Subscriptions and channel preferences are kept as enum bitmasks (bit = ordinal), plus the
+ * preference order of the channels packed four bits per channel. The list based accessors are
+ * kept for callers and are built on demand.
+ * <p>
+ * Contact details are normalized by {@link ContactFormat} and validated when they are assigned, and
+ * the outcome is kept as one bit per channel, so channels compare and send them as they are and
+ * check a recipient without parsing anything.
+ */
 @Data
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class User {
+    private static final MessageCategory[] CATEGORIES = MessageCategory.values();
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+    private static final int ORDER_BITS = 4;
+
     private String id;
     private String name;
     private String email;
     private String phoneNumber;
-    private List<MessageCategory> subscribedCategories;
-    private List<NotificationChannel> preferredChannels;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int categoryMask;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int channelMask;
+
+    // Distinct preferred channels in preference order, each stored as (ordinal + 1) in one nibble
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long channelOrder;
+
+    // Channels whose contact detail (email, phone number, user id for push) is well formed
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int validContactMask;
+
+    @Builder
+    public User(String id, String name, String email, String phoneNumber,
+                List<MessageCategory> subscribedCategories, List<NotificationChannel> preferredChannels) {
+        this.name = name;
+        setId(id);
+        setEmail(email);
+        setPhoneNumber(phoneNumber);
+        setSubscribedCategories(subscribedCategories);
+        setPreferredChannels(preferredChannels);
+    }
+
+    public void setId(String id) {
+        this.id = id;
+        markValidContact(NotificationChannel.PUSH, id != null && !id.trim().isEmpty());
+    }
+
+    public void setEmail(String email) {
+        this.email = ContactFormat.normalizeEmail(email);
+        markValidContact(NotificationChannel.EMAIL, ContactFormat.isValidEmail(this.email));
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = ContactFormat.normalizePhone(phoneNumber);
+        markValidContact(NotificationChannel.SMS, ContactFormat.isValidPhone(this.phoneNumber));
+    }
+
+    public List<MessageCategory> getSubscribedCategories() {
+        List<MessageCategory> categories = new ArrayList<>(Integer.bitCount(categoryMask));
+        for (MessageCategory category : CATEGORIES) {
+            if (isSubscribedToCategory(category)) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
+    public void setSubscribedCategories(List<MessageCategory> subscribedCategories) {
+        int mask = 0;
+        if (subscribedCategories != null) {
+            for (MessageCategory category : subscribedCategories) {
+                mask |= 1 << category.ordinal();
+            }
+        }
+        this.categoryMask = mask;
+    }
+
+    public List<NotificationChannel> getPreferredChannels() {
+        List<NotificationChannel> channels = new ArrayList<>(Integer.bitCount(channelMask));
+        for (long order = channelOrder; order != 0; order >>>= ORDER_BITS) {
+            channels.add(CHANNELS[(int) (order & 0xF) - 1]);
+        }
+        return channels;
+    }
+
+    /**
+     * Repeated channels are kept once, at their first position.
+     */
+    public void setPreferredChannels(List<NotificationChannel> preferredChannels) {
+        int mask = 0;
+        long order = 0;
+        int shift = 0;
+        if (preferredChannels != null) {
+            for (NotificationChannel channel : preferredChannels) {
+                int bit = 1 << channel.ordinal();
+                if ((mask & bit) == 0) {
+                    mask |= bit;
+                    order |= (long) (channel.ordinal() + 1) << shift;
+                    shift += ORDER_BITS;
+                }
+            }
+        }
+        this.channelMask = mask;
+        this.channelOrder = order;
+    }
 
     public boolean isSubscribedToCategory(MessageCategory category) {
-        return subscribedCategories.contains(category);
+        return (categoryMask & (1 << category.ordinal())) != 0;
     }
 
     public boolean hasPreferredChannel(NotificationChannel channel) {
-        return preferredChannels.contains(channel);
+        return (channelMask & (1 << channel.ordinal())) != 0;
+    }
+
+    /**
+     * Whether the contact detail {@code channel} delivers to is well formed.
+     */
+    public boolean hasValidContact(NotificationChannel channel) {
+        return (validContactMask & (1 << channel.ordinal())) != 0;
     }
 
     public boolean canReceiveNotification(MessageCategory category, NotificationChannel channel) {
         return isSubscribedToCategory(category) && hasPreferredChannel(channel);
     }
-}
\ No newline at end of file
+
+    private void markValidContact(NotificationChannel channel, boolean valid) {
+        int bit = 1 << channel.ordinal();
+        validContactMask = valid ? validContactMask | bit : validContactMask & ~bit;
+    }
+
+    /**
+     * Number of distinct channels the user can be notified through for {@code category}.
+     */
+    public int countReachableChannels(MessageCategory category) {
+        return isSubscribedToCategory(category) ? Integer.bitCount(channelMask) : 0;
+    }
+
+    /**
+     * Position of {@code channel} among the user's distinct preferred channels, or -1 when the
+     * user should not be notified through it for {@code category}.
+     */
+    public int channelRank(MessageCategory category, NotificationChannel channel) {
+        if (!canReceiveNotification(category, channel)) {
+            return -1;
+        }
+        int rank = 0;
+        for (long order = channelOrder; (order & 0xF) != channel.ordinal() + 1; order >>>= ORDER_BITS) {
+            rank++;
+        }
+        return rank;
+    }
+}
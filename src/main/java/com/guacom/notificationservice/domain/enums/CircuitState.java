@@ -0,0 +1,11 @@
+package com.guacom.notificationservice.domain.enums;
+
+/**
+ * State of a channel's circuit breaker: CLOSED lets every call through, OPEN fails them without
+ * calling the provider, HALF_OPEN lets a few trial calls decide whether the provider is back.
+ */
+public enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
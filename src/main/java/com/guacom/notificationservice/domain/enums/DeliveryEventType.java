@@ -0,0 +1,28 @@
+package com.guacom.notificationservice.domain.enums;
+
+import lombok.Getter;
+
+/**
+ * Steps of a broadcast recorded in the delivery event journal. Failures are reported at a higher
+ * level than the other events.
+ */
+@Getter
+public enum DeliveryEventType {
+    AUDIENCE_RESOLVED(false),
+    BROADCAST_COMPLETED(false),
+    DELIVERY_ATTEMPTED(false),
+    BATCH_ATTEMPTED(false),
+    PROVIDER_ACCEPTED(false),
+    PROVIDER_BATCH_ACCEPTED(false),
+    PROVIDER_FAILED(true),
+    NOTIFICATION_SENT(false),
+    NOTIFICATION_FAILED(true),
+    RETRY_SCHEDULED(false),
+    BATCH_FAILED(true);
+
+    private final boolean failure;
+
+    DeliveryEventType(boolean failure) {
+        this.failure = failure;
+    }
+}
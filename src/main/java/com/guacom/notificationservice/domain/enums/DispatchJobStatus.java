@@ -0,0 +1,26 @@
+package com.guacom.notificationservice.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum DispatchJobStatus {
+    QUEUED("Queued"),
+    RUNNING("Running"),
+    COMPLETED("Completed"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    DispatchJobStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,21 @@
+package com.guacom.notificationservice.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ScheduledMessageStatus {
+    SCHEDULED("Scheduled"),
+    RELEASED("Released"),
+    CANCELLED("Cancelled");
+
+    private final String displayName;
+
+    ScheduledMessageStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,7 @@
+package com.guacom.notificationservice.domain.exceptions;
+
+public class ResourceNotFoundException extends NotificationException {
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
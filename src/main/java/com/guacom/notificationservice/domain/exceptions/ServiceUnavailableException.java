@@ -0,0 +1,11 @@
+package com.guacom.notificationservice.domain.exceptions;
+
+public class ServiceUnavailableException extends NotificationException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,6 +2,17 @@ package com.guacom.notificationservice.domain.interfaces;
 
 import com.guacom.notificationservice.domain.enums.NotificationChannel;
 
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
 public interface ChannelFactory {
     NotificationChannelStrategy getNotificationChannelStrategy(NotificationChannel channel);
+
+    /**
+     * Executor dedicated to deliveries over {@code channel}, if the channel is isolated in its own
+     * worker pool. Its {@code execute} blocks while the pool is saturated.
+     */
+    default Optional<Executor> getChannelExecutor(NotificationChannel channel) {
+        return Optional.empty();
+    }
 }
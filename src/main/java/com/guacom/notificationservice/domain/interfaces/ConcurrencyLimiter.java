@@ -0,0 +1,23 @@
+package com.guacom.notificationservice.domain.interfaces;
+
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+
+/**
+ * Bounds the provider calls in flight per channel. Every {@link #acquire} must be followed by one
+ * {@link #release}, which also reports how the call went so implementations can adapt the bound.
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * Waits until a provider call over {@code channel} may start.
+     *
+     * @return the start time of the call, in {@link System#nanoTime()} units, to pass to {@link #release}
+     */
+    long acquire(NotificationChannel channel);
+
+    /**
+     * @param recipients number of recipients the call covered, 1 unless it was a batch
+     * @param overloaded the call failed in a way that may mean the provider is overloaded
+     */
+    void release(NotificationChannel channel, long startedAt, int recipients, boolean overloaded);
+}
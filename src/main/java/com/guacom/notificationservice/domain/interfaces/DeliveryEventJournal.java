@@ -0,0 +1,23 @@
+package com.guacom.notificationservice.domain.interfaces;
+
+import com.guacom.notificationservice.domain.enums.DeliveryEventType;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+
+/**
+ * Structured record of what happened to a broadcast. Callers pass the raw fields, never a
+ * formatted line: implementations may drop or sample events, and format the ones they keep later
+ * on another thread.
+ */
+@FunctionalInterface
+public interface DeliveryEventJournal {
+
+    /**
+     * @param messageId message being delivered, or null
+     * @param channel   channel involved, or null for events about the whole broadcast
+     * @param userId    recipient, or null for events about several recipients
+     * @param count     number of recipients or notifications the event covers
+     * @param detail    external message id, error message or any other detail, or null
+     */
+    void record(DeliveryEventType type, String messageId, NotificationChannel channel, String userId,
+                int count, String detail);
+}
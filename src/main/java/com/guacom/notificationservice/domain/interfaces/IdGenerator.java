@@ -0,0 +1,10 @@
+package com.guacom.notificationservice.domain.interfaces;
+
+/**
+ * Source of unique ids for messages, notification logs and provider message ids. Ids sort by
+ * creation time, as strings, so they can order history entries.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+    String nextId();
+}
@@ -0,0 +1,10 @@
+package com.guacom.notificationservice.domain.interfaces;
+
+import com.guacom.notificationservice.application.dto.DispatchJobDto;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+
+public interface MessageDispatchService {
+    DispatchJobDto submit(MessageCategory category, String content);
+
+    DispatchJobDto getJob(String jobId);
+}
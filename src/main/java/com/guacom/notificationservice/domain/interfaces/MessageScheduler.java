@@ -0,0 +1,28 @@
+package com.guacom.notificationservice.domain.interfaces;
+
+import com.guacom.notificationservice.application.dto.ScheduledMessageDto;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Holds messages until their send time and then releases them into
+ * {@link MessageService#processMessage}. Scheduled messages survive a restart.
+ */
+public interface MessageScheduler {
+
+    /**
+     * Validates and durably stores the message; a {@code sendAt} in the past is released right away.
+     */
+    ScheduledMessageDto schedule(MessageCategory category, String content, LocalDateTime sendAt);
+
+    /**
+     * Messages still waiting to be released, the earliest {@code sendAt} first.
+     */
+    List<ScheduledMessageDto> getScheduled(int limit);
+
+    ScheduledMessageDto getScheduled(String messageId);
+
+    ScheduledMessageDto cancel(String messageId);
+}
@@ -1,10 +1,19 @@
 package com.guacom.notificationservice.domain.interfaces;
 
 import com.guacom.notificationservice.application.dto.NotificationLogDto;
+import com.guacom.notificationservice.domain.entities.Message;
 import com.guacom.notificationservice.domain.enums.MessageCategory;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MessageService {
+    Message createMessage(MessageCategory category, String content);
+
     List<NotificationLogDto> processMessage(MessageCategory category, String content);
+
+    void processMessage(Message message, Consumer<NotificationLogDto> listener);
+
+    void processMessage(Message message, Consumer<NotificationLogDto> listener,
+                        Consumer<NotificationLogDto> retryOutcomes);
 }
@@ -5,9 +5,23 @@ import com.guacom.notificationservice.domain.entities.NotificationResult;
 import com.guacom.notificationservice.domain.entities.User;
 import com.guacom.notificationservice.domain.enums.NotificationChannel;
 
+import java.util.List;
+
 public interface NotificationChannelStrategy {
     NotificationChannel getChannelType();
     NotificationResult sendNotification(User user, Message message);
+
+    /**
+     * Sends the message to several recipients at once. Returns one result per recipient, in the
+     * order of {@code users}. Channels whose provider has a bulk endpoint override this; the default
+     * sends to each recipient in turn.
+     */
+    default List<NotificationResult> sendBatch(List<User> users, Message message) {
+        return users.stream()
+                .map(user -> sendNotification(user, message))
+                .toList();
+    }
+
     boolean validateRecipient(User user);
     String formatMessage(Message message, User user);
 }
@@ -0,0 +1,12 @@
+package com.guacom.notificationservice.domain.interfaces;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+
+/**
+ * Where the dispatcher hands finished notification logs. Implementations may persist them later,
+ * so a log is not necessarily visible in the repository when {@link #write} returns.
+ */
+@FunctionalInterface
+public interface NotificationLogWriter {
+    void write(NotificationLog log);
+}
@@ -1,17 +1,28 @@
 package com.guacom.notificationservice.domain.interfaces;
 
 import com.guacom.notificationservice.domain.entities.NotificationLog;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface NotificationRepository {
     void save(NotificationLog log);
 
+    default void saveAll(List<NotificationLog> logs) {
+        logs.forEach(this::save);
+    }
+
     Optional<NotificationLog> findById(String id);
 
     List<NotificationLog> findAll();
 
     List<NotificationLog> findAllOrderByCreatedDateDesc();
 
+    /**
+     * Up to {@code limit} logs, newest first, that come strictly after the log identified by
+     * ({@code afterSentAt}, {@code afterId}) in that order; from the newest log when both are null.
+     */
+    List<NotificationLog> findPageOrderByCreatedDateDesc(LocalDateTime afterSentAt, String afterId, int limit);
+
     List<NotificationLog> findByUserId(String userId);
 }
@@ -1,13 +1,25 @@
 package com.guacom.notificationservice.domain.interfaces;
 
+import com.guacom.notificationservice.application.dto.NotificationHistoryPageDto;
 import com.guacom.notificationservice.application.dto.NotificationLogDto;
 import com.guacom.notificationservice.domain.entities.Message;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface NotificationService {
 
-    List<NotificationLogDto> getNotificationHistory();
+    NotificationHistoryPageDto getNotificationHistory(String cursor, int limit);
 
     List<NotificationLogDto> sendNotifications(Message message);
+
+    void sendNotifications(Message message, Consumer<NotificationLogDto> listener);
+
+    /**
+     * Like {@link #sendNotifications(Message, Consumer)}, and also hands {@code retryOutcomes} the
+     * final log, SENT or FAILED, of every delivery {@code listener} saw as RETRYING once its last
+     * attempt is over, usually after this method has returned.
+     */
+    void sendNotifications(Message message, Consumer<NotificationLogDto> listener,
+                           Consumer<NotificationLogDto> retryOutcomes);
 }
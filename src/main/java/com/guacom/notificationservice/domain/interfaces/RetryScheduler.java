@@ -0,0 +1,24 @@
+package com.guacom.notificationservice.domain.interfaces;
+
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+
+/**
+ * Decides whether, and when, a delivery that failed for a transient reason is attempted again, and
+ * runs the retry once its time has come.
+ */
+public interface RetryScheduler {
+
+    /**
+     * Delay before attempt number {@code attempt} of a delivery over {@code channel}, where the
+     * first retry is attempt 2, or -1 when the channel allows no further attempt or the scheduler
+     * no longer takes retries.
+     */
+    long backoffMillis(NotificationChannel channel, int attempt);
+
+    /**
+     * Runs {@code retry} on another thread once {@code delayMillis} have passed. When the scheduler
+     * stops before then, or has already stopped, it runs {@code abandon} instead, so the delivery
+     * can be closed as failed rather than left waiting for a retry that never comes.
+     */
+    void schedule(long delayMillis, Runnable retry, Runnable abandon);
+}
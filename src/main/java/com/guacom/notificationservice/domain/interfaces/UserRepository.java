@@ -2,6 +2,7 @@ package com.guacom.notificationservice.domain.interfaces;
 
 import com.guacom.notificationservice.domain.entities.User;
 import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,12 @@ public interface UserRepository {
 
     List<User> findBySubscribedCategory(MessageCategory category);
 
+    default List<User> findBySubscribedCategoryAndChannel(MessageCategory category, NotificationChannel channel) {
+        return findBySubscribedCategory(category).stream()
+                .filter(user -> user.canReceiveNotification(category, channel))
+                .toList();
+    }
+
     void save(User user);
 
     void deleteById(String id);
@@ -0,0 +1,146 @@
+package com.guacom.notificationservice.domain.validation;
+
+import java.util.Locale;
+
+/**
+ * Hand-written scanners for recipient email addresses and phone numbers. They accept exactly what
+ * the former patterns accepted, after trimming:
+ * <pre>
+ * email  ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$
+ * phone  ^\+?[0-9\s\-\(\)]{10,}$
+ * </pre>
+ * Validation walks the characters in place and allocates nothing.
+ */
+public final class ContactFormat {
+    private static final int MIN_PHONE_CHARACTERS = 10;
+    // A shorter E.164 number would fall below MIN_PHONE_CHARACTERS once its separators are gone
+    private static final int MIN_E164_DIGITS = MIN_PHONE_CHARACTERS;
+    private static final int MAX_E164_DIGITS = 15;
+
+    private ContactFormat() {
+    }
+
+    public static boolean isValidEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        int start = trimStart(email);
+        int end = trimEnd(email, start);
+
+        int at = start;
+        while (at < end && isLocalChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == start || at == end || email.charAt(at) != '@') {
+            return false;
+        }
+
+        int lastDot = -1;
+        for (int i = at + 1; i < end; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isDomainChar(c)) {
+                return false;
+            }
+        }
+        // At least one domain character before the last dot and two letters after it
+        if (lastDot <= at + 1 || end - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < end; i++) {
+            if (!isLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isValidPhone(String phone) {
+        if (phone == null) {
+            return false;
+        }
+        int start = trimStart(phone);
+        int end = trimEnd(phone, start);
+        int first = start < end && phone.charAt(start) == '+' ? start + 1 : start;
+
+        for (int i = first; i < end; i++) {
+            char c = phone.charAt(i);
+            if (!isDigit(c) && !isPhoneSeparator(c)) {
+                return false;
+            }
+        }
+        return end - first >= MIN_PHONE_CHARACTERS;
+    }
+
+    /**
+     * Trimmed and lower-cased; invalid addresses are returned unchanged.
+     */
+    public static String normalizeEmail(String email) {
+        return isValidEmail(email) ? email.trim().toLowerCase(Locale.ROOT) : email;
+    }
+
+    /**
+     * International numbers ({@code +} or {@code 00} prefix) become E.164: {@code +}, a country code
+     * that does not start with 0, and 10 to 15 digits in all, with separators dropped. Anything else
+     * is only trimmed, so the stored number never stops being valid, and invalid numbers are
+     * returned unchanged.
+     */
+    public static String normalizePhone(String phone) {
+        if (!isValidPhone(phone)) {
+            return phone;
+        }
+        String trimmed = phone.trim();
+        if (!trimmed.startsWith("+") && !trimmed.startsWith("00")) {
+            return trimmed;
+        }
+        StringBuilder e164 = new StringBuilder(trimmed.length()).append('+');
+        int first = trimmed.startsWith("+") ? 1 : 2;
+        for (int i = first; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (isDigit(c)) {
+                e164.append(c);
+            }
+        }
+        int digits = e164.length() - 1;
+        boolean countryCode = digits > 0 && e164.charAt(1) != '0';
+        return countryCode && digits >= MIN_E164_DIGITS && digits <= MAX_E164_DIGITS ? e164.toString() : trimmed;
+    }
+
+    private static int trimStart(String value) {
+        int start = 0;
+        while (start < value.length() && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String value, int start) {
+        int end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '.' || c == '-';
+    }
+
+    private static boolean isPhoneSeparator(char c) {
+        // \s in java.util.regex: space, \t, \n, \u000B, \f, \r
+        return c == ' ' || (c >= '\t' && c <= '\r') || c == '-' || c == '(' || c == ')';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
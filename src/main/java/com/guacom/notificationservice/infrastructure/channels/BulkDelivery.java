@@ -0,0 +1,86 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.entities.NotificationResult;
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.DeliveryEventType;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.interfaces.DeliveryEventJournal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * What the strategies' {@code sendBatch} have in common: recipients that fail validation are failed
+ * on their own, the others go to the provider in one bulk call, and a failed call fails them all as
+ * retryable. Results come back in the order of the recipients.
+ */
+final class BulkDelivery {
+    private final NotificationChannel channel;
+    private final DeliveryEventJournal events;
+    private final String invalidRecipientError;
+    private final String failurePrefix;
+
+    /**
+     * @param failurePrefix put before the provider's error in the result of every recipient of a
+     *                      failed call
+     */
+    BulkDelivery(NotificationChannel channel, DeliveryEventJournal events, String invalidRecipientError,
+                 String failurePrefix) {
+        this.channel = channel;
+        this.events = events;
+        this.invalidRecipientError = invalidRecipientError;
+        this.failurePrefix = failurePrefix;
+    }
+
+    /**
+     * @param contact  the address the provider delivers to, per valid recipient
+     * @param provider the bulk call, returning one external message id per contact
+     */
+    List<NotificationResult> send(List<User> users, Message message, Predicate<User> validRecipient,
+                                  Function<User, String> contact, Provider provider) {
+        NotificationResult[] results = new NotificationResult[users.size()];
+        List<Integer> accepted = new ArrayList<>(users.size());
+        List<User> recipients = new ArrayList<>(users.size());
+        List<String> contacts = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            if (!validRecipient.test(user)) {
+                results[i] = NotificationResult.failure(invalidRecipientError);
+                continue;
+            }
+            accepted.add(i);
+            recipients.add(user);
+            contacts.add(contact.apply(user));
+        }
+
+        try {
+            if (!accepted.isEmpty()) {
+                List<String> externalMessageIds = provider.send(contacts, recipients);
+                events.record(DeliveryEventType.PROVIDER_BATCH_ACCEPTED, message.getId(), channel, null,
+                        accepted.size(), null);
+                for (int i = 0; i < accepted.size(); i++) {
+                    results[accepted.get(i)] = NotificationResult.success(externalMessageIds.get(i));
+                }
+            }
+        } catch (Exception e) {
+            events.record(DeliveryEventType.PROVIDER_FAILED, message.getId(), channel, null,
+                    accepted.size(), e.getMessage());
+            for (int index : accepted) {
+                results[index] = NotificationResult.retryableFailure(failurePrefix + e.getMessage());
+            }
+        }
+
+        return List.of(results);
+    }
+
+    @FunctionalInterface
+    interface Provider {
+        /**
+         * @param recipients the valid recipients, in the order of {@code contacts}
+         */
+        List<String> send(List<String> contacts, List<User> recipients);
+    }
+}
@@ -0,0 +1,84 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker pool isolating the deliveries of one channel. At most {@code maxConcurrency}
+ * deliveries run at once and at most {@code queueCapacity} wait behind them; once both are taken,
+ * {@link #execute} blocks the submitting thread until a slot frees up.
+ */
+public class ChannelBulkhead implements Executor {
+    private final NotificationChannel channel;
+    private final ThreadPoolExecutor workers;
+    private final Semaphore capacity;
+
+    public ChannelBulkhead(NotificationChannel channel, int maxConcurrency, int queueCapacity) {
+        if (maxConcurrency < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid bulkhead for %s: maxConcurrency=%d, queueCapacity=%d",
+                    channel, maxConcurrency, queueCapacity));
+        }
+        this.channel = channel;
+        this.capacity = new Semaphore(maxConcurrency + queueCapacity);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        String threadPrefix = "notification-" + channel.name().toLowerCase() + "-";
+        // The semaphore bounds the queue; the queue itself is unbounded so it never rejects a task
+        // whose permit was released by a worker that has not yet polled for the next one.
+        this.workers = new ThreadPoolExecutor(
+                maxConcurrency,
+                maxConcurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadPrefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public void execute(Runnable delivery) {
+        capacity.acquireUninterruptibly();
+        try {
+            workers.execute(() -> {
+                try {
+                    delivery.run();
+                } finally {
+                    capacity.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    public int getActiveWorkers() {
+        return workers.getActiveCount();
+    }
+
+    public int getMaxConcurrency() {
+        return workers.getMaximumPoolSize();
+    }
+
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
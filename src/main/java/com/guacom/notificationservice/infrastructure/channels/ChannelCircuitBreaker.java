@@ -0,0 +1,223 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.enums.CircuitState;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Lock-free circuit breaker of one channel's provider.
+ * <p>
+ * The breaker is always in one immutable phase, swapped with compare-and-set. While CLOSED, the
+ * outcomes of the last {@code windowSize} calls sit in a ring; once it holds {@code minimumCalls}
+ * and the failure rate reaches the threshold the circuit opens. After {@code openDuration} the next
+ * call moves it to HALF_OPEN, which hands out {@code halfOpenCalls} permits: all of them succeeding
+ * closes the circuit with an empty window, any failure opens it again. Outcomes of calls permitted
+ * by an earlier phase are ignored.
+ */
+public class ChannelCircuitBreaker {
+    private static final Logger logger = Logger.getLogger(ChannelCircuitBreaker.class.getName());
+
+    private final NotificationChannel channel;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    private final AtomicReference<Phase> phase;
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public ChannelCircuitBreaker(NotificationChannel channel, NotificationProperties.CircuitBreaker settings) {
+        if (settings.getWindowSize() < 1
+                || settings.getMinimumCalls() < 1 || settings.getMinimumCalls() > settings.getWindowSize()
+                || settings.getFailureRateThreshold() < 1 || settings.getFailureRateThreshold() > 100
+                || settings.getOpenDuration().isNegative()
+                || settings.getHalfOpenCalls() < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid circuit breaker for %s: windowSize=%d, minimumCalls=%d, failureRateThreshold=%d, "
+                            + "openDuration=%s, halfOpenCalls=%d",
+                    channel, settings.getWindowSize(), settings.getMinimumCalls(), settings.getFailureRateThreshold(),
+                    settings.getOpenDuration(), settings.getHalfOpenCalls()));
+        }
+        this.channel = channel;
+        this.windowSize = settings.getWindowSize();
+        this.minimumCalls = settings.getMinimumCalls();
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.openDurationNanos = settings.getOpenDuration().toNanos();
+        this.halfOpenCalls = settings.getHalfOpenCalls();
+        this.phase = new AtomicReference<>(closed());
+    }
+
+    /**
+     * Permission to call the provider, to hand back with the outcome, or null when the circuit is
+     * open and the call must not be made.
+     */
+    Phase tryAcquire() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return current;
+                case OPEN:
+                    if (System.nanoTime() - current.since < openDurationNanos) {
+                        rejectedCalls.increment();
+                        return null;
+                    }
+                    if (transition(current, halfOpen())) {
+                        logger.info(String.format("Circuit breaker of %s half-open, letting %d trial calls through",
+                                channel, halfOpenCalls));
+                    }
+                    break;
+                default:
+                    int permits;
+                    do {
+                        permits = current.permits.get();
+                        if (permits <= 0) {
+                            rejectedCalls.increment();
+                            return null;
+                        }
+                    } while (!current.permits.compareAndSet(permits, permits - 1));
+                    return current;
+            }
+        }
+    }
+
+    void onSuccess(Phase permit) {
+        if (permit.state == CircuitState.CLOSED) {
+            permit.window.record(false);
+        } else if (permit.successes.incrementAndGet() == halfOpenCalls && transition(permit, closed())) {
+            logger.info(String.format("Circuit breaker of %s closed, %d trial calls succeeded", channel, halfOpenCalls));
+        }
+    }
+
+    void onFailure(Phase permit) {
+        if (permit.state == CircuitState.CLOSED) {
+            int failures = permit.window.record(true);
+            int calls = permit.window.bufferedCalls();
+            if (calls >= minimumCalls && failures * 100L >= (long) failureRateThreshold * calls
+                    && transition(permit, open())) {
+                logger.warning(String.format("Circuit breaker of %s opened: %d of the last %d calls failed",
+                        channel, failures, calls));
+            }
+        } else if (transition(permit, open())) {
+            logger.warning(String.format("Circuit breaker of %s reopened, a trial call failed", channel));
+        }
+    }
+
+    /**
+     * The call said nothing about the provider's health, e.g. the recipient was invalid.
+     */
+    void onIgnored(Phase permit) {
+        if (permit.state == CircuitState.HALF_OPEN) {
+            permit.permits.incrementAndGet();
+        }
+    }
+
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    public CircuitState getState() {
+        return phase.get().state;
+    }
+
+    public LocalDateTime getStateSince() {
+        return phase.get().changedAt;
+    }
+
+    /**
+     * Failure rate of the calls in the window, in percent, or -1 while the circuit is not closed or
+     * the window holds fewer than {@code minimumCalls}.
+     */
+    public double getFailureRate() {
+        Phase current = phase.get();
+        if (current.state != CircuitState.CLOSED || current.window.bufferedCalls() < minimumCalls) {
+            return -1;
+        }
+        return current.window.failures.get() * 100.0 / current.window.bufferedCalls();
+    }
+
+    public int getBufferedCalls() {
+        Phase current = phase.get();
+        return current.state == CircuitState.CLOSED ? current.window.bufferedCalls() : 0;
+    }
+
+    public int getFailedCalls() {
+        Phase current = phase.get();
+        return current.state == CircuitState.CLOSED ? current.window.failures.get() : 0;
+    }
+
+    /**
+     * Calls failed without reaching the provider since startup.
+     */
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    private boolean transition(Phase from, Phase to) {
+        return phase.compareAndSet(from, to);
+    }
+
+    private Phase closed() {
+        return new Phase(CircuitState.CLOSED, new Window(windowSize), null);
+    }
+
+    private Phase open() {
+        return new Phase(CircuitState.OPEN, null, null);
+    }
+
+    private Phase halfOpen() {
+        return new Phase(CircuitState.HALF_OPEN, null, new AtomicInteger(halfOpenCalls));
+    }
+
+    static final class Phase {
+        final CircuitState state;
+        final long since = System.nanoTime();
+        final LocalDateTime changedAt = LocalDateTime.now();
+        final Window window;
+        final AtomicInteger permits;
+        final AtomicInteger successes = new AtomicInteger();
+
+        Phase(CircuitState state, Window window, AtomicInteger permits) {
+            this.state = state;
+            this.window = window;
+            this.permits = permits;
+        }
+    }
+
+    /**
+     * Ring of the last outcomes; a recorded call overwrites the oldest one and adjusts the failure
+     * count by the difference.
+     */
+    private static final class Window {
+        private static final int SUCCESS = 1;
+        private static final int FAILURE = 2;
+
+        final AtomicIntegerArray outcomes;
+        final AtomicLong calls = new AtomicLong();
+        final AtomicInteger failures = new AtomicInteger();
+
+        Window(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        int record(boolean failed) {
+            int slot = (int) (calls.getAndIncrement() % outcomes.length());
+            int previous = outcomes.getAndSet(slot, failed ? FAILURE : SUCCESS);
+            int delta = (failed ? 1 : 0) - (previous == FAILURE ? 1 : 0);
+            return delta == 0 ? failures.get() : failures.addAndGet(delta);
+        }
+
+        int bufferedCalls() {
+            return (int) Math.min(calls.get(), outcomes.length());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free token bucket pacing the provider calls of one channel.
+ * <p>
+ * The whole bucket is one timestamp: the time at which every permit handed out so far has been
+ * paid for at {@code permitsPerSecond}. A full bucket lies {@code burst} intervals in the past.
+ * Taking a permit moves the timestamp one interval forward with a single compare-and-set; when it
+ * ends up in the future the caller parks until then, so callers are released in order at exactly
+ * the configured rate and never spin.
+ */
+public class ChannelRateLimiter {
+    private final NotificationChannel channel;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long maxWaitNanos;
+
+    private final AtomicLong paidUntil;
+    private final LongAdder throttledCalls = new LongAdder();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public ChannelRateLimiter(NotificationChannel channel, NotificationProperties.RateLimit settings) {
+        if (!(settings.getPermitsPerSecond() > 0) || settings.getBurst() < 1 || settings.getMaxWait().isNegative()) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid rate limit for %s: permitsPerSecond=%s, burst=%d, maxWait=%s",
+                    channel, settings.getPermitsPerSecond(), settings.getBurst(), settings.getMaxWait()));
+        }
+        this.channel = channel;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / settings.getPermitsPerSecond()));
+        this.burstNanos = settings.getBurst() * intervalNanos;
+        this.maxWaitNanos = settings.getMaxWait().toNanos();
+        this.paidUntil = new AtomicLong(System.nanoTime() - burstNanos);
+    }
+
+    /**
+     * Takes one permit, parking the caller until it is due.
+     *
+     * @return false, without taking the permit, when it would not be due within {@code maxWait}
+     */
+    public boolean acquire() {
+        long now;
+        long due;
+        while (true) {
+            now = System.nanoTime();
+            long paid = paidUntil.get();
+            due = Math.max(paid, now - burstNanos) + intervalNanos;
+            if (due - now > maxWaitNanos) {
+                rejectedCalls.increment();
+                return false;
+            }
+            if (paidUntil.compareAndSet(paid, due)) {
+                break;
+            }
+        }
+
+        if (due - now > 0) {
+            throttledCalls.increment();
+            awaitPermit(due);
+        }
+        return true;
+    }
+
+    /**
+     * Parks until {@code due}. The permit is already taken, so an interrupt does not cut the wait
+     * short; it is only remembered for the caller.
+     */
+    private void awaitPermit(long due) {
+        boolean interrupted = false;
+        long remaining;
+        while ((remaining = due - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            interrupted |= Thread.interrupted();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Permits that could be taken right now without waiting.
+     */
+    public long getAvailablePermits() {
+        long idle = System.nanoTime() - paidUntil.get();
+        return Math.max(0, Math.min(burstNanos, idle) / intervalNanos);
+    }
+
+    /**
+     * Calls that had to wait for their permit since startup.
+     */
+    public long getThrottledCalls() {
+        return throttledCalls.sum();
+    }
+
+    /**
+     * Calls turned away because their permit was more than {@code maxWait} away, since startup.
+     */
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+}
@@ -3,19 +3,55 @@ package com.guacom.notificationservice.infrastructure.channels;
 import com.guacom.notificationservice.domain.entities.Message;
 import com.guacom.notificationservice.domain.entities.NotificationResult;
 import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.DeliveryEventType;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
 import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.interfaces.DeliveryEventJournal;
+import com.guacom.notificationservice.domain.interfaces.IdGenerator;
 import com.guacom.notificationservice.domain.interfaces.NotificationChannelStrategy;
+import com.guacom.notificationservice.infrastructure.events.AsyncDeliveryEventJournal;
+import com.guacom.notificationservice.infrastructure.ids.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
-import java.util.logging.Logger;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class EmailNotificationStrategy implements NotificationChannelStrategy {
-    private static final Logger logger = Logger.getLogger(EmailNotificationStrategy.class.getName());
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final DateTimeFormatter SENT_ON_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Map<MessageCategory, MessageTemplate> BODY_TEMPLATES = MessageTemplate.compilePerCategory("""
+            Dear {name},
+            
+            We have a new {category} update for you:
+            
+            {content}
+            
+            This message was sent on {sentOn}.
+            
+            Best regards,
+            Guacom Team
+            """);
+    private static final Map<MessageCategory, MessageTemplate> SUBJECT_TEMPLATES =
+            MessageTemplate.compilePerCategory("[{category}] New Update Available");
+
+    private final IdGenerator idGenerator;
+    private final DeliveryEventJournal events;
+    private final BulkDelivery bulk;
+    private final PerMessageCache<MessageTemplate> bodies = new PerMessageCache<>(EmailNotificationStrategy::prepareBody);
+
+    public EmailNotificationStrategy() {
+        this(SnowflakeIdGenerator.defaultInstance(), AsyncDeliveryEventJournal.synchronous());
+    }
+
+    @Autowired
+    public EmailNotificationStrategy(IdGenerator idGenerator, DeliveryEventJournal events) {
+        this.idGenerator = idGenerator;
+        this.events = events;
+        this.bulk = new BulkDelivery(NotificationChannel.EMAIL, events, "Invalid email address format", "Email delivery failed: ");
+    }
 
     @Override
     public NotificationChannel getChannelType() {
@@ -25,8 +61,6 @@ public class EmailNotificationStrategy implements NotificationChannelStrategy {
     @Override
     public NotificationResult sendNotification(User user, Message message) {
         try {
-            logger.info(String.format("Sending Email to user %s (%s)", user.getName(), user.getEmail()));
-
             if (!validateRecipient(user)) {
                 return NotificationResult.failure("Invalid email address format");
             }
@@ -35,58 +69,61 @@ public class EmailNotificationStrategy implements NotificationChannelStrategy {
             String body = formatMessage(message, user);
             String externalMessageId = simulateEmailDelivery(user.getEmail(), subject, body);
 
-            logger.info(String.format("Email sent successfully. External ID: %s", externalMessageId));
+            events.record(DeliveryEventType.PROVIDER_ACCEPTED, message.getId(), NotificationChannel.EMAIL, user.getId(), 1,
+                    externalMessageId);
             return NotificationResult.success(externalMessageId);
 
         } catch (Exception e) {
-            logger.severe(String.format("Failed to send email to %s: %s", user.getEmail(), e.getMessage()));
-            return NotificationResult.failure("Email delivery failed: " + e.getMessage());
+            events.record(DeliveryEventType.PROVIDER_FAILED, message.getId(), NotificationChannel.EMAIL, user.getId(), 1,
+                    e.getMessage());
+            return NotificationResult.retryableFailure("Email delivery failed: " + e.getMessage());
         }
     }
 
+    @Override
+    public List<NotificationResult> sendBatch(List<User> users, Message message) {
+        return bulk.send(users, message, this::validateRecipient, User::getEmail, (emails, recipients) -> {
+            List<String> bodies = new ArrayList<>(recipients.size());
+            for (User recipient : recipients) {
+                bodies.add(formatMessage(message, recipient));
+            }
+            return simulateBulkEmailDelivery(emails, generateSubject(message), bodies);
+        });
+    }
+
     @Override
     public boolean validateRecipient(User user) {
-        if (user.getEmail() == null || user.getEmail().trim().isEmpty()) {
-            return false;
-        }
-        return EMAIL_PATTERN.matcher(user.getEmail().trim()).matches();
+        // Validated when the email address was assigned to the user
+        return user.hasValidContact(NotificationChannel.EMAIL);
     }
 
     @Override
     public String formatMessage(Message message, User user) {
-        return String.format("""
-            Dear %s,
-            
-            We have a new %s update for you:
-            
-            %s
-            
-            This message was sent on %s.
-            
-            Best regards,
-            Guacom Team
-            """,
-                user.getName(),
-                message.getCategory().getDisplayName(),
-                message.getContent(),
-                message.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
-        );
+        return bodies.get(message).render(user);
     }
 
     private String generateSubject(Message message) {
-        return String.format("[%s] New Update Available", message.getCategory().getDisplayName());
+        return SUBJECT_TEMPLATES.get(message.getCategory()).render(null);
+    }
+
+    private static MessageTemplate prepareBody(Message message) {
+        return BODY_TEMPLATES.get(message.getCategory()).bind(Map.of(
+                "content", String.valueOf(message.getContent()),
+                "sentOn", message.getCreatedAt().format(SENT_ON_FORMAT)));
     }
 
     private String simulateEmailDelivery(String email, String subject, String body) {
-        String externalId = "EMAIL-" + UUID.randomUUID().toString().substring(0, 8);
+        // Simulate Email API call
+        return "EMAIL-" + idGenerator.nextId();
+    }
 
-        logger.info("📧 EMAIL SIMULATION 📧");
-        logger.info(String.format("To: %s", email));
-        logger.info(String.format("Subject: %s", subject));
-        logger.info(String.format("Body: %s", body.substring(0, Math.min(100, body.length())) + "..."));
-        logger.info(String.format("External ID: %s", externalId));
-        logger.info("Email delivered successfully (simulated)");
+    private List<String> simulateBulkEmailDelivery(List<String> emails, String subject, List<String> bodies) {
+        // Simulate a bulk Email API call
+        List<String> externalIds = new ArrayList<>(emails.size());
+        for (int i = 0; i < emails.size(); i++) {
+            externalIds.add("EMAIL-" + idGenerator.nextId());
+        }
 
-        return externalId;
+        return externalIds;
     }
 }
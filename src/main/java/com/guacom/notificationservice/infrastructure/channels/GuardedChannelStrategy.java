@@ -0,0 +1,161 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.entities.NotificationResult;
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.interfaces.ConcurrencyLimiter;
+import com.guacom.notificationservice.domain.interfaces.NotificationChannelStrategy;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Strategy guarded by its channel's circuit breaker, rate limiter and concurrency limiter, any of
+ * which may be null.
+ * <p>
+ * While the circuit is open, sends fail at once with a retryable result, so they are deferred to the
+ * retry engine without reaching the provider. Otherwise a send waits for its rate-limit permit on the
+ * calling thread; one that would wait too long fails the same way. Provider failures count against
+ * the circuit, while failures caused by the recipient or the rate limit do not count at all.
+ * <p>
+ * Only sends that pass both checks take a concurrency slot, held around the provider call alone, so
+ * the concurrency limit adapts to the provider's latency and errors, not to our own fast-fails or
+ * rate-limit waits.
+ */
+final class GuardedChannelStrategy implements NotificationChannelStrategy {
+    private final NotificationChannelStrategy delegate;
+    private final ChannelCircuitBreaker breaker;
+    private final ChannelRateLimiter limiter;
+    private final ConcurrencyLimiter concurrency;
+    private final NotificationResult circuitOpen;
+    private final NotificationResult rateLimited;
+
+    GuardedChannelStrategy(NotificationChannelStrategy delegate, ChannelCircuitBreaker breaker,
+                           ChannelRateLimiter limiter, ConcurrencyLimiter concurrency) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.limiter = limiter;
+        this.concurrency = concurrency;
+        this.circuitOpen = NotificationResult.retryableFailure(
+                String.format("%s circuit breaker is open, provider not called", delegate.getChannelType()));
+        this.rateLimited = NotificationResult.retryableFailure(
+                String.format("%s rate limit reached, provider not called", delegate.getChannelType()));
+    }
+
+    @Override
+    public NotificationChannel getChannelType() {
+        return delegate.getChannelType();
+    }
+
+    @Override
+    public NotificationResult sendNotification(User user, Message message) {
+        ChannelCircuitBreaker.Phase permit = breaker == null ? null : breaker.tryAcquire();
+        if (breaker != null && permit == null) {
+            return circuitOpen;
+        }
+        if (limiter != null && !limiter.acquire()) {
+            ignore(permit);
+            return rateLimited;
+        }
+        NotificationResult result;
+        long startedAt = acquireSlot();
+        boolean overloaded = true;
+        try {
+            result = delegate.sendNotification(user, message);
+            overloaded = !result.isSuccess() && result.isRetryable();
+        } catch (RuntimeException e) {
+            fail(permit);
+            throw e;
+        } finally {
+            releaseSlot(startedAt, 1, overloaded);
+        }
+        if (result.isSuccess()) {
+            succeed(permit);
+        } else if (result.isRetryable()) {
+            fail(permit);
+        } else {
+            ignore(permit);
+        }
+        return result;
+    }
+
+    /**
+     * One provider call, so one permit and one outcome: a success when any recipient was accepted,
+     * a failure when every recipient failed for a retryable reason.
+     */
+    @Override
+    public List<NotificationResult> sendBatch(List<User> users, Message message) {
+        ChannelCircuitBreaker.Phase permit = breaker == null ? null : breaker.tryAcquire();
+        if (breaker != null && permit == null) {
+            return Collections.nCopies(users.size(), circuitOpen);
+        }
+        if (limiter != null && !limiter.acquire()) {
+            ignore(permit);
+            return Collections.nCopies(users.size(), rateLimited);
+        }
+        List<NotificationResult> results;
+        long startedAt = acquireSlot();
+        boolean anySuccess = false;
+        boolean allRetryable = true;
+        try {
+            results = delegate.sendBatch(users, message);
+            allRetryable = !results.isEmpty();
+            for (NotificationResult result : results) {
+                anySuccess |= result.isSuccess();
+                allRetryable &= !result.isSuccess() && result.isRetryable();
+            }
+        } catch (RuntimeException e) {
+            fail(permit);
+            throw e;
+        } finally {
+            releaseSlot(startedAt, users.size(), allRetryable);
+        }
+        if (anySuccess) {
+            succeed(permit);
+        } else if (allRetryable) {
+            fail(permit);
+        } else {
+            ignore(permit);
+        }
+        return results;
+    }
+
+    @Override
+    public boolean validateRecipient(User user) {
+        return delegate.validateRecipient(user);
+    }
+
+    @Override
+    public String formatMessage(Message message, User user) {
+        return delegate.formatMessage(message, user);
+    }
+
+    private long acquireSlot() {
+        return concurrency == null ? 0 : concurrency.acquire(delegate.getChannelType());
+    }
+
+    private void releaseSlot(long startedAt, int recipients, boolean overloaded) {
+        if (concurrency != null) {
+            concurrency.release(delegate.getChannelType(), startedAt, recipients, overloaded);
+        }
+    }
+
+    private void succeed(ChannelCircuitBreaker.Phase permit) {
+        if (permit != null) {
+            breaker.onSuccess(permit);
+        }
+    }
+
+    private void fail(ChannelCircuitBreaker.Phase permit) {
+        if (permit != null) {
+            breaker.onFailure(permit);
+        }
+    }
+
+    private void ignore(ChannelCircuitBreaker.Phase permit) {
+        if (permit != null) {
+            breaker.onIgnored(permit);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Notification text compiled once into literal segments and {@code {placeholder}}s. Binding values
+ * merges them into the neighbouring literals, so a template bound per category and then per message
+ * is left with only the recipient's placeholders, and rendering it copies a few char arrays.
+ * <p>
+ * Placeholders still open at render time are filled from the user: {@code name}, {@code email}
+ * and {@code phone}. Values are written as {@link String#valueOf(Object)} would.
+ */
+final class MessageTemplate {
+    private static final String ELLIPSIS = "...";
+
+    // literals[i] comes before placeholders[i]; there is always one more literal than placeholders
+    private final String[] literals;
+    private final String[] placeholders;
+
+    private MessageTemplate(List<String> literals, List<String> placeholders) {
+        this.literals = literals.toArray(String[]::new);
+        this.placeholders = placeholders.toArray(String[]::new);
+    }
+
+    static MessageTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf('{', position)) >= 0) {
+            int close = source.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            literals.add(source.substring(position, open));
+            placeholders.add(source.substring(open + 1, close));
+            position = close + 1;
+        }
+        literals.add(source.substring(position));
+        return new MessageTemplate(literals, placeholders);
+    }
+
+    /**
+     * Compiles {@code source} once per category, with {@code {category}} bound to its display name.
+     */
+    static Map<MessageCategory, MessageTemplate> compilePerCategory(String source) {
+        MessageTemplate template = compile(source);
+        Map<MessageCategory, MessageTemplate> templates = new EnumMap<>(MessageCategory.class);
+        for (MessageCategory category : MessageCategory.values()) {
+            templates.put(category, template.bind(Map.of("category", category.getDisplayName())));
+        }
+        return templates;
+    }
+
+    /**
+     * Returns a template with the placeholders found in {@code values} replaced by their values.
+     */
+    MessageTemplate bind(Map<String, String> values) {
+        List<String> boundLiterals = new ArrayList<>(literals.length);
+        List<String> openPlaceholders = new ArrayList<>(placeholders.length);
+        StringBuilder literal = new StringBuilder(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            if (values.containsKey(placeholders[i])) {
+                literal.append(values.get(placeholders[i]));
+            } else {
+                boundLiterals.add(literal.toString());
+                openPlaceholders.add(placeholders[i]);
+                literal.setLength(0);
+            }
+            literal.append(literals[i + 1]);
+        }
+        boundLiterals.add(literal.toString());
+        return new MessageTemplate(boundLiterals, openPlaceholders);
+    }
+
+    String render(User user) {
+        return render(user, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Renders for {@code user}; text longer than {@code maxLength} is cut to {@code maxLength - 3}
+     * characters followed by "...".
+     */
+    String render(User user, int maxLength) {
+        String[] values = new String[placeholders.length];
+        long length = literals[0].length();
+        for (int i = 0; i < placeholders.length; i++) {
+            values[i] = userValue(user, placeholders[i]);
+            length += values[i].length() + literals[i + 1].length();
+        }
+
+        boolean truncated = length > maxLength;
+        int limit = truncated ? maxLength - ELLIPSIS.length() : (int) length;
+        char[] text = new char[truncated ? maxLength : limit];
+        int position = copy(literals[0], text, 0, limit);
+        for (int i = 0; i < placeholders.length && position < limit; i++) {
+            position = copy(values[i], text, position, limit);
+            position = copy(literals[i + 1], text, position, limit);
+        }
+        if (truncated) {
+            ELLIPSIS.getChars(0, ELLIPSIS.length(), text, limit);
+        }
+        return new String(text);
+    }
+
+    private static int copy(String value, char[] text, int position, int limit) {
+        int count = Math.min(value.length(), limit - position);
+        value.getChars(0, count, text, position);
+        return position + count;
+    }
+
+    private static String userValue(User user, String placeholder) {
+        return switch (placeholder) {
+            case "name" -> String.valueOf(user.getName());
+            case "email" -> String.valueOf(user.getEmail());
+            case "phone" -> String.valueOf(user.getPhoneNumber());
+            default -> throw new IllegalStateException("Placeholder {" + placeholder + "} was not bound");
+        };
+    }
+}
@@ -3,23 +3,66 @@ package com.guacom.notificationservice.infrastructure.channels;
 import com.guacom.notificationservice.domain.enums.NotificationChannel;
 import com.guacom.notificationservice.domain.exceptions.NotificationException;
 import com.guacom.notificationservice.domain.interfaces.ChannelFactory;
+import com.guacom.notificationservice.domain.interfaces.ConcurrencyLimiter;
 import com.guacom.notificationservice.domain.interfaces.NotificationChannelStrategy;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
 
 @Component
 public class NotificationChannelFactory implements ChannelFactory {
+    private static final Logger logger = Logger.getLogger(NotificationChannelFactory.class.getName());
+
     private final Map<NotificationChannel, NotificationChannelStrategy> strategies;
+    private final Map<NotificationChannel, ChannelBulkhead> bulkheads = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, ChannelCircuitBreaker> circuitBreakers = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, ChannelRateLimiter> rateLimiters = new EnumMap<>(NotificationChannel.class);
 
     public NotificationChannelFactory(List<NotificationChannelStrategy> channelStrategies) {
         this.strategies = new HashMap<>();
         channelStrategies.forEach(strategy -> strategies.put(strategy.getChannelType(), strategy));
     }
 
+    public NotificationChannelFactory(List<NotificationChannelStrategy> channelStrategies,
+                                      NotificationProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this(channelStrategies, properties, meterRegistry, null);
+    }
+
+    @Autowired
+    public NotificationChannelFactory(List<NotificationChannelStrategy> channelStrategies,
+                                      NotificationProperties properties,
+                                      MeterRegistry meterRegistry,
+                                      ConcurrencyLimiter concurrencyLimiter) {
+        this(channelStrategies);
+        strategies.replaceAll((channel, strategy) -> guard(channel, strategy, properties.getChannel(channel),
+                concurrencyLimiter, meterRegistry));
+        strategies.keySet().forEach(channel -> {
+            NotificationProperties.Bulkhead settings = properties.getChannel(channel).getBulkhead();
+            if (settings.isEnabled()) {
+                ChannelBulkhead bulkhead = new ChannelBulkhead(
+                        channel, settings.getMaxConcurrency(), settings.getQueueCapacity());
+                bindMetrics(bulkhead, meterRegistry);
+                bulkheads.put(channel, bulkhead);
+                logger.info(String.format("Bulkhead for %s: %d workers, queue capacity %d",
+                        channel, settings.getMaxConcurrency(), settings.getQueueCapacity()));
+            }
+        });
+    }
+
     public NotificationChannelStrategy getNotificationChannelStrategy(NotificationChannel channel) {
         NotificationChannelStrategy strategy = strategies.get(channel);
         if (Objects.isNull(strategy)) {
@@ -27,4 +70,82 @@ public class NotificationChannelFactory implements ChannelFactory {
         }
         return strategy;
     }
+
+    @Override
+    public Optional<Executor> getChannelExecutor(NotificationChannel channel) {
+        return Optional.ofNullable(bulkheads.get(channel));
+    }
+
+    /**
+     * Circuit breakers of the channels that have one.
+     */
+    public Map<NotificationChannel, ChannelCircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableMap(circuitBreakers);
+    }
+
+    /**
+     * Rate limiters of the channels that have one.
+     */
+    public Map<NotificationChannel, ChannelRateLimiter> getRateLimiters() {
+        return Collections.unmodifiableMap(rateLimiters);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkheads.values().forEach(ChannelBulkhead::shutdown);
+    }
+
+    /**
+     * Wraps the strategy in the circuit breaker and rate limiter its channel has enabled, and in the
+     * concurrency limiter when there is one.
+     */
+    private NotificationChannelStrategy guard(NotificationChannel channel,
+                                              NotificationChannelStrategy strategy,
+                                              NotificationProperties.Channel settings,
+                                              ConcurrencyLimiter concurrencyLimiter,
+                                              MeterRegistry meterRegistry) {
+        ChannelCircuitBreaker breaker = null;
+        if (settings.getCircuitBreaker().isEnabled()) {
+            breaker = new ChannelCircuitBreaker(channel, settings.getCircuitBreaker());
+            Gauge.builder("notification.channel.circuit.state", breaker, b -> b.getState().ordinal())
+                    .description("Circuit breaker of the channel: 0 closed, 1 open, 2 half-open")
+                    .tag("channel", channel.name())
+                    .register(meterRegistry);
+            circuitBreakers.put(channel, breaker);
+        }
+        ChannelRateLimiter limiter = null;
+        if (settings.getRateLimit().isEnabled()) {
+            limiter = new ChannelRateLimiter(channel, settings.getRateLimit());
+            Gauge.builder("notification.channel.rate.available", limiter, ChannelRateLimiter::getAvailablePermits)
+                    .description("Provider calls the channel may make right now without waiting")
+                    .tag("channel", channel.name())
+                    .register(meterRegistry);
+            Gauge.builder("notification.channel.rate.throttled", limiter, ChannelRateLimiter::getThrottledCalls)
+                    .description("Provider calls that waited for a rate-limit permit")
+                    .tag("channel", channel.name())
+                    .register(meterRegistry);
+            rateLimiters.put(channel, limiter);
+            logger.info(String.format("Rate limit for %s: %s calls/s, burst %d",
+                    channel, settings.getRateLimit().getPermitsPerSecond(), settings.getRateLimit().getBurst()));
+        }
+        return breaker == null && limiter == null && concurrencyLimiter == null
+                ? strategy
+                : new GuardedChannelStrategy(strategy, breaker, limiter, concurrencyLimiter);
+    }
+
+    private static void bindMetrics(ChannelBulkhead bulkhead, MeterRegistry meterRegistry) {
+        String channel = bulkhead.getChannel().name();
+        Gauge.builder("notification.channel.queue.depth", bulkhead, ChannelBulkhead::getQueueDepth)
+                .description("Deliveries waiting for a worker of the channel bulkhead")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("notification.channel.workers.active", bulkhead, ChannelBulkhead::getActiveWorkers)
+                .description("Workers of the channel bulkhead currently delivering")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("notification.channel.workers.max", bulkhead, ChannelBulkhead::getMaxConcurrency)
+                .description("Worker threads dedicated to the channel")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,53 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Keeps what a strategy prepared for the messages it is sending, so all recipients of a broadcast
+ * share it. Entries live in a small direct-mapped table keyed by message id, so broadcasts running
+ * side by side keep their own entries unless their ids collide; a colliding message simply replaces
+ * the entry. An entry is only reused while the message's category, content and creation time are
+ * still the ones it was prepared from.
+ */
+final class PerMessageCache<T> {
+    private static final int SLOTS = 64;
+
+    private final Function<Message, T> prepare;
+    private final AtomicReferenceArray<Entry<T>> entries = new AtomicReferenceArray<>(SLOTS);
+
+    PerMessageCache(Function<Message, T> prepare) {
+        this.prepare = prepare;
+    }
+
+    T get(Message message) {
+        int slot = spread(Objects.hashCode(message.getId())) & (SLOTS - 1);
+        Entry<T> entry = entries.get(slot);
+        if (entry == null || !entry.matches(message)) {
+            entry = new Entry<>(message.getId(), message.getCategory(), message.getContent(), message.getCreatedAt(),
+                    prepare.apply(message));
+            entries.set(slot, entry);
+        }
+        return entry.value();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private record Entry<T>(String messageId, MessageCategory category, String content, LocalDateTime createdAt,
+                            T value) {
+        boolean matches(Message message) {
+            // The content is normally the very same String, which equals() checks first
+            return Objects.equals(messageId, message.getId())
+                    && category == message.getCategory()
+                    && Objects.equals(content, message.getContent())
+                    && Objects.equals(createdAt, message.getCreatedAt());
+        }
+    }
+}
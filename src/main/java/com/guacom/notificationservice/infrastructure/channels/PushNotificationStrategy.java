@@ -3,18 +3,51 @@ package com.guacom.notificationservice.infrastructure.channels;
 import com.guacom.notificationservice.domain.entities.Message;
 import com.guacom.notificationservice.domain.entities.NotificationResult;
 import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.DeliveryEventType;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
 import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.interfaces.DeliveryEventJournal;
+import com.guacom.notificationservice.domain.interfaces.IdGenerator;
 import com.guacom.notificationservice.domain.interfaces.NotificationChannelStrategy;
+import com.guacom.notificationservice.infrastructure.events.AsyncDeliveryEventJournal;
+import com.guacom.notificationservice.infrastructure.ids.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-import java.util.logging.Logger;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class PushNotificationStrategy implements NotificationChannelStrategy {
-    private static final Logger logger = Logger.getLogger(PushNotificationStrategy.class.getName());
     private static final int PUSH_TITLE_MAX_LENGTH = 50;
     private static final int PUSH_BODY_MAX_LENGTH = 200;
+    private static final MessageTemplate BODY_TEMPLATE = MessageTemplate.compile("{content}");
+    private static final Map<MessageCategory, String> TITLES = new EnumMap<>(MessageCategory.class);
+
+    static {
+        MessageTemplate.compilePerCategory("{category} Update")
+                .forEach((category, title) -> TITLES.put(category, title.render(null, PUSH_TITLE_MAX_LENGTH)));
+    }
+
+    private final IdGenerator idGenerator;
+    private final DeliveryEventJournal events;
+    private final BulkDelivery bulk;
+    // Rendered once per message and shared by every recipient
+    private final PerMessageCache<String> bodies = new PerMessageCache<>(message ->
+            BODY_TEMPLATE.bind(Map.of("content", String.valueOf(message.getContent()))).render(null, PUSH_BODY_MAX_LENGTH));
+
+    public PushNotificationStrategy() {
+        this(SnowflakeIdGenerator.defaultInstance(), AsyncDeliveryEventJournal.synchronous());
+    }
+
+    @Autowired
+    public PushNotificationStrategy(IdGenerator idGenerator, DeliveryEventJournal events) {
+        this.idGenerator = idGenerator;
+        this.events = events;
+        this.bulk = new BulkDelivery(NotificationChannel.PUSH, events, "User not registered for push notifications", "Push notification delivery failed: ");
+    }
 
     @Override
     public NotificationChannel getChannelType() {
@@ -24,8 +57,6 @@ public class PushNotificationStrategy implements NotificationChannelStrategy {
     @Override
     public NotificationResult sendNotification(User user, Message message) {
         try {
-            logger.info(String.format("Sending Push Notification to user %s", user.getName()));
-
             if (!validateRecipient(user)) {
                 return NotificationResult.failure("User not registered for push notifications");
             }
@@ -34,56 +65,53 @@ public class PushNotificationStrategy implements NotificationChannelStrategy {
             String body = formatMessage(message, user);
             String externalMessageId = simulatePushDelivery(user.getId(), title, body);
 
-            logger.info(String.format("Push notification sent successfully. External ID: %s", externalMessageId));
+            events.record(DeliveryEventType.PROVIDER_ACCEPTED, message.getId(), NotificationChannel.PUSH, user.getId(), 1,
+                    externalMessageId);
             return NotificationResult.success(externalMessageId);
 
         } catch (Exception e) {
-            logger.severe(String.format("Failed to send push notification to user %s: %s", user.getId(), e.getMessage()));
-            return NotificationResult.failure("Push notification delivery failed: " + e.getMessage());
+            events.record(DeliveryEventType.PROVIDER_FAILED, message.getId(), NotificationChannel.PUSH, user.getId(), 1,
+                    e.getMessage());
+            return NotificationResult.retryableFailure("Push notification delivery failed: " + e.getMessage());
         }
     }
 
+    @Override
+    public List<NotificationResult> sendBatch(List<User> users, Message message) {
+        // Push bodies do not depend on the recipient, so the provider gets a single payload
+        return bulk.send(users, message, this::validateRecipient, User::getId, (userIds, recipients) ->
+                simulateBulkPushDelivery(userIds, generateTitle(message), formatMessage(message, recipients.get(0))));
+    }
+
     @Override
     public boolean validateRecipient(User user) {
         // In a real implementation, we would check if the user has a valid device token
         // For simulation purposes, we assume all users can receive push notifications
-        return user != null && user.getId() != null && !user.getId().trim().isEmpty();
+        return user != null && user.hasValidContact(NotificationChannel.PUSH);
     }
 
     @Override
     public String formatMessage(Message message, User user) {
-        String content = message.getContent();
-
-        // Truncate if too long for push notification
-        if (content.length() > PUSH_BODY_MAX_LENGTH) {
-            content = content.substring(0, PUSH_BODY_MAX_LENGTH - 3) + "...";
-        }
-
-        return content;
+        // Truncated if too long for push notification
+        return bodies.get(message);
     }
 
     private String generateTitle(Message message) {
-        String title = String.format("%s Update", message.getCategory().getDisplayName());
-
-        if (title.length() > PUSH_TITLE_MAX_LENGTH) {
-            title = title.substring(0, PUSH_TITLE_MAX_LENGTH - 3) + "...";
-        }
-
-        return title;
+        return TITLES.get(message.getCategory());
     }
 
     private String simulatePushDelivery(String userId, String title, String body) {
         // Simulate Push Notification API call
-        String externalId = "PUSH-" + UUID.randomUUID().toString().substring(0, 8);
+        return "PUSH-" + idGenerator.nextId();
+    }
 
-        // Log the simulated push notification
-        logger.info("🔔 PUSH NOTIFICATION SIMULATION 🔔");
-        logger.info(String.format("User ID: %s", userId));
-        logger.info(String.format("Title: %s", title));
-        logger.info(String.format("Body: %s", body));
-        logger.info(String.format("External ID: %s", externalId));
-        logger.info("Push notification delivered successfully (simulated)");
+    private List<String> simulateBulkPushDelivery(List<String> userIds, String title, String body) {
+        // Simulate a multicast Push Notification API call
+        List<String> externalIds = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            externalIds.add("PUSH-" + idGenerator.nextId());
+        }
 
-        return externalId;
+        return externalIds;
     }
 }
@@ -3,19 +3,43 @@ package com.guacom.notificationservice.infrastructure.channels;
 import com.guacom.notificationservice.domain.entities.Message;
 import com.guacom.notificationservice.domain.entities.NotificationResult;
 import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.DeliveryEventType;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
 import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.interfaces.DeliveryEventJournal;
+import com.guacom.notificationservice.domain.interfaces.IdGenerator;
 import com.guacom.notificationservice.domain.interfaces.NotificationChannelStrategy;
+import com.guacom.notificationservice.infrastructure.events.AsyncDeliveryEventJournal;
+import com.guacom.notificationservice.infrastructure.ids.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-import java.util.logging.Logger;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class SmsNotificationStrategy implements NotificationChannelStrategy {
-    private static final Logger logger = Logger.getLogger(SmsNotificationStrategy.class.getName());
-    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?[0-9\\s\\-\\(\\)]{10,}$");
     private static final int SMS_MAX_LENGTH = 160;
+    private static final Map<MessageCategory, MessageTemplate> TEMPLATES =
+            MessageTemplate.compilePerCategory("Hi {name}! [{category}] {content}");
+
+    private final IdGenerator idGenerator;
+    private final DeliveryEventJournal events;
+    private final BulkDelivery bulk;
+    private final PerMessageCache<MessageTemplate> templates = new PerMessageCache<>(message ->
+            TEMPLATES.get(message.getCategory()).bind(Map.of("content", String.valueOf(message.getContent()))));
+
+    public SmsNotificationStrategy() {
+        this(SnowflakeIdGenerator.defaultInstance(), AsyncDeliveryEventJournal.synchronous());
+    }
+
+    @Autowired
+    public SmsNotificationStrategy(IdGenerator idGenerator, DeliveryEventJournal events) {
+        this.idGenerator = idGenerator;
+        this.events = events;
+        this.bulk = new BulkDelivery(NotificationChannel.SMS, events, "Invalid phone number format", "SMS delivery failed: ");
+    }
 
     @Override
     public NotificationChannel getChannelType() {
@@ -25,8 +49,6 @@ public class SmsNotificationStrategy implements NotificationChannelStrategy {
     @Override
     public NotificationResult sendNotification(User user, Message message) {
         try {
-            logger.info(String.format("Sending SMS to user %s (%s)", user.getName(), user.getPhoneNumber()));
-
             if (!validateRecipient(user)) {
                 return NotificationResult.failure("Invalid phone number format");
             }
@@ -34,47 +56,52 @@ public class SmsNotificationStrategy implements NotificationChannelStrategy {
             String formattedMessage = formatMessage(message, user);
             String externalMessageId = simulateSmsDelivery(user.getPhoneNumber(), formattedMessage);
 
-            logger.info(String.format("SMS sent successfully. External ID: %s", externalMessageId));
+            events.record(DeliveryEventType.PROVIDER_ACCEPTED, message.getId(), NotificationChannel.SMS, user.getId(), 1,
+                    externalMessageId);
             return NotificationResult.success(externalMessageId);
 
         } catch (Exception e) {
-            logger.severe(String.format("Failed to send SMS to %s: %s", user.getPhoneNumber(), e.getMessage()));
-            return NotificationResult.failure("SMS delivery failed: " + e.getMessage());
+            events.record(DeliveryEventType.PROVIDER_FAILED, message.getId(), NotificationChannel.SMS, user.getId(), 1,
+                    e.getMessage());
+            return NotificationResult.retryableFailure("SMS delivery failed: " + e.getMessage());
         }
     }
 
+    @Override
+    public List<NotificationResult> sendBatch(List<User> users, Message message) {
+        return bulk.send(users, message, this::validateRecipient, User::getPhoneNumber, (phoneNumbers, recipients) -> {
+            List<String> formattedMessages = new ArrayList<>(recipients.size());
+            for (User recipient : recipients) {
+                formattedMessages.add(formatMessage(message, recipient));
+            }
+            return simulateBulkSmsDelivery(phoneNumbers, formattedMessages);
+        });
+    }
+
     @Override
     public boolean validateRecipient(User user) {
-        if (user.getPhoneNumber() == null || user.getPhoneNumber().trim().isEmpty()) {
-            return false;
-        }
-        return PHONE_PATTERN.matcher(user.getPhoneNumber().trim()).matches();
+        // Validated when the phone number was assigned to the user
+        return user.hasValidContact(NotificationChannel.SMS);
     }
 
     @Override
     public String formatMessage(Message message, User user) {
-        String content = String.format("Hi %s! [%s] %s",
-                user.getName(),
-                message.getCategory().getDisplayName(),
-                message.getContent());
-
-        //Truncate if too long for SMS
-        if (content.length() > SMS_MAX_LENGTH) {
-            content = content.substring(0, SMS_MAX_LENGTH - 3) + "...";
-        }
-
-        return content;
+        // Truncated if too long for SMS
+        return templates.get(message).render(user, SMS_MAX_LENGTH);
     }
 
     private String simulateSmsDelivery(String phoneNumber, String message) {
-        String externalId = "SMS-" + UUID.randomUUID().toString().substring(0, 8);
+        // Simulate SMS API call
+        return "SMS-" + idGenerator.nextId();
+    }
 
-        logger.info(String.format("📱 SMS SIMULATION 📱"));
-        logger.info(String.format("To: %s", phoneNumber));
-        logger.info(String.format("Message: %s", message));
-        logger.info(String.format("External ID: %s", externalId));
-        logger.info("SMS delivered successfully (simulated)");
+    private List<String> simulateBulkSmsDelivery(List<String> phoneNumbers, List<String> messages) {
+        // Simulate a bulk SMS API call
+        List<String> externalIds = new ArrayList<>(phoneNumbers.size());
+        for (int i = 0; i < phoneNumbers.size(); i++) {
+            externalIds.add("SMS-" + idGenerator.nextId());
+        }
 
-        return externalId;
+        return externalIds;
     }
 }
@@ -0,0 +1,108 @@
+package com.guacom.notificationservice.infrastructure.concurrency;
+
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.interfaces.ConcurrencyLimiter;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Per-channel in-flight limits that follow the provider's capacity, see {@link AimdLimit}. Channels
+ * with the limit disabled are not bounded here.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter implements ConcurrencyLimiter {
+    private static final Logger logger = Logger.getLogger(AdaptiveConcurrencyLimiter.class.getName());
+
+    private final AimdLimit[] limits = new AimdLimit[NotificationChannel.values().length];
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(NotificationProperties properties, MeterRegistry meterRegistry) {
+        this(channelSettings(properties));
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            AimdLimit limit = limits[channel.ordinal()];
+            if (limit == null) {
+                continue;
+            }
+            Gauge.builder("notification.channel.concurrency.limit", limit, AimdLimit::getLimit)
+                    .description("Provider calls the channel currently allows in flight")
+                    .tag("channel", channel.name())
+                    .register(meterRegistry);
+            Gauge.builder("notification.channel.concurrency.inflight", limit, AimdLimit::getInFlight)
+                    .description("Provider calls of the channel in flight")
+                    .tag("channel", channel.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter(Map<NotificationChannel, NotificationProperties.AdaptiveConcurrency> settings) {
+        settings.forEach((channel, channelSettings) -> {
+            if (!channelSettings.isEnabled()) {
+                return;
+            }
+            validate(channel, channelSettings);
+            limits[channel.ordinal()] = new AimdLimit(channelSettings);
+            logger.info(String.format("Adaptive concurrency for %s: starting at %d, between %d and %d",
+                    channel, channelSettings.getInitialLimit(), channelSettings.getMinLimit(),
+                    channelSettings.getMaxLimit()));
+        });
+    }
+
+    @Override
+    public long acquire(NotificationChannel channel) {
+        AimdLimit limit = limits[channel.ordinal()];
+        if (limit != null) {
+            limit.acquire();
+        }
+        return System.nanoTime();
+    }
+
+    @Override
+    public void release(NotificationChannel channel, long startedAt, int recipients, boolean overloaded) {
+        AimdLimit limit = limits[channel.ordinal()];
+        if (limit != null) {
+            limit.release(recipients > 1 ? AimdLimit.BATCH : AimdLimit.SINGLE, System.nanoTime() - startedAt,
+                    overloaded);
+        }
+    }
+
+    /**
+     * Current limit of the channel, or -1 when it is not limited.
+     */
+    public int getLimit(NotificationChannel channel) {
+        AimdLimit limit = limits[channel.ordinal()];
+        return limit == null ? -1 : limit.getLimit();
+    }
+
+    private static Map<NotificationChannel, NotificationProperties.AdaptiveConcurrency> channelSettings(
+            NotificationProperties properties) {
+        Map<NotificationChannel, NotificationProperties.AdaptiveConcurrency> settings =
+                new EnumMap<>(NotificationChannel.class);
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            settings.put(channel, properties.getChannel(channel).getAdaptiveConcurrency());
+        }
+        return settings;
+    }
+
+    private static void validate(NotificationChannel channel, NotificationProperties.AdaptiveConcurrency settings) {
+        if (settings.getMinLimit() < 1
+                || settings.getMaxLimit() < settings.getMinLimit()
+                || settings.getInitialLimit() < settings.getMinLimit()
+                || settings.getInitialLimit() > settings.getMaxLimit()
+                || !(settings.getBackoffRatio() > 0 && settings.getBackoffRatio() < 1)
+                || !(settings.getLatencyTolerance() > 1)
+                || settings.getBaselineWindow().isNegative()) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid adaptive concurrency for %s: initialLimit=%d, minLimit=%d, maxLimit=%d, "
+                            + "backoffRatio=%s, latencyTolerance=%s, baselineWindow=%s",
+                    channel, settings.getInitialLimit(), settings.getMinLimit(), settings.getMaxLimit(),
+                    settings.getBackoffRatio(), settings.getLatencyTolerance(), settings.getBaselineWindow()));
+        }
+    }
+}
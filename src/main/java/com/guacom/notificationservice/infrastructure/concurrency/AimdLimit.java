@@ -0,0 +1,168 @@
+package com.guacom.notificationservice.infrastructure.concurrency;
+
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-flight limit of one channel, adjusted by additive increase, multiplicative decrease.
+ * <p>
+ * Every finished call is a sample. A call that failed, or took more than {@code latencyTolerance}
+ * times the fastest call of the current baseline window, multiplies the limit by
+ * {@code backoffRatio}; at most once per round trip, since the calls in flight together saw the
+ * same overload. Any other call adds {@code 1 / limit}, so a limit that is in use grows by one per
+ * round of calls. Single sends and batches keep separate baselines.
+ * <p>
+ * Taking and returning a slot is a compare-and-set on the in-flight count. Only callers that find
+ * the limit reached take the monitor to wait, and a release only takes it when someone waits.
+ */
+final class AimdLimit {
+    static final int SINGLE = 0;
+    static final int BATCH = 1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long baselineWindowNanos;
+
+    private final AtomicLong limitBits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLongArray fastest = new AtomicLongArray(2);
+    private final AtomicLongArray baselineStarted = new AtomicLongArray(2);
+    private final AtomicLong lastDecrease = new AtomicLong(System.nanoTime());
+    private volatile int waiters;
+
+    AimdLimit(NotificationProperties.AdaptiveConcurrency settings) {
+        this.minLimit = settings.getMinLimit();
+        this.maxLimit = settings.getMaxLimit();
+        this.backoffRatio = settings.getBackoffRatio();
+        this.latencyTolerance = settings.getLatencyTolerance();
+        this.baselineWindowNanos = settings.getBaselineWindow().toNanos();
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(settings.getInitialLimit()));
+        long now = System.nanoTime();
+        for (int kind = SINGLE; kind <= BATCH; kind++) {
+            fastest.set(kind, Long.MAX_VALUE);
+            baselineStarted.set(kind, now);
+        }
+    }
+
+    void acquire() {
+        if (tryAcquire()) {
+            return;
+        }
+        boolean interrupted = false;
+        synchronized (this) {
+            waiters++;
+            try {
+                while (!tryAcquire()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                waiters--;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void release(int kind, long roundTripNanos, boolean overloaded) {
+        int inUse = inFlight.getAndDecrement();
+        boolean grown = update(kind, roundTripNanos, overloaded, inUse);
+        if (waiters > 0) {
+            synchronized (this) {
+                if (grown) {
+                    notifyAll();
+                } else {
+                    notify();
+                }
+            }
+        }
+    }
+
+    int getLimit() {
+        return (int) limit();
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Applies one sample to the limit.
+     *
+     * @param inUse calls in flight when this one finished, itself included
+     * @return true when the limit grew by a whole slot
+     */
+    private boolean update(int kind, long roundTripNanos, boolean overloaded, int inUse) {
+        long now = System.nanoTime();
+        boolean slow = roundTripNanos > latencyTolerance * baseline(kind, roundTripNanos, now);
+        if (overloaded || slow) {
+            long previousDecrease = lastDecrease.get();
+            if (now - previousDecrease >= roundTripNanos && lastDecrease.compareAndSet(previousDecrease, now)) {
+                decrease();
+            }
+            return false;
+        }
+        return inUse * 2 >= limit() && increase();
+    }
+
+    /**
+     * Fastest round trip of the current window, starting a new window with this sample once the
+     * old one is over.
+     */
+    private long baseline(int kind, long roundTripNanos, long now) {
+        long started = baselineStarted.get(kind);
+        if (now - started > baselineWindowNanos && baselineStarted.compareAndSet(kind, started, now)) {
+            fastest.set(kind, roundTripNanos);
+            return roundTripNanos;
+        }
+        return fastest.accumulateAndGet(kind, roundTripNanos, Math::min);
+    }
+
+    private double limit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    private void decrease() {
+        long bits;
+        double next;
+        do {
+            bits = limitBits.get();
+            next = Math.max(minLimit, Double.longBitsToDouble(bits) * backoffRatio);
+        } while (!limitBits.compareAndSet(bits, Double.doubleToLongBits(next)));
+    }
+
+    /**
+     * @return true when the limit reached a new whole number
+     */
+    private boolean increase() {
+        long bits;
+        double current;
+        double next;
+        do {
+            bits = limitBits.get();
+            current = Double.longBitsToDouble(bits);
+            next = Math.min(maxLimit, current + 1 / current);
+        } while (!limitBits.compareAndSet(bits, Double.doubleToLongBits(next)));
+        return (int) next > (int) current;
+    }
+}
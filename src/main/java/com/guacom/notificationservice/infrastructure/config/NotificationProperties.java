@@ -0,0 +1,464 @@
+package com.guacom.notificationservice.infrastructure.config;
+
+import com.guacom.notificationservice.domain.enums.DeliveryEventType;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "notification")
+public class NotificationProperties {
+    private Dispatch dispatch = new Dispatch();
+    private Async async = new Async();
+    private Retention retention = new Retention();
+    private Storage storage = new Storage();
+    private Ids ids = new Ids();
+    private Events events = new Events();
+    private Retry retry = new Retry();
+    private Scheduling scheduling = new Scheduling();
+    private LoadTest loadTest = new LoadTest();
+    private Map<NotificationChannel, Channel> channels = new EnumMap<>(NotificationChannel.class);
+
+    /**
+     * Settings of one channel, falling back to the defaults when it is not configured.
+     */
+    public Channel getChannel(NotificationChannel channel) {
+        return channels.computeIfAbsent(channel, key -> new Channel());
+    }
+
+    @Data
+    public static class Dispatch {
+        /**
+         * SEQUENTIAL sends every (user, channel) pair on the caller's thread,
+         * CONCURRENT fans them out onto the dispatch pool.
+         */
+        private DispatchMode mode = DispatchMode.CONCURRENT;
+
+        /**
+         * Upper bound of notifications in flight at any time, shared by all broadcasts.
+         */
+        private int maxConcurrency = 64;
+    }
+
+    @Data
+    public static class Async {
+        /**
+         * Number of messages dispatched in parallel by the background engine.
+         */
+        private int workers = 4;
+
+        /**
+         * Accepted messages waiting for a worker; submissions beyond this are rejected with 503.
+         */
+        private int queueCapacity = 100;
+
+        /**
+         * Finished jobs kept around for status polling before the oldest are forgotten.
+         */
+        private int maxRetainedJobs = 10_000;
+
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Retention {
+        /**
+         * Time span covered by one log segment; expiry always drops whole segments.
+         */
+        private Duration segmentDuration = Duration.ofHours(1);
+
+        /**
+         * Segments that ended longer ago than this are dropped.
+         */
+        private Duration maxAge = Duration.ofHours(24);
+
+        /**
+         * Oldest segments are dropped while the log holds more records than this.
+         */
+        private long maxRecords = 1_000_000;
+    }
+
+    @Data
+    public static class Ids {
+        /**
+         * 0-1023, unique per running instance so instances never generate the same id.
+         */
+        private int nodeId = 0;
+    }
+
+    @Data
+    public static class Events {
+        /**
+         * When false, delivery events are formatted and logged on the thread that records them.
+         */
+        private boolean async = true;
+
+        /**
+         * Events waiting to be logged, a power of two; events recorded while it is full are dropped.
+         */
+        private int bufferSize = 8192;
+
+        /**
+         * Longest a recorded event waits before it is logged.
+         */
+        private Duration flushInterval = Duration.ofMillis(100);
+
+        /**
+         * Fraction of the events of each type that is kept, from 0 to 1; types not listed keep all.
+         */
+        private Map<DeliveryEventType, Double> sampleRates = new EnumMap<>(DeliveryEventType.class);
+
+        private Duration shutdownTimeout = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Retry {
+        /**
+         * Resolution of the retry timer; a retry runs up to one tick after its backoff has elapsed.
+         */
+        private Duration tickDuration = Duration.ofMillis(100);
+
+        /**
+         * Buckets of the retry timer, a power of two; it should cover the usual backoffs in one turn.
+         */
+        private int wheelSize = 1024;
+
+        /**
+         * Threads running the retries that are due.
+         */
+        private int workers = 4;
+    }
+
+    @Data
+    public static class Scheduling {
+        /**
+         * Journal of scheduled messages, replayed on startup.
+         */
+        private String journalFile = "data/scheduled-messages.journal";
+
+        /**
+         * Resolution of the scheduling timer; a message is released up to one tick after its send time.
+         */
+        private Duration tickDuration = Duration.ofSeconds(1);
+
+        /**
+         * Buckets per level of the scheduling timer, a power of two.
+         */
+        private int wheelSize = 64;
+
+        /**
+         * Levels of the scheduling timer; with the defaults the finest wheel covers a minute and the
+         * coarsest about six months, later send times just take extra turns.
+         */
+        private int levels = 4;
+
+        /**
+         * Messages released at the same time; due messages beyond that wait, still cancellable, for a
+         * free worker instead of all hitting the channels at once.
+         */
+        private int releaseWorkers = 4;
+
+        /**
+         * Scheduled messages held at most; further ones are rejected until some are released.
+         */
+        private int maxPending = 100_000;
+
+        /**
+         * Furthest send time accepted.
+         */
+        private Duration maxDelay = Duration.ofDays(365);
+
+        /**
+         * Finished messages left in the journal before it is compacted.
+         */
+        private int compactionThreshold = 10_000;
+
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+    }
+
+    /**
+     * Only read with the {@code loadtest} profile active.
+     */
+    @Data
+    public static class LoadTest {
+        /**
+         * Synthetic users added on startup, next to the mock users.
+         */
+        private int users = 100_000;
+
+        /**
+         * Seed of the synthetic population, so runs can be compared.
+         */
+        private long seed = 42;
+
+        /**
+         * Probability of a synthetic user subscribing to each category; categories not listed use 0.5.
+         */
+        private Map<MessageCategory, Double> categoryRates = new EnumMap<>(MessageCategory.class);
+
+        /**
+         * Probability of a synthetic user preferring each channel; channels not listed use 0.5.
+         */
+        private Map<NotificationChannel, Double> channelRates = new EnumMap<>(NotificationChannel.class);
+
+        /**
+         * RATE sends requests on a fixed schedule of {@code rate} per second, whatever the latency;
+         * CONCURRENCY keeps {@code concurrency} requests in flight back to back.
+         */
+        private LoadMode mode = LoadMode.RATE;
+
+        private double rate = 10;
+
+        /**
+         * Client threads; in RATE mode, requests beyond this wait for a thread and the wait counts
+         * towards their latency.
+         */
+        private int concurrency = 8;
+
+        /**
+         * Requests sent during the warmup are not measured.
+         */
+        private Duration warmup = Duration.ofSeconds(10);
+
+        private Duration duration = Duration.ofSeconds(60);
+
+        private Duration reportInterval = Duration.ofSeconds(10);
+
+        /**
+         * Category of every message sent; when unset, the categories take turns.
+         */
+        private MessageCategory category;
+
+        /**
+         * Stops the application once the run has been reported.
+         */
+        private boolean exitOnCompletion = false;
+    }
+
+    @Data
+    public static class Storage {
+        /**
+         * Where the notification log lives: MEMORY (lost on restart), OFF_HEAP (in memory, outside
+         * the Java heap) or FILE (journal on disk).
+         */
+        private StorageType type = StorageType.MEMORY;
+
+        private Journal journal = new Journal();
+        private OffHeap offHeap = new OffHeap();
+        private Writer writer = new Writer();
+    }
+
+    @Data
+    public static class Writer {
+        /**
+         * When false, every notification log is saved on the sending thread.
+         */
+        private boolean async = true;
+
+        /**
+         * Logs stored per repository call.
+         */
+        private int maxBatchSize = 500;
+
+        /**
+         * Longest a queued log waits for its batch to fill up.
+         */
+        private Duration maxLinger = Duration.ofMillis(20);
+
+        /**
+         * Logs queued at most, a power of two; logs written while it is full are dropped and counted.
+         */
+        private int queueCapacity = 131_072;
+
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Journal {
+        private String directory = "data/notification-log";
+
+        /**
+         * How often appended records are forced to disk; a crash loses at most this much history.
+         */
+        private Duration flushInterval = Duration.ofMillis(200);
+
+        /**
+         * Size of each memory-mapped journal file.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+    }
+
+    @Data
+    public static class OffHeap {
+        /**
+         * Rows per column chunk; retention drops whole chunks.
+         */
+        private int chunkRows = 65_536;
+
+        /**
+         * Size of each direct buffer the string arena of a chunk allocates.
+         */
+        private DataSize arenaBlockSize = DataSize.ofMegabytes(1);
+    }
+
+    @Data
+    public static class Channel {
+        /**
+         * Recipients sent per provider call; 1 sends every notification on its own.
+         */
+        private int batchSize = 1;
+
+        private Bulkhead bulkhead = new Bulkhead();
+        private RetryPolicy retry = new RetryPolicy();
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+        private RateLimit rateLimit = new RateLimit();
+        private AdaptiveConcurrency adaptiveConcurrency = new AdaptiveConcurrency();
+    }
+
+    @Data
+    public static class AdaptiveConcurrency {
+        private boolean enabled = true;
+
+        /**
+         * Provider calls allowed in flight at startup, before any latency has been measured.
+         */
+        private int initialLimit = 8;
+
+        private int minLimit = 1;
+
+        /**
+         * Highest limit the channel may grow to; the bulkhead's workers bound it as well.
+         */
+        private int maxLimit = 64;
+
+        /**
+         * Factor the limit is multiplied by, at most once per round trip, when a call fails or is slow.
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * A call is slow when it takes longer than this many times the fastest recent call.
+         */
+        private double latencyTolerance = 2.0;
+
+        /**
+         * How long the fastest call is remembered before the baseline is measured again, so it
+         * follows lasting changes in provider latency.
+         */
+        private Duration baselineWindow = Duration.ofSeconds(60);
+    }
+
+    @Data
+    public static class RateLimit {
+        /**
+         * Off by default: only channels whose provider enforces a quota need pacing.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Provider calls per second; a batch is one call.
+         */
+        private double permitsPerSecond = 100;
+
+        /**
+         * Calls that may go out back to back after an idle period.
+         */
+        private int burst = 10;
+
+        /**
+         * Longest a send waits for a permit; sends that would wait longer fail as retryable and
+         * are requeued by the retry engine.
+         */
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+
+        /**
+         * Provider calls, most recent first, whose outcomes make up the failure rate.
+         */
+        private int windowSize = 100;
+
+        /**
+         * Calls the window must hold before the failure rate can open the circuit.
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * Failure rate, in percent, at or above which the circuit opens.
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * How long an open circuit fails calls before letting trial calls through.
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /**
+         * Trial calls that must all succeed to close the circuit again; any failure reopens it.
+         */
+        private int halfOpenCalls = 5;
+    }
+
+    @Data
+    public static class RetryPolicy {
+        /**
+         * Attempts of a delivery, the first one included; 1 never retries.
+         */
+        private int maxAttempts = 4;
+
+        /**
+         * Backoff before the first retry; each further retry waits {@code multiplier} times longer.
+         */
+        private Duration initialBackoff = Duration.ofSeconds(1);
+
+        private double multiplier = 2.0;
+
+        private Duration maxBackoff = Duration.ofMinutes(1);
+
+        /**
+         * Share of each backoff, from 0 to 1, that is randomly taken off so retries of one outage
+         * do not all hit the provider at the same time.
+         */
+        private double jitter = 0.2;
+    }
+
+    @Data
+    public static class Bulkhead {
+        private boolean enabled = true;
+
+        /**
+         * Worker threads dedicated to the channel.
+         */
+        private int maxConcurrency = 16;
+
+        /**
+         * Deliveries allowed to wait for a worker before the channel's lane blocks.
+         */
+        private int queueCapacity = 1000;
+    }
+
+    public enum LoadMode {
+        RATE,
+        CONCURRENCY
+    }
+
+    public enum StorageType {
+        MEMORY,
+        OFF_HEAP,
+        FILE
+    }
+
+    public enum DispatchMode {
+        SEQUENTIAL,
+        CONCURRENT
+    }
+}
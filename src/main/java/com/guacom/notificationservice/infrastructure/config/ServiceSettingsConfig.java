@@ -0,0 +1,35 @@
+package com.guacom.notificationservice.infrastructure.config;
+
+import com.guacom.notificationservice.application.services.AsyncDispatchSettings;
+import com.guacom.notificationservice.application.services.DispatchSettings;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Hands the application services their settings as plain values, so they never see
+ * {@link NotificationProperties} themselves.
+ */
+@Configuration
+public class ServiceSettingsConfig {
+    @Bean
+    public DispatchSettings dispatchSettings(NotificationProperties properties) {
+        Map<NotificationChannel, Integer> batchSizes = new EnumMap<>(NotificationChannel.class);
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            batchSizes.put(channel, properties.getChannel(channel).getBatchSize());
+        }
+        NotificationProperties.Dispatch dispatch = properties.getDispatch();
+        return new DispatchSettings(dispatch.getMode() == NotificationProperties.DispatchMode.CONCURRENT,
+                dispatch.getMaxConcurrency(), batchSizes);
+    }
+
+    @Bean
+    public AsyncDispatchSettings asyncDispatchSettings(NotificationProperties properties) {
+        NotificationProperties.Async async = properties.getAsync();
+        return new AsyncDispatchSettings(async.getWorkers(), async.getQueueCapacity(), async.getMaxRetainedJobs(),
+                async.getShutdownTimeout());
+    }
+}
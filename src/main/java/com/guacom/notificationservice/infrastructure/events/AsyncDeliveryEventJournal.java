@@ -0,0 +1,259 @@
+package com.guacom.notificationservice.infrastructure.events;
+
+import com.guacom.notificationservice.domain.enums.DeliveryEventType;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.interfaces.DeliveryEventJournal;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Delivery events logged as one {@code key=value} line each, off the delivery path.
+ * <p>
+ * Recording an event only checks the level and the sample rate of its type, claims a slot of a
+ * preallocated ring buffer with one compare-and-set and copies the field references into it. A
+ * single background thread formats and logs the slots in order every {@code flush-interval}, or as
+ * soon as the buffer is half full. Events recorded while the buffer is full are dropped and counted
+ * instead of making the sender wait.
+ */
+@Component
+public class AsyncDeliveryEventJournal implements DeliveryEventJournal {
+    private static final Logger logger = Logger.getLogger(AsyncDeliveryEventJournal.class.getName());
+    private static final DeliveryEventType[] TYPES = DeliveryEventType.values();
+    private static final AsyncDeliveryEventJournal SYNCHRONOUS = synchronousJournal();
+
+    private final boolean async;
+    private final double[] sampleRates = new double[TYPES.length];
+    private final Slot[] slots;
+    private final int mask;
+    private final long flushIntervalNanos;
+    private final long shutdownTimeoutMillis;
+    private final Thread loggerThread;
+
+    // Sequence of the next slot to claim, and of the next slot to log
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean running = true;
+
+    @Autowired
+    public AsyncDeliveryEventJournal(NotificationProperties properties) {
+        this(properties.getEvents());
+    }
+
+    public AsyncDeliveryEventJournal(NotificationProperties.Events settings) {
+        int bufferSize = settings.getBufferSize();
+        if (bufferSize < 2 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Event buffer size must be a power of two of at least 2");
+        }
+        for (DeliveryEventType type : TYPES) {
+            double rate = settings.getSampleRates().getOrDefault(type, 1.0);
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Sample rate of " + type + " must be between 0 and 1");
+            }
+            sampleRates[type.ordinal()] = rate;
+        }
+        this.async = settings.isAsync();
+        this.flushIntervalNanos = settings.getFlushInterval().toNanos();
+        this.shutdownTimeoutMillis = settings.getShutdownTimeout().toMillis();
+
+        if (async) {
+            this.slots = new Slot[bufferSize];
+            for (int i = 0; i < bufferSize; i++) {
+                slots[i] = new Slot(i - bufferSize);
+            }
+            this.mask = bufferSize - 1;
+            this.loggerThread = new Thread(this::run, "delivery-event-logger");
+            loggerThread.setDaemon(true);
+            loggerThread.start();
+        } else {
+            this.slots = null;
+            this.mask = 0;
+            this.loggerThread = null;
+        }
+    }
+
+    /**
+     * Journal that logs every event on the recording thread, for components created outside the
+     * Spring context.
+     */
+    public static AsyncDeliveryEventJournal synchronous() {
+        return SYNCHRONOUS;
+    }
+
+    @Override
+    public void record(DeliveryEventType type, String messageId, NotificationChannel channel, String userId,
+                       int count, String detail) {
+        if (!logger.isLoggable(levelOf(type)) || !sampled(type)) {
+            return;
+        }
+        long timestamp = System.currentTimeMillis();
+        if (!async || !running) {
+            log(type, timestamp, messageId, channel, userId, count, detail);
+            return;
+        }
+
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.type = type;
+        slot.timestamp = timestamp;
+        slot.messageId = messageId;
+        slot.channel = channel;
+        slot.userId = userId;
+        slot.count = count;
+        slot.detail = detail;
+        // The volatile write publishes the fields above to the logger thread
+        slot.sequence = sequence;
+
+        if (sequence - consumed == slots.length / 2) {
+            LockSupport.unpark(loggerThread);
+        }
+    }
+
+    /**
+     * Events dropped so far because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!async) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(loggerThread);
+        try {
+            loggerThread.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (loggerThread.isAlive()) {
+            logger.warning(String.format("Delivery event logger did not finish within %d ms, %d events not logged",
+                    shutdownTimeoutMillis, claimed.get() - consumed));
+        }
+    }
+
+    private void run() {
+        long reportedDrops = 0;
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            drain();
+            long drops = dropped.sum();
+            if (drops > reportedDrops) {
+                logger.warning(String.format("Dropped %d delivery events, the event buffer of %d was full",
+                        drops - reportedDrops, slots.length));
+                reportedDrops = drops;
+            }
+        }
+        // Producers that claimed a slot before the flag changed are still filling it in
+        while (consumed < claimed.get()) {
+            if (!drain()) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private boolean drain() {
+        long next = consumed;
+        Slot slot = slots[(int) (next & mask)];
+        boolean progressed = false;
+        while (slot.sequence == next) {
+            log(slot.type, slot.timestamp, slot.messageId, slot.channel, slot.userId, slot.count, slot.detail);
+            slot.clear();
+            consumed = ++next;
+            slot = slots[(int) (next & mask)];
+            progressed = true;
+        }
+        return progressed;
+    }
+
+    private void log(DeliveryEventType type, long timestamp, String messageId, NotificationChannel channel,
+                     String userId, int count, String detail) {
+        StringBuilder line = new StringBuilder(128)
+                .append("event=").append(type.name())
+                .append(" at=").append(Instant.ofEpochMilli(timestamp));
+        appendField(line, "message", messageId);
+        if (channel != null) {
+            line.append(" channel=").append(channel.name());
+        }
+        appendField(line, "user", userId);
+        line.append(" count=").append(count);
+        appendField(line, "detail", detail);
+        double rate = sampleRates[type.ordinal()];
+        if (rate < 1) {
+            line.append(" sampleRate=").append(rate);
+        }
+        logger.log(levelOf(type), line.toString());
+    }
+
+    private boolean sampled(DeliveryEventType type) {
+        double rate = sampleRates[type.ordinal()];
+        return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static void appendField(StringBuilder line, String key, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append(' ').append(key).append('=');
+        if (value.indexOf(' ') < 0 && value.indexOf('"') < 0) {
+            line.append(value);
+        } else {
+            line.append('"').append(value.replace("\"", "\\\"")).append('"');
+        }
+    }
+
+    private static Level levelOf(DeliveryEventType type) {
+        return type.isFailure() ? Level.WARNING : Level.INFO;
+    }
+
+    private static AsyncDeliveryEventJournal synchronousJournal() {
+        NotificationProperties.Events settings = new NotificationProperties.Events();
+        settings.setAsync(false);
+        return new AsyncDeliveryEventJournal(settings);
+    }
+
+    /**
+     * One event of the ring buffer, reused every {@code buffer-size} events. {@code sequence} is
+     * the sequence of the event the slot currently holds.
+     */
+    private static final class Slot {
+        private volatile long sequence;
+        private DeliveryEventType type;
+        private long timestamp;
+        private String messageId;
+        private NotificationChannel channel;
+        private String userId;
+        private int count;
+        private String detail;
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+
+        void clear() {
+            messageId = null;
+            userId = null;
+            detail = null;
+        }
+    }
+}
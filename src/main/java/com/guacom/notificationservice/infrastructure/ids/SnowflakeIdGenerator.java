@@ -0,0 +1,84 @@
+package com.guacom.notificationservice.infrastructure.ids;
+
+import com.guacom.notificationservice.domain.interfaces.IdGenerator;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake-style ids: 41 bits of milliseconds since 2024-01-01, a 10-bit node id and a 12-bit
+ * sequence within the millisecond, written as 13 Crockford base32 characters. Ids of one node are
+ * strictly increasing and ids of all nodes sort by creation millisecond, as numbers and as strings.
+ * <p>
+ * The last millisecond and sequence share one {@link AtomicLong} advanced by compare-and-set, so no
+ * thread ever blocks. When a millisecond runs out of sequence numbers, or the clock steps back, ids
+ * continue from the last millisecond used instead of waiting for the clock to catch up.
+ */
+@Component
+public class SnowflakeIdGenerator implements IdGenerator {
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    static final int MAX_NODE_ID = 1023;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final char[] CROCKFORD_BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ID_LENGTH = 13;
+    private static final SnowflakeIdGenerator DEFAULT = new SnowflakeIdGenerator(0);
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    // (milliseconds since EPOCH_MILLIS << SEQUENCE_BITS) | sequence of the last id handed out
+    private final AtomicLong last = new AtomicLong();
+
+    @Autowired
+    public SnowflakeIdGenerator(NotificationProperties properties) {
+        this(properties.getIds().getNodeId());
+    }
+
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * Generator for node 0, for components created outside the Spring context.
+     */
+    public static SnowflakeIdGenerator defaultInstance() {
+        return DEFAULT;
+    }
+
+    @Override
+    public String nextId() {
+        long value = nextLong();
+        char[] chars = new char[ID_LENGTH];
+        for (int i = ID_LENGTH - 1; i >= 0; i--) {
+            chars[i] = CROCKFORD_BASE32[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    public long nextLong() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long previous;
+        long next;
+        do {
+            previous = last.get();
+            next = Math.max(now, previous + 1);
+        } while (!last.compareAndSet(previous, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+}
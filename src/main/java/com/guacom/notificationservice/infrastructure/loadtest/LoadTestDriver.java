@@ -0,0 +1,219 @@
+package com.guacom.notificationservice.infrastructure.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+/**
+ * Drives {@code POST /api/messages} of the embedded server once the application is ready, and
+ * logs throughput, latency percentiles and heap use every {@code report-interval} and at the end.
+ * <p>
+ * In RATE mode requests are scheduled at fixed intervals and their latency is measured from the
+ * scheduled time, so a slow server shows up as latency instead of silently lowering the rate.
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestDriver {
+    private static final Logger logger = Logger.getLogger(LoadTestDriver.class.getName());
+    private static final MessageCategory[] CATEGORIES = MessageCategory.values();
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final NotificationProperties.LoadTest settings;
+    private final ObjectMapper objectMapper;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong notifications = new AtomicLong();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final LongAccumulator maxHeapUsed = new LongAccumulator(Math::max, 0);
+    private volatile long measuredFrom;
+    private volatile long measuredUntil;
+
+    @Autowired
+    public LoadTestDriver(NotificationProperties properties, ObjectMapper objectMapper) {
+        this.settings = properties.getLoadTest();
+        this.objectMapper = objectMapper;
+        if (settings.getConcurrency() < 1) {
+            throw new IllegalArgumentException("Load test concurrency must be at least 1");
+        }
+        if (settings.getMode() == NotificationProperties.LoadMode.RATE && settings.getRate() <= 0) {
+            throw new IllegalArgumentException("Load test rate must be positive");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start(ApplicationReadyEvent event) {
+        int port = ((WebServerApplicationContext) event.getApplicationContext()).getWebServer().getPort();
+        URI target = URI.create("http://localhost:" + port + "/api/messages");
+        ConfigurableApplicationContext context = event.getApplicationContext();
+
+        Thread driver = new Thread(() -> {
+            run(target);
+            if (settings.isExitOnCompletion()) {
+                System.exit(SpringApplication.exit(context));
+            }
+        }, "load-test-driver");
+        driver.setDaemon(true);
+        driver.start();
+    }
+
+    private void run(URI target) {
+        logger.info(String.format("Load test against %s: %s mode, %s warmup, %s measured",
+                target, settings.getMode(), settings.getWarmup(), settings.getDuration()));
+
+        long start = System.nanoTime();
+        measuredFrom = start + settings.getWarmup().toNanos();
+        long end = measuredFrom + settings.getDuration().toNanos();
+        measuredUntil = end;
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(daemonThreads("load-test-reporter"));
+        long interval = settings.getReportInterval().toMillis();
+        reporter.scheduleAtFixedRate(() -> report("Load test progress"), interval, interval, TimeUnit.MILLISECONDS);
+
+        ExecutorService clients = Executors.newFixedThreadPool(settings.getConcurrency(), daemonThreads("load-test-client"));
+        try {
+            if (settings.getMode() == NotificationProperties.LoadMode.RATE) {
+                runAtRate(target, clients, start, end);
+            } else {
+                runAtConcurrency(target, clients, end);
+            }
+            clients.shutdown();
+            clients.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            clients.shutdownNow();
+            reporter.shutdownNow();
+        }
+        report("Load test finished");
+    }
+
+    private void runAtRate(URI target, ExecutorService clients, long start, long end) {
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRate();
+        for (long i = 0; ; i++) {
+            long scheduled = start + (long) (i * intervalNanos);
+            if (scheduled >= end) {
+                return;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            clients.execute(() -> send(target, scheduled));
+        }
+    }
+
+    private void runAtConcurrency(URI target, ExecutorService clients, long end) {
+        for (int i = 0; i < settings.getConcurrency(); i++) {
+            clients.execute(() -> {
+                long now;
+                while ((now = System.nanoTime()) < end) {
+                    send(target, now);
+                }
+            });
+        }
+    }
+
+    private void send(URI target, long scheduled) {
+        boolean measured = scheduled >= measuredFrom;
+        try {
+            HttpResponse<String> response = client.send(request(target), HttpResponse.BodyHandlers.ofString());
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+            if (!measured) {
+                return;
+            }
+            latencies.record(latencyMicros);
+            if (response.statusCode() == 200) {
+                notifications.addAndGet(objectMapper.readTree(response.body()).path("data").size());
+            } else {
+                errors.incrementAndGet();
+            }
+        } catch (IOException e) {
+            if (measured) {
+                errors.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpRequest request(URI target) throws IOException {
+        int number = sequence.incrementAndGet();
+        MessageCategory category = settings.getCategory() != null
+                ? settings.getCategory()
+                : CATEGORIES[number % CATEGORIES.length];
+        String body = objectMapper.writeValueAsString(Map.of(
+                "category", category,
+                "content", "Load test message number " + number));
+        return HttpRequest.newBuilder(target)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void report(String title) {
+        long heapUsed = memory.getHeapMemoryUsage().getUsed();
+        maxHeapUsed.accumulate(heapUsed);
+        double seconds = Math.max(0, Math.min(System.nanoTime(), measuredUntil) - measuredFrom) / 1e9;
+        if (seconds == 0) {
+            logger.info(String.format("%s: warming up, heap used %.0f MB", title, heapUsed / BYTES_PER_MEGABYTE));
+            return;
+        }
+        long requests = latencies.count();
+        logger.info(String.format("%s after %.0f s: %d requests (%.1f/s), %d errors, %d notifications (%.1f/s), "
+                        + "latency p50 %.2f ms p99 %.2f ms p99.9 %.2f ms max %.2f ms, "
+                        + "heap used %.0f MB (peak %.0f MB, max %.0f MB)",
+                title, seconds, requests, requests / seconds, errors.get(),
+                notifications.get(), notifications.get() / seconds,
+                millis(latencies.percentile(50)), millis(latencies.percentile(99)),
+                millis(latencies.percentile(99.9)), millis(latencies.max()),
+                heapUsed / BYTES_PER_MEGABYTE, maxHeapUsed.get() / BYTES_PER_MEGABYTE,
+                memory.getHeapMemoryUsage().getMax() / BYTES_PER_MEGABYTE));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.guacom.notificationservice.infrastructure.loadtest;
+
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.interfaces.UserRepository;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Fills the user repository with {@code users} synthetic users for load tests. Every user
+ * subscribes to each category and prefers each channel independently, with the configured
+ * probabilities, so audience sizes and channel mixes follow the configured distribution.
+ */
+@Component
+@Profile("loadtest")
+public class SyntheticUserPopulator {
+    private static final Logger logger = Logger.getLogger(SyntheticUserPopulator.class.getName());
+    private static final double DEFAULT_RATE = 0.5;
+
+    private final UserRepository userRepository;
+    private final NotificationProperties.LoadTest settings;
+
+    @Autowired
+    public SyntheticUserPopulator(UserRepository userRepository, NotificationProperties properties) {
+        this(userRepository, properties.getLoadTest());
+    }
+
+    public SyntheticUserPopulator(UserRepository userRepository, NotificationProperties.LoadTest settings) {
+        validateRates(settings.getCategoryRates());
+        validateRates(settings.getChannelRates());
+        this.userRepository = userRepository;
+        this.settings = settings;
+    }
+
+    @PostConstruct
+    public void populate() {
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(settings.getSeed());
+        for (int i = 0; i < settings.getUsers(); i++) {
+            userRepository.save(createUser(i, random));
+        }
+        logger.info(String.format("Added %d synthetic users in %d ms", settings.getUsers(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)));
+    }
+
+    private User createUser(int number, SplittableRandom random) {
+        List<MessageCategory> categories = new ArrayList<>();
+        for (MessageCategory category : MessageCategory.values()) {
+            if (random.nextDouble() < settings.getCategoryRates().getOrDefault(category, DEFAULT_RATE)) {
+                categories.add(category);
+            }
+        }
+        List<NotificationChannel> channels = new ArrayList<>();
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            if (random.nextDouble() < settings.getChannelRates().getOrDefault(channel, DEFAULT_RATE)) {
+                channels.add(channel);
+            }
+        }
+
+        String id = String.format("load-user-%07d", number);
+        return new User(id, "Load User " + number, id + "@loadtest.example.com",
+                String.format("+1555%07d", number % 10_000_000), categories, channels);
+    }
+
+    private static void validateRates(Map<?, Double> rates) {
+        rates.forEach((key, rate) -> {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Load test rate of " + key + " must be between 0 and 1");
+            }
+        });
+    }
+}
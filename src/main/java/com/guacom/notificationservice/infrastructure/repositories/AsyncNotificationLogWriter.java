@@ -0,0 +1,261 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.interfaces.NotificationLogWriter;
+import com.guacom.notificationservice.domain.interfaces.NotificationRepository;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+/**
+ * Takes notification logs off the delivery path: senders only enqueue, and a single background
+ * thread stores them with {@link NotificationRepository#saveAll} in batches of up to
+ * {@code max-batch-size}, waiting at most {@code max-linger} for a batch to fill up.
+ * <p>
+ * Enqueueing claims a slot of a preallocated ring of {@code queue-capacity} logs with one
+ * compare-and-set, as {@code AsyncDeliveryEventJournal} does. A log written while the ring is full
+ * is dropped and counted instead of making the sender wait, so a repository that falls behind
+ * costs history, never delivery throughput. Shutdown first stops taking logs, then writes whatever
+ * is still queued; logs written after that are saved on the calling thread once the queue is
+ * empty, so they never race the final batches.
+ * <p>
+ * A batch the repository rejects is saved again one log at a time, so one bad log or a brief
+ * outage does not take its whole batch down; logs that fail on their own as well are counted.
+ */
+@Component
+public class AsyncNotificationLogWriter implements NotificationLogWriter {
+    private static final Logger logger = Logger.getLogger(AsyncNotificationLogWriter.class.getName());
+    // Set in claimed once shutdown starts: the accepting flag and the claim share one compare-and-set
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final NotificationRepository notificationRepository;
+    private final boolean async;
+    private final Slot[] slots;
+    private final int mask;
+    private final int maxBatchSize;
+    private final long maxLingerNanos;
+    private final long shutdownTimeoutMillis;
+    private final Thread writerThread;
+    private final CountDownLatch drained = new CountDownLatch(1);
+
+    // Sequence of the next slot to claim, with the CLOSED bit once shutdown began, and of the next slot to store
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @Autowired
+    public AsyncNotificationLogWriter(NotificationRepository notificationRepository, NotificationProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this(notificationRepository, properties.getStorage().getWriter());
+        Gauge.builder("notification.writer.dropped", this, AsyncNotificationLogWriter::getDroppedCount)
+                .description("Notification logs dropped because the writer queue was full")
+                .register(meterRegistry);
+        Gauge.builder("notification.writer.failed", this, AsyncNotificationLogWriter::getFailedCount)
+                .description("Notification logs the repository failed to store")
+                .register(meterRegistry);
+    }
+
+    public AsyncNotificationLogWriter(NotificationRepository notificationRepository,
+                                      NotificationProperties.Writer settings) {
+        if (settings.getMaxBatchSize() < 1) {
+            throw new IllegalArgumentException("Writer max batch size must be at least 1");
+        }
+        int capacity = settings.getQueueCapacity();
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Writer queue capacity must be a power of two");
+        }
+        this.notificationRepository = notificationRepository;
+        this.async = settings.isAsync();
+        this.maxBatchSize = settings.getMaxBatchSize();
+        this.maxLingerNanos = settings.getMaxLinger().toNanos();
+        this.shutdownTimeoutMillis = settings.getShutdownTimeout().toMillis();
+
+        if (async) {
+            this.slots = new Slot[capacity];
+            for (int i = 0; i < capacity; i++) {
+                slots[i] = new Slot(i - capacity);
+            }
+            this.mask = capacity - 1;
+            this.writerThread = new Thread(this::run, "notification-log-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        } else {
+            this.slots = null;
+            this.mask = 0;
+            this.writerThread = null;
+        }
+    }
+
+    @Override
+    public void write(NotificationLog log) {
+        if (!async) {
+            notificationRepository.save(log);
+            return;
+        }
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence < 0) {
+                // Shut down: an older version of this log may still be in the final batches
+                awaitDrained();
+                notificationRepository.save(log);
+                return;
+            }
+            if (sequence - consumed >= slots.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.log = log;
+        // The volatile write publishes the log to the writer thread
+        slot.sequence = sequence;
+
+        if (sequence + 1 - consumed == maxBatchSize) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Logs dropped so far because the queue was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Logs the repository failed to store so far, even one at a time.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!async) {
+            return;
+        }
+        claimed.getAndUpdate(sequence -> sequence | CLOSED);
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.warning(String.format("Notification log writer did not finish within %d ms, %d logs still queued",
+                    shutdownTimeoutMillis, (claimed.get() & ~CLOSED) - consumed));
+            return;
+        }
+        drained.countDown();
+    }
+
+    private void awaitDrained() {
+        try {
+            if (!drained.await(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.warning("Notification log writer is still draining, saving a late log alongside it");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<NotificationLog> batch = new ArrayList<>(maxBatchSize);
+        long reportedDrops = 0;
+        long claim;
+        while ((claim = claimed.get()) >= 0) {
+            if (claim - consumed < maxBatchSize) {
+                LockSupport.parkNanos(this, maxLingerNanos);
+            }
+            drain(batch);
+            long drops = dropped.sum();
+            if (drops > reportedDrops) {
+                logger.warning(String.format("Dropped %d notification logs, the writer queue of %d was full",
+                        drops - reportedDrops, slots.length));
+                reportedDrops = drops;
+            }
+        }
+        // Nothing is claimed from here on, but writers that claimed a slot before may still be filling it in
+        long end = claim & ~CLOSED;
+        while (consumed < end) {
+            if (!drain(batch)) {
+                Thread.onSpinWait();
+            }
+        }
+        logger.info("Notification log writer drained and stopped");
+    }
+
+    private boolean drain(List<NotificationLog> batch) {
+        long next = consumed;
+        boolean progressed = false;
+        while (true) {
+            Slot slot = slots[(int) (next & mask)];
+            if (slot.sequence == next) {
+                batch.add(slot.log);
+                slot.log = null;
+                consumed = ++next;
+                progressed = true;
+                if (batch.size() < maxBatchSize) {
+                    continue;
+                }
+            }
+            if (batch.isEmpty()) {
+                return progressed;
+            }
+            persist(batch);
+        }
+    }
+
+    private void persist(List<NotificationLog> batch) {
+        try {
+            notificationRepository.saveAll(List.copyOf(batch));
+        } catch (RuntimeException e) {
+            logger.warning(String.format("Failed to store a batch of %d notification logs, saving them one by one: %s",
+                    batch.size(), e.getMessage()));
+            saveEach(batch);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void saveEach(List<NotificationLog> batch) {
+        int failures = 0;
+        for (NotificationLog log : batch) {
+            try {
+                notificationRepository.save(log);
+            } catch (RuntimeException e) {
+                failures++;
+                logger.severe(String.format("Failed to store notification log %s: %s", log.getId(), e.getMessage()));
+            }
+        }
+        failed.add(failures);
+    }
+
+    /**
+     * One log of the ring, reused every {@code queue-capacity} logs. {@code sequence} is the
+     * sequence of the log the slot currently holds.
+     */
+    private static final class Slot {
+        private volatile long sequence;
+        private NotificationLog log;
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
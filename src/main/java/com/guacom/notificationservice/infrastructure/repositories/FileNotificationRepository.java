@@ -0,0 +1,437 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.interfaces.NotificationRepository;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Notification log persisted in an append-only journal of segment files
+ * ({@code notifications-0000000001.log}, ...) in {@link NotificationLogCodec} format.
+ * <p>
+ * Every segment is memory-mapped: appends are copies into the mapping of the active segment and
+ * reads decode straight from the mappings, so neither touches the disk synchronously. The active
+ * segment is forced to disk every {@code flush-interval}, committing all appends since the previous
+ * flush at once. On startup the segments are scanned sequentially to rebuild the in-memory indexes,
+ * which only hold record positions; a torn record at the end of the last segment is cut off.
+ * <p>
+ * Retention works on whole segments: once a segment was last written more than
+ * {@code notification.retention.max-age} ago, its records leave the indexes, its file is deleted and
+ * its mapping is released with the last reader still holding it. Recovery deletes such segments
+ * without scanning them. The active segment never expires, and {@code max-records} does not apply to
+ * the journal.
+ */
+@Repository
+@ConditionalOnProperty(name = "notification.storage.type", havingValue = "file")
+public class FileNotificationRepository implements NotificationRepository {
+    private static final Logger logger = Logger.getLogger(FileNotificationRepository.class.getName());
+    private static final String SEGMENT_PREFIX = "notifications-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration maxAge;
+    private final Map<Integer, Segment> segments = new ConcurrentHashMap<>();
+    private final Map<String, RecordRef> refsById = new ConcurrentHashMap<>();
+    private final NavigableMap<HistoryKey, RecordRef> history = new ConcurrentSkipListMap<>(HistoryKey.NEWEST_FIRST);
+    private final Map<String, NavigableMap<HistoryKey, RecordRef>> historyByUser = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    private final Object appendLock = new Object();
+    private volatile Segment active;
+
+    @Autowired
+    public FileNotificationRepository(NotificationProperties properties) {
+        this(properties.getStorage().getJournal(), properties.getRetention());
+    }
+
+    public FileNotificationRepository(NotificationProperties.Journal journal) {
+        this(journal, new NotificationProperties.Retention());
+    }
+
+    public FileNotificationRepository(NotificationProperties.Journal journal, NotificationProperties.Retention retention) {
+        long segmentBytes = journal.getSegmentSize().toBytes();
+        if (segmentBytes < 1024 || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal segment size must be between 1KB and 2GB");
+        }
+        this.directory = Path.of(journal.getDirectory());
+        this.segmentSize = (int) segmentBytes;
+        this.maxAge = retention.getMaxAge();
+
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open notification journal in " + directory, e);
+        }
+
+        Duration flushInterval = journal.getFlushInterval();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        flusher.scheduleWithFixedDelay(this::dropExpiredSegments, flushInterval.toMillis(), flushInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void save(NotificationLog log) {
+        saveAll(List.of(log));
+    }
+
+    /**
+     * Appends the whole batch under a single acquisition of the append lock; records are encoded
+     * before taking it and indexed after releasing it, where a concurrent save of the same id may
+     * get there first, so the index keeps whichever record was appended last.
+     */
+    @Override
+    public void saveAll(List<NotificationLog> logs) {
+        byte[][] records = new byte[logs.size()][];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = NotificationLogCodec.encode(logs.get(i));
+            if (records[i].length > segmentSize) {
+                throw new IllegalArgumentException(String.format("Notification log %s needs %d bytes, more than a journal segment",
+                        logs.get(i).getId(), records[i].length));
+            }
+        }
+
+        RecordRef[] refs = new RecordRef[records.length];
+        synchronized (appendLock) {
+            for (int i = 0; i < records.length; i++) {
+                if (active.limit + records[i].length > segmentSize) {
+                    roll();
+                }
+                refs[i] = active.append(records[i]);
+            }
+        }
+
+        for (int i = 0; i < refs.length; i++) {
+            NotificationLog log = logs.get(i);
+            index(log.getId(), log.getUserId(), HistoryKey.of(log), refs[i]);
+        }
+    }
+
+    @Override
+    public Optional<NotificationLog> findById(String id) {
+        return Optional.ofNullable(refsById.get(id)).map(this::read);
+    }
+
+    @Override
+    public List<NotificationLog> findAll() {
+        return refsById.values().stream().map(this::read).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public List<NotificationLog> findAllOrderByCreatedDateDesc() {
+        return history.values().stream().map(this::read).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public List<NotificationLog> findPageOrderByCreatedDateDesc(LocalDateTime afterSentAt, String afterId, int limit) {
+        NavigableMap<HistoryKey, RecordRef> remaining = afterId == null
+                ? history
+                : history.tailMap(new HistoryKey(afterSentAt, afterId), false);
+        return remaining.values().stream().map(this::read).filter(Objects::nonNull).limit(limit).toList();
+    }
+
+    @Override
+    public List<NotificationLog> findByUserId(String userId) {
+        NavigableMap<HistoryKey, RecordRef> userHistory = historyByUser.get(userId);
+        return userHistory == null
+                ? new ArrayList<>()
+                : userHistory.values().stream().map(this::read).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Forces everything appended so far to disk.
+     */
+    public void flush() {
+        Segment segment = active;
+        try {
+            segment.mapping.force();
+        } catch (RuntimeException e) {
+            logger.severe(String.format("Failed to flush notification journal segment %d: %s",
+                    segment.number, e.getMessage()));
+        }
+    }
+
+    /**
+     * Drops every segment last written more than {@code maxAge} ago. Runs on the flusher thread; its
+     * records are taken out of the indexes before the segment goes, so a reader that still finds one
+     * of them finds its segment too, unless it looked the record up just before.
+     */
+    synchronized void dropExpiredSegments() {
+        long expiredBefore = System.currentTimeMillis() - maxAge.toMillis();
+        try {
+            for (Segment segment : segments.values()) {
+                if (segment.sealedAtMillis < expiredBefore) {
+                    drop(segment);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.severe(String.format("Failed to drop expired notification journal segments: %s", e.getMessage()));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flusher.shutdown();
+        synchronized (appendLock) {
+            active.mapping.force();
+        }
+        logger.info(String.format("Notification journal closed with %d records", refsById.size()));
+    }
+
+    /**
+     * @return null when the record's segment expired after the record was looked up
+     */
+    private NotificationLog read(RecordRef ref) {
+        Segment segment = segments.get(ref.segment());
+        return segment == null ? null : NotificationLogCodec.decode(segment.mapping, ref.offset());
+    }
+
+    private void index(String id, String userId, HistoryKey key, RecordRef ref) {
+        // compute() serializes writers of the same id, so re-saving a log moves its index entries atomically
+        refsById.compute(id, (logId, previous) -> {
+            if (previous != null && previous.isAfter(ref)) {
+                // Appended before the indexed record, this one is already superseded
+                return previous;
+            }
+            if (previous != null) {
+                // The newer record supersedes the old one, which stays in the journal as garbage
+                NotificationLog old = read(previous);
+                HistoryKey oldKey = HistoryKey.of(old);
+                history.remove(oldKey);
+                NavigableMap<HistoryKey, RecordRef> oldUserHistory = historyByUser.get(old.getUserId());
+                if (oldUserHistory != null) {
+                    oldUserHistory.remove(oldKey);
+                }
+            }
+            history.put(key, ref);
+            historyByUser.computeIfAbsent(userId, user -> new ConcurrentSkipListMap<>(HistoryKey.NEWEST_FIRST))
+                    .put(key, ref);
+            return ref;
+        });
+    }
+
+    /**
+     * Takes the record out of the indexes, unless a later record of the same id superseded it.
+     */
+    private boolean unindex(NotificationLog log, RecordRef ref) {
+        boolean[] removed = new boolean[1];
+        refsById.computeIfPresent(log.getId(), (id, current) -> {
+            if (!current.equals(ref)) {
+                return current;
+            }
+            HistoryKey key = HistoryKey.of(log);
+            history.remove(key, ref);
+            NavigableMap<HistoryKey, RecordRef> userHistory = historyByUser.get(log.getUserId());
+            if (userHistory != null) {
+                userHistory.remove(key, ref);
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    private void drop(Segment segment) {
+        int dropped = 0;
+        int offset = 0;
+        int length;
+        while ((length = NotificationLogCodec.recordLength(segment.mapping, offset, segment.mapping.capacity())) > 0) {
+            if (unindex(NotificationLogCodec.decode(segment.mapping, offset), new RecordRef(segment.number, offset))) {
+                dropped++;
+            }
+            offset += length;
+        }
+        segments.remove(segment.number);
+        try {
+            Files.deleteIfExists(directory.resolve(segmentFileName(segment.number)));
+        } catch (IOException e) {
+            logger.warning(String.format("Cannot delete expired notification journal segment %d: %s",
+                    segment.number, e.getMessage()));
+        }
+        logger.info(String.format("Dropped expired notification journal segment %d with %d records",
+                segment.number, dropped));
+    }
+
+    /**
+     * Rebuilds the indexes from the segment files in order and reopens the last one for appends.
+     * Segments last written more than {@code maxAge} ago are deleted without being scanned.
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        long started = System.nanoTime();
+        long expiredBefore = System.currentTimeMillis() - maxAge.toMillis();
+        int records = 0;
+        int expired = 0;
+        int lastNumber = 0;
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            lastNumber = segmentNumber(file);
+            long lastWritten = Files.getLastModifiedTime(file).toMillis();
+            if (lastWritten < expiredBefore) {
+                Files.delete(file);
+                expired++;
+                continue;
+            }
+            Segment segment = Segment.open(file, lastNumber, segmentSize);
+            segment.sealedAtMillis = lastWritten;
+            segments.put(segment.number, segment);
+            records += scan(segment, i == files.size() - 1);
+            active = segment;
+        }
+        if (active == null) {
+            active = createSegment(lastNumber + 1);
+        }
+        active.sealedAtMillis = Long.MAX_VALUE;
+
+        logger.info(String.format("Recovered %d notification log records from %d journal segments in %d ms, "
+                        + "deleted %d expired segments",
+                records, files.size() - expired, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), expired));
+    }
+
+    private int scan(Segment segment, boolean last) {
+        int records = 0;
+        int offset = 0;
+        int length;
+        while ((length = NotificationLogCodec.recordLength(segment.mapping, offset, segment.mapping.capacity())) > 0) {
+            NotificationLog log = NotificationLogCodec.decode(segment.mapping, offset);
+            index(log.getId(), log.getUserId(), HistoryKey.of(log), new RecordRef(segment.number, offset));
+            offset += length;
+            records++;
+        }
+        segment.limit = offset;
+
+        if (last && offset < segment.mapping.capacity() && segment.mapping.getInt(offset) != 0) {
+            logger.warning(String.format("Discarding torn record at offset %d of journal segment %d",
+                    offset, segment.number));
+            segment.clearFrom(offset);
+        }
+        return records;
+    }
+
+    private void roll() {
+        active.mapping.force();
+        Segment sealed = active;
+        active = createSegment(sealed.number + 1);
+        sealed.sealedAtMillis = System.currentTimeMillis();
+    }
+
+    private Segment createSegment(int number) {
+        try {
+            Segment segment = Segment.open(directory.resolve(segmentFileName(number)), number, segmentSize);
+            segments.put(number, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create notification journal segment " + number, e);
+        }
+    }
+
+    private static String segmentFileName(int number) {
+        return String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX);
+    }
+
+    private static int segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private record RecordRef(int segment, int offset) {
+        boolean isAfter(RecordRef other) {
+            return segment != other.segment ? segment > other.segment : offset > other.offset;
+        }
+    }
+
+    /**
+     * One journal file, mapped in full. Bytes past {@code limit} are zero, which marks the end of data.
+     * {@code sealedAtMillis} is when the segment was last written, or {@code Long.MAX_VALUE} while it
+     * is still the active one.
+     */
+    private static final class Segment {
+        private final int number;
+        private final MappedByteBuffer mapping;
+        private int limit;
+        private volatile long sealedAtMillis = Long.MAX_VALUE;
+
+        private Segment(int number, MappedByteBuffer mapping) {
+            this.number = number;
+            this.mapping = mapping;
+        }
+
+        static Segment open(Path file, int number, int segmentSize) throws IOException {
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                int size = (int) Math.max(channel.size(), segmentSize);
+                // The mapping stays valid after the channel is closed
+                return new Segment(number, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+        }
+
+        RecordRef append(byte[] record) {
+            int offset = limit;
+            mapping.put(offset, record);
+            limit = offset + record.length;
+            return new RecordRef(number, offset);
+        }
+
+        void clearFrom(int offset) {
+            byte[] zeros = new byte[4096];
+            for (int position = offset; position < mapping.capacity(); position += zeros.length) {
+                int length = Math.min(zeros.length, mapping.capacity() - position);
+                if (isZero(position, length)) {
+                    break;
+                }
+                mapping.put(position, zeros, 0, length);
+            }
+            mapping.force();
+        }
+
+        private boolean isZero(int position, int length) {
+            for (int i = position; i < position + length; i++) {
+                if (mapping.get(i) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Position of a log in the history: newest first, ties broken by id so every log has its own key.
+ */
+record HistoryKey(LocalDateTime sentAt, String id) {
+    static final Comparator<HistoryKey> NEWEST_FIRST = Comparator
+            .comparing(HistoryKey::sentAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(HistoryKey::id);
+
+    static HistoryKey of(NotificationLog log) {
+        return new HistoryKey(log.getSentAt(), log.getId());
+    }
+}
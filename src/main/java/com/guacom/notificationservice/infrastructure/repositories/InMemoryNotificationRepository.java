@@ -1,46 +1,334 @@
 package com.guacom.notificationservice.infrastructure.repositories;
 
 import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
 import com.guacom.notificationservice.domain.interfaces.NotificationRepository;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
 
+/**
+ * Keeps the log in time buckets of {@code notification.retention.segment-duration}. Each segment holds
+ * its own indexes, so expiring old notifications, by age or because the log grew past
+ * {@code max-records}, drops whole segments instead of scanning for individual entries.
+ * <p>
+ * Logs are stored normalized: a segment keeps every message and user snapshot once, and a row only
+ * references them by dictionary id, so a broadcast to many users does not copy the message content
+ * into every row. {@link NotificationLog}s are rebuilt from the row and its snapshots on read.
+ * <p>
+ * A single id index points every log at its segment. Saves of one id are serialized on its index
+ * entry, and a segment is dropped under the same guard its puts take, so a log saved while its
+ * segment expires is either dropped with it or lands in a fresh segment, never lost from the count.
+ */
 @Repository
+@ConditionalOnProperty(name = "notification.storage.type", havingValue = "memory", matchIfMissing = true)
 public class InMemoryNotificationRepository implements NotificationRepository {
-    private final Map<String, NotificationLog> notifications = new ConcurrentHashMap<>();
+    private static final Logger logger = Logger.getLogger(InMemoryNotificationRepository.class.getName());
+
+    // Newest segment first; keys are bucket numbers, i.e. sentAt epoch seconds / segment length
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+    private final Map<String, Segment> segmentById = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+    private final long segmentSeconds;
+    private final Duration maxAge;
+    private final long maxRecords;
+
+    public InMemoryNotificationRepository() {
+        this(new NotificationProperties.Retention());
+    }
+
+    @Autowired
+    public InMemoryNotificationRepository(NotificationProperties properties) {
+        this(properties.getRetention());
+    }
+
+    public InMemoryNotificationRepository(NotificationProperties.Retention retention) {
+        if (retention.getSegmentDuration().getSeconds() < 1) {
+            throw new IllegalArgumentException("Segment duration must be at least one second");
+        }
+        this.segmentSeconds = retention.getSegmentDuration().getSeconds();
+        this.maxAge = retention.getMaxAge();
+        this.maxRecords = retention.getMaxRecords();
+    }
 
     @Override
     public void save(NotificationLog log) {
-        notifications.put(log.getId(), log);
+        long bucket = bucketOf(log.getSentAt());
+        Segment target;
+        // Only retried when retention dropped the segment between looking it up and putting into it
+        do {
+            target = segments.computeIfAbsent(bucket, Segment::new);
+        } while (!save(target, log));
+        enforceRetention();
     }
 
     @Override
     public Optional<NotificationLog> findById(String id) {
-        return Optional.ofNullable(notifications.get(id));
+        Segment segment = segmentById.get(id);
+        LogRow row = segment == null ? null : segment.rows.get(id);
+        return row == null ? Optional.empty() : Optional.of(segment.toLog(row));
     }
 
     @Override
     public List<NotificationLog> findAll() {
-        return new ArrayList<>(notifications.values());
+        List<NotificationLog> all = new ArrayList<>();
+        segments.values().forEach(segment -> segment.rows.values().forEach(row -> all.add(segment.toLog(row))));
+        return all;
     }
 
     @Override
     public List<NotificationLog> findAllOrderByCreatedDateDesc() {
-        return notifications.values().stream()
-                .sorted((a, b) -> b.getSentAt().compareTo(a.getSentAt()))
-                .collect(Collectors.toList());
+        List<NotificationLog> all = new ArrayList<>();
+        segments.values().forEach(segment -> segment.history.values().forEach(row -> all.add(segment.toLog(row))));
+        return all;
+    }
+
+    @Override
+    public List<NotificationLog> findPageOrderByCreatedDateDesc(LocalDateTime afterSentAt, String afterId, int limit) {
+        List<NotificationLog> page = new ArrayList<>(Math.min(limit, 256));
+        if (afterId == null) {
+            collect(segments.values(), null, limit, page);
+        } else {
+            HistoryKey after = new HistoryKey(afterSentAt, afterId);
+            collect(segments.tailMap(bucketOf(afterSentAt), true).values(), after, limit, page);
+        }
+        return page;
     }
 
     @Override
     public List<NotificationLog> findByUserId(String userId) {
-        return notifications.values().stream()
-                .filter(log -> log.getUserId().equals(userId))
-                .sorted((a, b) -> b.getSentAt().compareTo(a.getSentAt()))
-                .collect(Collectors.toList());
+        List<NotificationLog> userLogs = new ArrayList<>();
+        for (Segment segment : segments.values()) {
+            NavigableMap<HistoryKey, LogRow> userHistory = segment.historyByUser.get(userId);
+            if (userHistory != null) {
+                userHistory.values().forEach(row -> userLogs.add(segment.toLog(row)));
+            }
+        }
+        return userLogs;
+    }
+
+    public long count() {
+        return size.get();
+    }
+
+    /**
+     * Puts the log into {@code target} and takes it out of the segment it was in before, while
+     * holding the id's index entry.
+     *
+     * @return false when {@code target} had been dropped and nothing changed
+     */
+    private boolean save(Segment target, NotificationLog log) {
+        boolean[] saved = new boolean[1];
+        segmentById.compute(log.getId(), (id, current) -> {
+            if (!target.put(log, size)) {
+                return current;
+            }
+            if (current != null && current != target) {
+                current.remove(id, size);
+            }
+            saved[0] = true;
+            return target;
+        });
+        return saved[0];
+    }
+
+    private void collect(Iterable<Segment> newestFirst, HistoryKey after, int limit, List<NotificationLog> page) {
+        for (Segment segment : newestFirst) {
+            NavigableMap<HistoryKey, LogRow> remaining = after == null
+                    ? segment.history
+                    : segment.history.tailMap(after, false);
+            for (LogRow row : remaining.values()) {
+                if (page.size() == limit) {
+                    return;
+                }
+                page.add(segment.toLog(row));
+            }
+        }
+    }
+
+    /**
+     * Drops the oldest segments while they are past {@code maxAge} or the log holds more than
+     * {@code maxRecords}. The newest segment is never dropped for size, so a burst inside a single
+     * segment can temporarily exceed the record limit.
+     */
+    private void enforceRetention() {
+        long expiredBefore = bucketOf(LocalDateTime.now().minus(maxAge));
+        Map.Entry<Long, Segment> oldest;
+        while ((oldest = segments.lastEntry()) != null) {
+            boolean expired = oldest.getKey() < expiredBefore;
+            boolean overCapacity = size.get() > maxRecords && segments.size() > 1;
+            if (!expired && !overCapacity) {
+                return;
+            }
+            Segment segment = oldest.getValue();
+            if (segments.remove(oldest.getKey(), segment)) {
+                int dropped = segment.drop(size);
+                // Outside the segment's guard: saves hold an id's index entry while they take it
+                segment.rows.keySet().forEach(id -> segmentById.remove(id, segment));
+                logger.info(String.format("Dropped notification log segment %s with %d records",
+                        segment.start(segmentSeconds), dropped));
+            }
+        }
+    }
+
+    private long bucketOf(LocalDateTime sentAt) {
+        LocalDateTime time = sentAt == null ? LocalDateTime.now() : sentAt;
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), segmentSeconds);
+    }
+
+    /**
+     * All notifications sent within one bucket, with the same indexes the repository exposes:
+     * by id, newest first, and newest first per user. The dictionaries live and expire with the segment.
+     */
+    private static final class Segment {
+        private final long bucket;
+        private final SnapshotDictionary<MessageSnapshot> messages = new SnapshotDictionary<>();
+        private final SnapshotDictionary<UserSnapshot> users = new SnapshotDictionary<>();
+        private final Map<String, LogRow> rows = new ConcurrentHashMap<>();
+        private final NavigableMap<HistoryKey, LogRow> history = new ConcurrentSkipListMap<>(HistoryKey.NEWEST_FIRST);
+        private final Map<String, NavigableMap<HistoryKey, LogRow>> historyByUser = new ConcurrentHashMap<>();
+        private final AtomicInteger count = new AtomicInteger();
+        // Puts and removes share the read side, dropping the segment takes the write side
+        private final ReadWriteLock guard = new ReentrantReadWriteLock();
+        private boolean dropped;
+
+        Segment(long bucket) {
+            this.bucket = bucket;
+        }
+
+        /**
+         * Adds the log, or replaces the row of its id, counting new rows in {@code size}.
+         *
+         * @return false when the segment has been dropped and the log was not added
+         */
+        boolean put(NotificationLog log, AtomicLong size) {
+            LogRow row = new LogRow(log.getId(),
+                    messages.idOf(new MessageSnapshot(log.getMessageId(), log.getMessageCategory(), log.getMessageContent())),
+                    users.idOf(new UserSnapshot(log.getUserId(), log.getUserName(), log.getUserEmail(), log.getUserPhone())),
+                    log.getChannel(), log.getStatus(), log.getSentAt(), log.getDeliveredAt(),
+                    log.getErrorMessage(), log.getExternalMessageId());
+
+            guard.readLock().lock();
+            try {
+                if (dropped) {
+                    return false;
+                }
+                LogRow previous = rows.put(row.id(), row);
+                if (previous != null) {
+                    unindex(previous);
+                } else {
+                    count.incrementAndGet();
+                    size.incrementAndGet();
+                }
+                index(row);
+                return true;
+            } finally {
+                guard.readLock().unlock();
+            }
+        }
+
+        void remove(String id, AtomicLong size) {
+            guard.readLock().lock();
+            try {
+                LogRow previous = dropped ? null : rows.remove(id);
+                if (previous != null) {
+                    unindex(previous);
+                    count.decrementAndGet();
+                    size.decrementAndGet();
+                }
+            } finally {
+                guard.readLock().unlock();
+            }
+        }
+
+        /**
+         * Stops further puts and takes the segment's rows out of {@code size}.
+         *
+         * @return the number of rows dropped
+         */
+        int drop(AtomicLong size) {
+            guard.writeLock().lock();
+            try {
+                dropped = true;
+                size.addAndGet(-count.get());
+                return count.get();
+            } finally {
+                guard.writeLock().unlock();
+            }
+        }
+
+        NotificationLog toLog(LogRow row) {
+            MessageSnapshot message = messages.get(row.message());
+            UserSnapshot user = users.get(row.user());
+            return NotificationLog.builder()
+                    .id(row.id())
+                    .messageId(message.messageId())
+                    .userId(user.userId())
+                    .userName(user.name())
+                    .userEmail(user.email())
+                    .userPhone(user.phone())
+                    .messageCategory(message.category())
+                    .messageContent(message.content())
+                    .channel(row.channel())
+                    .status(row.status())
+                    .sentAt(row.sentAt())
+                    .deliveredAt(row.deliveredAt())
+                    .errorMessage(row.errorMessage())
+                    .externalMessageId(row.externalMessageId())
+                    .build();
+        }
+
+        LocalDateTime start(long segmentSeconds) {
+            return LocalDateTime.ofEpochSecond(bucket * segmentSeconds, 0, ZoneOffset.UTC);
+        }
+
+        private void index(LogRow row) {
+            HistoryKey key = new HistoryKey(row.sentAt(), row.id());
+            history.put(key, row);
+            historyByUser.computeIfAbsent(users.get(row.user()).userId(), userId -> new ConcurrentSkipListMap<>(HistoryKey.NEWEST_FIRST))
+                    .put(key, row);
+        }
+
+        private void unindex(LogRow row) {
+            HistoryKey key = new HistoryKey(row.sentAt(), row.id());
+            history.remove(key);
+            NavigableMap<HistoryKey, LogRow> userHistory = historyByUser.get(users.get(row.user()).userId());
+            if (userHistory != null) {
+                userHistory.remove(key);
+            }
+        }
+    }
+
+    /**
+     * What is left of a log once the message and the user are replaced by their dictionary ids.
+     */
+    private record LogRow(String id, int message, int user, NotificationChannel channel, NotificationStatus status,
+                          LocalDateTime sentAt, LocalDateTime deliveredAt, String errorMessage,
+                          String externalMessageId) {
+    }
+
+    private record MessageSnapshot(String messageId, MessageCategory category, String content) {
+    }
+
+    private record UserSnapshot(String userId, String name, String email, String phone) {
     }
 }
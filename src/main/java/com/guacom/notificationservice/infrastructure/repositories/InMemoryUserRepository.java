@@ -9,17 +9,32 @@ import org.springframework.stereotype.Repository;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 @Repository
 public class InMemoryUserRepository implements UserRepository {
+    private static final MessageCategory[] CATEGORIES = MessageCategory.values();
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+    private static final int INITIAL_CAPACITY = 64;
+
     private final Map<String, User> users = new ConcurrentHashMap<>();
 
+    // Every stored user owns a dense ordinal; audiences are bitmaps over those ordinals, one per
+    // category and one per channel, so a (category, channel) audience is a word-by-word AND.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private User[] usersByOrdinal = new User[INITIAL_CAPACITY];
+    private int ordinalLimit;
+    private final long[][] categoryBits = new long[CATEGORIES.length][INITIAL_CAPACITY / Long.SIZE];
+    private final long[][] channelBits = new long[CHANNELS.length][INITIAL_CAPACITY / Long.SIZE];
+
     @PostConstruct
     public void initializeData() {
         // Pre-populate with mock users
         List<User> mockUsers = createMockUsers();
-        mockUsers.forEach(user -> users.put(user.getId(), user));
+        mockUsers.forEach(this::save);
     }
 
     @Override
@@ -34,19 +49,68 @@ public class InMemoryUserRepository implements UserRepository {
 
     @Override
     public List<User> findBySubscribedCategory(MessageCategory category) {
-        return users.values().stream()
-                .filter(user -> user.isSubscribedToCategory(category))
-                .collect(Collectors.toList());
+        lock.readLock().lock();
+        try {
+            return collect(categoryBits[category.ordinal()], null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> findBySubscribedCategoryAndChannel(MessageCategory category, NotificationChannel channel) {
+        lock.readLock().lock();
+        try {
+            return collect(categoryBits[category.ordinal()], channelBits[channel.ordinal()]);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public void save(User user) {
-        users.put(user.getId(), user);
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(user.getId());
+            if (ordinal == null) {
+                ordinal = freeOrdinals.isEmpty() ? ordinalLimit++ : freeOrdinals.pop();
+                ensureCapacity(ordinal + 1);
+                ordinals.put(user.getId(), ordinal);
+            }
+            // The user may have been mutated since it was last saved, so every bit is recomputed
+            for (MessageCategory category : CATEGORIES) {
+                assign(categoryBits[category.ordinal()], ordinal, user.isSubscribedToCategory(category));
+            }
+            for (NotificationChannel channel : CHANNELS) {
+                assign(channelBits[channel.ordinal()], ordinal, user.hasPreferredChannel(channel));
+            }
+            usersByOrdinal[ordinal] = user;
+            users.put(user.getId(), user);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void deleteById(String id) {
-        users.remove(id);
+        lock.writeLock().lock();
+        try {
+            users.remove(id);
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            for (long[] bits : categoryBits) {
+                assign(bits, ordinal, false);
+            }
+            for (long[] bits : channelBits) {
+                assign(bits, ordinal, false);
+            }
+            usersByOrdinal[ordinal] = null;
+            freeOrdinals.push(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -54,6 +118,51 @@ public class InMemoryUserRepository implements UserRepository {
         return users.size();
     }
 
+    /**
+     * Users whose ordinal is set in {@code bits}, intersected with {@code mask} when one is given.
+     */
+    private List<User> collect(long[] bits, long[] mask) {
+        int words = (ordinalLimit + Long.SIZE - 1) / Long.SIZE;
+        int size = 0;
+        for (int w = 0; w < words; w++) {
+            size += Long.bitCount(mask == null ? bits[w] : bits[w] & mask[w]);
+        }
+
+        List<User> result = new ArrayList<>(size);
+        for (int w = 0; w < words; w++) {
+            long word = mask == null ? bits[w] : bits[w] & mask[w];
+            while (word != 0) {
+                result.add(usersByOrdinal[w * Long.SIZE + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    private static void assign(long[] bits, int ordinal, boolean value) {
+        long bit = 1L << ordinal;
+        if (value) {
+            bits[ordinal / Long.SIZE] |= bit;
+        } else {
+            bits[ordinal / Long.SIZE] &= ~bit;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= usersByOrdinal.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, usersByOrdinal.length * 2);
+        usersByOrdinal = Arrays.copyOf(usersByOrdinal, newCapacity);
+        int words = (newCapacity + Long.SIZE - 1) / Long.SIZE;
+        for (int i = 0; i < categoryBits.length; i++) {
+            categoryBits[i] = Arrays.copyOf(categoryBits[i], words);
+        }
+        for (int i = 0; i < channelBits.length; i++) {
+            channelBits[i] = Arrays.copyOf(channelBits[i], words);
+        }
+    }
+
     private List<User> createMockUsers() {
         return Arrays.asList(
                 new User("user-1", "John Smith", "john.smith@email.com", "+1-555-0101",
@@ -0,0 +1,173 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+
+/**
+ * Binary form of a {@link NotificationLog} in the journal:
+ * <pre>
+ * int payloadLength | int crc32(payload) | payload
+ * </pre>
+ * The payload holds the fields in declaration order. Strings are an int byte length (-1 for null)
+ * followed by UTF-8 bytes, enums a byte ordinal (-1 for null) and timestamps epoch seconds plus
+ * nanos, so a decoded log is equal to the one that was written.
+ */
+final class NotificationLogCodec {
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private static final MessageCategory[] CATEGORIES = MessageCategory.values();
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+    private static final NotificationStatus[] STATUSES = NotificationStatus.values();
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private NotificationLogCodec() {
+    }
+
+    static byte[] encode(NotificationLog log) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0);
+            out.writeInt(0);
+            writeString(out, log.getId());
+            writeString(out, log.getMessageId());
+            writeString(out, log.getUserId());
+            writeString(out, log.getUserName());
+            writeString(out, log.getUserEmail());
+            writeString(out, log.getUserPhone());
+            writeEnum(out, log.getMessageCategory());
+            writeString(out, log.getMessageContent());
+            writeEnum(out, log.getChannel());
+            writeEnum(out, log.getStatus());
+            writeTime(out, log.getSentAt());
+            writeTime(out, log.getDeliveredAt());
+            writeString(out, log.getErrorMessage());
+            writeString(out, log.getExternalMessageId());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] record = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(record, HEADER_BYTES, record.length - HEADER_BYTES);
+        ByteBuffer header = ByteBuffer.wrap(record);
+        header.putInt(0, record.length - HEADER_BYTES);
+        header.putInt(Integer.BYTES, (int) crc.getValue());
+        return record;
+    }
+
+    /**
+     * Total length of the record starting at {@code offset}, or -1 when there is no complete, intact
+     * record before {@code limit}: end of data, a torn write or a corrupted payload.
+     */
+    static int recordLength(ByteBuffer buffer, int offset, int limit) {
+        if (offset + HEADER_BYTES > limit) {
+            return -1;
+        }
+        int payloadLength = buffer.getInt(offset);
+        if (payloadLength <= 0 || payloadLength > limit - offset - HEADER_BYTES) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate()
+                .limit(offset + HEADER_BYTES + payloadLength)
+                .position(offset + HEADER_BYTES));
+        if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+            return -1;
+        }
+        return HEADER_BYTES + payloadLength;
+    }
+
+    /**
+     * Decodes the record starting at {@code offset} using absolute reads only, so any number of
+     * threads can decode from the same buffer.
+     */
+    static NotificationLog decode(ByteBuffer buffer, int offset) {
+        Reader in = new Reader(buffer, offset + HEADER_BYTES);
+        return NotificationLog.builder()
+                .id(in.readString())
+                .messageId(in.readString())
+                .userId(in.readString())
+                .userName(in.readString())
+                .userEmail(in.readString())
+                .userPhone(in.readString())
+                .messageCategory(in.readEnum(CATEGORIES))
+                .messageContent(in.readString())
+                .channel(in.readEnum(CHANNELS))
+                .status(in.readEnum(STATUSES))
+                .sentAt(in.readTime())
+                .deliveredAt(in.readTime())
+                .errorMessage(in.readString())
+                .externalMessageId(in.readString())
+                .build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        out.writeByte(value == null ? -1 : value.ordinal());
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.writeLong(NO_TIME);
+            out.writeInt(0);
+            return;
+        }
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private int position;
+
+        Reader(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        String readString() {
+            int length = buffer.getInt(position);
+            position += Integer.BYTES;
+            if (length < 0) {
+                return null;
+            }
+            byte[] utf8 = new byte[length];
+            buffer.get(position, utf8);
+            position += length;
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        <E extends Enum<E>> E readEnum(E[] values) {
+            byte ordinal = buffer.get(position++);
+            return ordinal < 0 ? null : values[ordinal];
+        }
+
+        LocalDateTime readTime() {
+            long seconds = buffer.getLong(position);
+            int nanos = buffer.getInt(position + Long.BYTES);
+            position += Long.BYTES + Integer.BYTES;
+            return seconds == NO_TIME ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        }
+    }
+}
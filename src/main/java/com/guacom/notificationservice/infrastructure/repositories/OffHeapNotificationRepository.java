@@ -0,0 +1,790 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
+import com.guacom.notificationservice.domain.interfaces.NotificationRepository;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+/**
+ * Notification log kept outside the Java heap, so millions of history rows add nothing for the
+ * garbage collector to trace or promote.
+ * <p>
+ * Rows are appended to chunks of {@code chunk-rows} rows. A chunk stores every field in its own
+ * fixed-width column in a direct buffer: string references as longs, enums as byte ordinals and
+ * timestamps as epoch millis (so reads return times truncated to the millisecond). Strings live in
+ * the chunk's arena of direct buffers; message and user snapshots are written there once per chunk
+ * and shared by reference. On the heap only primitive indexes remain: an open-addressing table from
+ * id to row and, per user, the newest row, with older rows of that user chained through a column.
+ * <p>
+ * Reads walk the columns through a {@link NotificationLogView} and materialize only the logs they
+ * return. Retention drops whole chunks, oldest first, by {@code max-age} and {@code max-records};
+ * the chunk being appended to is never dropped.
+ */
+@Repository
+@ConditionalOnProperty(name = "notification.storage.type", havingValue = "off-heap")
+public class OffHeapNotificationRepository implements NotificationRepository {
+    private static final Logger logger = Logger.getLogger(OffHeapNotificationRepository.class.getName());
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final long NULL_REF = -1;
+    private static final long EMPTY = -1;
+    private static final long TOMBSTONE = -2;
+    private static final MessageCategory[] CATEGORIES = MessageCategory.values();
+    private static final NotificationChannel[] CHANNELS = NotificationChannel.values();
+    private static final NotificationStatus[] STATUSES = NotificationStatus.values();
+
+    private final int chunkRows;
+    private final int arenaBlockSize;
+    private final Duration maxAge;
+    private final long maxRecords;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final Map<String, Long> newestRowByUser = new HashMap<>();
+    private long droppedChunks;
+    private long nextRow;
+    private long liveRows;
+
+    // Open-addressing id index: global row numbers, with the id hash kept alongside to skip arena reads
+    private long[] idRows = newIdTable(1024);
+    private int[] idHashes = new int[1024];
+    private int idCount;
+    private int idTombstones;
+
+    @Autowired
+    public OffHeapNotificationRepository(NotificationProperties properties) {
+        this(properties.getStorage().getOffHeap(), properties.getRetention());
+    }
+
+    public OffHeapNotificationRepository(NotificationProperties.OffHeap offHeap, NotificationProperties.Retention retention) {
+        long blockBytes = offHeap.getArenaBlockSize().toBytes();
+        if (offHeap.getChunkRows() < 1) {
+            throw new IllegalArgumentException("Off-heap chunk rows must be at least 1");
+        }
+        if (blockBytes < 1024 || blockBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Off-heap arena block size must be between 1KB and 2GB");
+        }
+        this.chunkRows = offHeap.getChunkRows();
+        this.arenaBlockSize = (int) blockBytes;
+        this.maxAge = retention.getMaxAge();
+        this.maxRecords = retention.getMaxRecords();
+    }
+
+    @Override
+    public void save(NotificationLog log) {
+        saveAll(List.of(log));
+    }
+
+    @Override
+    public void saveAll(List<NotificationLog> logs) {
+        lock.writeLock().lock();
+        try {
+            for (NotificationLog log : logs) {
+                append(log);
+            }
+            enforceRetention();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<NotificationLog> findById(String id) {
+        lock.readLock().lock();
+        try {
+            int index = findIdIndex(id, utf8(id));
+            return index < 0 ? Optional.empty() : Optional.of(view(idRows[index]).toLog());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<NotificationLog> findAll() {
+        lock.readLock().lock();
+        try {
+            List<NotificationLog> all = new ArrayList<>((int) liveRows);
+            NotificationLogView view = new NotificationLogView();
+            for (Chunk chunk : chunks) {
+                for (int slot = 0; slot < chunk.size; slot++) {
+                    if (!chunk.isSuperseded(slot)) {
+                        all.add(view.moveTo(chunk, slot).toLog());
+                    }
+                }
+            }
+            return all;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<NotificationLog> findAllOrderByCreatedDateDesc() {
+        return findPageOrderByCreatedDateDesc(null, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Merges the chunks' newest-first orders. Chunks are opened in order of their newest row and only
+     * once that row could come next, so a page near the top of the history touches few chunks.
+     */
+    @Override
+    public List<NotificationLog> findPageOrderByCreatedDateDesc(LocalDateTime afterSentAt, String afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            long afterMillis = afterId == null ? NO_TIME : toMillis(afterSentAt);
+            ByteBuffer afterKey = afterId == null ? null : ByteBuffer.wrap(Arena.encode(utf8(afterId)));
+            List<Chunk> pending = new ArrayList<>(chunks);
+            pending.sort(Comparator.comparingLong((Chunk chunk) -> chunk.maxSentAt).reversed());
+
+            PriorityQueue<ChunkCursor> heads = new PriorityQueue<>();
+            List<NotificationLog> page = new ArrayList<>(Math.min(limit, 256));
+            NotificationLogView view = new NotificationLogView();
+            int next = 0;
+            while (page.size() < limit) {
+                while (next < pending.size()
+                        && (heads.isEmpty() || pending.get(next).maxSentAt >= heads.peek().sentAt)) {
+                    ChunkCursor cursor = new ChunkCursor(pending.get(next++), afterMillis, afterKey);
+                    if (cursor.hasCurrent()) {
+                        heads.add(cursor);
+                    }
+                }
+                ChunkCursor head = heads.poll();
+                if (head == null) {
+                    break;
+                }
+                if (!head.chunk.isSuperseded(head.slot())) {
+                    page.add(view.moveTo(head.chunk, head.slot()).toLog());
+                }
+                head.advance();
+                if (head.hasCurrent()) {
+                    heads.add(head);
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<NotificationLog> findByUserId(String userId) {
+        lock.readLock().lock();
+        try {
+            List<Long> rows = new ArrayList<>();
+            boolean ordered = true;
+            Long newest = newestRowByUser.get(userId);
+            long firstRow = droppedChunks * chunkRows;
+            for (long row = newest == null ? NULL_REF : newest; row >= firstRow; ) {
+                Chunk chunk = chunkOf(row);
+                int slot = slotOf(row);
+                if (!chunk.isSuperseded(slot)) {
+                    ordered &= rows.isEmpty() || compareRows(rows.get(rows.size() - 1), row) <= 0;
+                    rows.add(row);
+                }
+                row = chunk.previousUserRows.get(slot);
+            }
+            // Rows are chained in insertion order, which only approximates send time
+            if (!ordered) {
+                rows.sort(this::compareRows);
+            }
+            List<NotificationLog> userLogs = new ArrayList<>(rows.size());
+            NotificationLogView view = new NotificationLogView();
+            for (long row : rows) {
+                userLogs.add(view.moveTo(chunkOf(row), slotOf(row)).toLog());
+            }
+            return userLogs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return liveRows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void append(NotificationLog log) {
+        if (log.getId() == null) {
+            throw new IllegalArgumentException("Notification log id is required");
+        }
+        byte[] id = utf8(log.getId());
+        int hash = log.getId().hashCode();
+        int existing = findIdIndex(log.getId(), id);
+        if (existing >= 0) {
+            long previous = idRows[existing];
+            chunkOf(previous).markSuperseded(slotOf(previous));
+            liveRows--;
+        }
+
+        Chunk chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if (chunk == null || chunk.size == chunkRows) {
+            if (chunk != null) {
+                chunk.seal();
+            }
+            chunk = new Chunk(chunkRows, arenaBlockSize);
+            chunks.add(chunk);
+        }
+
+        long row = nextRow++;
+        Long previousUserRow = newestRowByUser.get(log.getUserId());
+        chunk.append(log, id, hash, previousUserRow == null ? NULL_REF : previousUserRow);
+        newestRowByUser.put(log.getUserId(), row);
+        liveRows++;
+
+        if (existing >= 0) {
+            idRows[existing] = row;
+        } else {
+            insertId(hash, row);
+        }
+    }
+
+    private void enforceRetention() {
+        long expiredBefore = toMillis(LocalDateTime.now().minus(maxAge));
+        while (chunks.size() > 1) {
+            Chunk oldest = chunks.get(0);
+            boolean expired = oldest.maxSentAt < expiredBefore;
+            boolean overCapacity = liveRows > maxRecords;
+            if (!expired && !overCapacity) {
+                return;
+            }
+            drop(oldest);
+        }
+    }
+
+    private void drop(Chunk chunk) {
+        long firstRow = droppedChunks * chunkRows;
+        int dropped = 0;
+        for (int slot = 0; slot < chunk.size; slot++) {
+            if (!chunk.isSuperseded(slot)) {
+                removeId(chunk.idHashes.get(slot), firstRow + slot);
+                dropped++;
+            }
+        }
+        chunks.remove(0);
+        droppedChunks++;
+        liveRows -= dropped;
+        long firstLiveRow = droppedChunks * chunkRows;
+        newestRowByUser.values().removeIf(row -> row < firstLiveRow);
+        logger.info(String.format("Dropped off-heap notification log chunk with %d records", dropped));
+    }
+
+    private NotificationLogView view(long row) {
+        return new NotificationLogView().moveTo(chunkOf(row), slotOf(row));
+    }
+
+    private Chunk chunkOf(long row) {
+        return chunks.get((int) (row / chunkRows - droppedChunks));
+    }
+
+    private int slotOf(long row) {
+        return (int) (row % chunkRows);
+    }
+
+    private int compareRows(long rowA, long rowB) {
+        return compareNewestFirst(chunkOf(rowA), slotOf(rowA), chunkOf(rowB), slotOf(rowB));
+    }
+
+    private int findIdIndex(String id, byte[] utf8) {
+        int hash = id.hashCode();
+        int mask = idRows.length - 1;
+        for (int index = spread(hash) & mask; ; index = (index + 1) & mask) {
+            long row = idRows[index];
+            if (row == EMPTY) {
+                return -1;
+            }
+            if (row != TOMBSTONE && idHashes[index] == hash) {
+                Chunk chunk = chunkOf(row);
+                if (chunk.arena.stringEquals(chunk.idRefs.get(slotOf(row)), utf8)) {
+                    return index;
+                }
+            }
+        }
+    }
+
+    private void insertId(int hash, long row) {
+        if ((idCount + idTombstones + 1) * 4L > idRows.length * 3L) {
+            // Double only when live entries need it; otherwise rehashing just clears tombstones
+            resizeIdTable(idCount * 2 >= idRows.length ? idRows.length * 2 : idRows.length);
+        }
+        int mask = idRows.length - 1;
+        int index = spread(hash) & mask;
+        while (idRows[index] >= 0) {
+            index = (index + 1) & mask;
+        }
+        if (idRows[index] == TOMBSTONE) {
+            idTombstones--;
+        }
+        idRows[index] = row;
+        idHashes[index] = hash;
+        idCount++;
+    }
+
+    private void removeId(int hash, long row) {
+        int mask = idRows.length - 1;
+        for (int index = spread(hash) & mask; idRows[index] != EMPTY; index = (index + 1) & mask) {
+            if (idRows[index] == row) {
+                idRows[index] = TOMBSTONE;
+                idCount--;
+                idTombstones++;
+                return;
+            }
+        }
+    }
+
+    private void resizeIdTable(int capacity) {
+        long[] oldRows = idRows;
+        int[] oldHashes = idHashes;
+        idRows = newIdTable(capacity);
+        idHashes = new int[capacity];
+        idTombstones = 0;
+        int mask = capacity - 1;
+        for (int i = 0; i < oldRows.length; i++) {
+            if (oldRows[i] >= 0) {
+                int index = spread(oldHashes[i]) & mask;
+                while (idRows[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                idRows[index] = oldRows[i];
+                idHashes[index] = oldHashes[i];
+            }
+        }
+    }
+
+    private static long[] newIdTable(int capacity) {
+        long[] table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? NO_TIME : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return millis == NO_TIME ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    /**
+     * Newest first, ties by id, compared in place in the arenas.
+     */
+    private static int compareNewestFirst(Chunk chunkA, int slotA, Chunk chunkB, int slotB) {
+        int byTime = Long.compare(chunkB.sentAt.get(slotB), chunkA.sentAt.get(slotA));
+        return byTime != 0
+                ? byTime
+                : Arena.compare(chunkA.arena, chunkA.idRefs.get(slotA), chunkB.arena, chunkB.idRefs.get(slotB));
+    }
+
+    /**
+     * Reads the columns of one row in place. A single view is moved from row to row while scanning,
+     * and only {@link #toLog()} allocates.
+     */
+    static final class NotificationLogView {
+        private Chunk chunk;
+        private int slot;
+
+        NotificationLogView moveTo(Chunk chunk, int slot) {
+            this.chunk = chunk;
+            this.slot = slot;
+            return this;
+        }
+
+        String id() {
+            return chunk.arena.getString(chunk.idRefs.get(slot));
+        }
+
+        long sentAtMillis() {
+            return chunk.sentAt.get(slot);
+        }
+
+        NotificationChannel channel() {
+            byte ordinal = chunk.channels.get(slot);
+            return ordinal < 0 ? null : CHANNELS[ordinal];
+        }
+
+        NotificationStatus status() {
+            byte ordinal = chunk.statuses.get(slot);
+            return ordinal < 0 ? null : STATUSES[ordinal];
+        }
+
+        NotificationLog toLog() {
+            Arena arena = chunk.arena;
+            long message = chunk.messageRefs.get(slot);
+            long messageCategory = arena.next(message);
+            byte category = arena.getByte(messageCategory);
+            long user = chunk.userRefs.get(slot);
+            long userName = arena.next(user);
+            long userEmail = arena.next(userName);
+            long userPhone = arena.next(userEmail);
+            return NotificationLog.builder()
+                    .id(id())
+                    .messageId(arena.getString(message))
+                    .userId(arena.getString(user))
+                    .userName(arena.getString(userName))
+                    .userEmail(arena.getString(userEmail))
+                    .userPhone(arena.getString(userPhone))
+                    .messageCategory(category < 0 ? null : CATEGORIES[category])
+                    .messageContent(arena.getString(messageCategory + 1))
+                    .channel(channel())
+                    .status(status())
+                    .sentAt(fromMillis(sentAtMillis()))
+                    .deliveredAt(fromMillis(chunk.deliveredAt.get(slot)))
+                    .errorMessage(arena.getString(chunk.errorRefs.get(slot)))
+                    .externalMessageId(arena.getString(chunk.externalIdRefs.get(slot)))
+                    .build();
+        }
+    }
+
+    /**
+     * Position in one chunk's newest-first order during a page merge.
+     */
+    private static final class ChunkCursor implements Comparable<ChunkCursor> {
+        private final Chunk chunk;
+        private final int size;
+        private int position;
+        private int slot;
+        private long sentAt;
+
+        /**
+         * @param afterId encoded like an arena string, or null to start at the newest row
+         */
+        ChunkCursor(Chunk chunk, long afterMillis, ByteBuffer afterId) {
+            this.chunk = chunk;
+            this.size = chunk.size;
+            this.position = afterId == null ? 0 : firstAfter(afterMillis, afterId);
+            load();
+        }
+
+        boolean hasCurrent() {
+            return position < size;
+        }
+
+        int slot() {
+            return slot;
+        }
+
+        void advance() {
+            position++;
+            load();
+        }
+
+        @Override
+        public int compareTo(ChunkCursor other) {
+            return compareNewestFirst(chunk, slot, other.chunk, other.slot);
+        }
+
+        private void load() {
+            if (hasCurrent()) {
+                slot = chunk.newestFirst(position);
+                sentAt = chunk.sentAt.get(slot);
+            }
+        }
+
+        private int firstAfter(long afterMillis, ByteBuffer afterId) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                int candidate = chunk.newestFirst(middle);
+                int byTime = Long.compare(afterMillis, chunk.sentAt.get(candidate));
+                int order = byTime != 0 ? byTime : chunk.arena.compare(chunk.idRefs.get(candidate), afterId);
+                if (order <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Up to {@code chunkRows} rows in direct-buffer columns, plus the arena their strings live in.
+     */
+    static final class Chunk {
+        private final Arena arena;
+        private final LongBuffer idRefs;
+        private final IntBuffer idHashes;
+        private final LongBuffer messageRefs;
+        private final LongBuffer userRefs;
+        private final LongBuffer sentAt;
+        private final LongBuffer deliveredAt;
+        private final LongBuffer errorRefs;
+        private final LongBuffer externalIdRefs;
+        private final LongBuffer previousUserRows;
+        private final ByteBuffer channels;
+        private final ByteBuffer statuses;
+        private final ByteBuffer superseded;
+        // Slots sorted oldest first, kept up to date on every append
+        private final IntBuffer oldestFirst;
+        private int size;
+        private long maxSentAt = NO_TIME;
+
+        // Snapshot dictionaries, only needed while rows are appended
+        private Map<MessageSnapshot, Long> messageSnapshots = new HashMap<>();
+        private Map<UserSnapshot, Long> userSnapshots = new HashMap<>();
+
+        Chunk(int rows, int arenaBlockSize) {
+            this.arena = new Arena(arenaBlockSize);
+            this.idRefs = longColumn(rows);
+            this.idHashes = intColumn(rows);
+            this.messageRefs = longColumn(rows);
+            this.userRefs = longColumn(rows);
+            this.sentAt = longColumn(rows);
+            this.deliveredAt = longColumn(rows);
+            this.errorRefs = longColumn(rows);
+            this.externalIdRefs = longColumn(rows);
+            this.previousUserRows = longColumn(rows);
+            this.channels = ByteBuffer.allocateDirect(rows);
+            this.statuses = ByteBuffer.allocateDirect(rows);
+            this.superseded = ByteBuffer.allocateDirect(rows);
+            this.oldestFirst = intColumn(rows);
+        }
+
+        void append(NotificationLog log, byte[] id, int idHash, long previousUserRow) {
+            int slot = size;
+            idRefs.put(slot, arena.putString(id));
+            idHashes.put(slot, idHash);
+            messageRefs.put(slot, messageSnapshots.computeIfAbsent(
+                    new MessageSnapshot(log.getMessageId(), log.getMessageCategory(), log.getMessageContent()),
+                    arena::putMessage));
+            userRefs.put(slot, userSnapshots.computeIfAbsent(
+                    new UserSnapshot(log.getUserId(), log.getUserName(), log.getUserEmail(), log.getUserPhone()),
+                    arena::putUser));
+            long sent = toMillis(log.getSentAt());
+            sentAt.put(slot, sent);
+            deliveredAt.put(slot, toMillis(log.getDeliveredAt()));
+            errorRefs.put(slot, arena.putString(log.getErrorMessage()));
+            externalIdRefs.put(slot, arena.putString(log.getExternalMessageId()));
+            previousUserRows.put(slot, previousUserRow);
+            channels.put(slot, ordinal(log.getChannel()));
+            statuses.put(slot, ordinal(log.getStatus()));
+            superseded.put(slot, (byte) 0);
+            maxSentAt = Math.max(maxSentAt, sent);
+            insertInOrder(slot);
+            size = slot + 1;
+        }
+
+        void seal() {
+            messageSnapshots = null;
+            userSnapshots = null;
+        }
+
+        boolean isSuperseded(int slot) {
+            return superseded.get(slot) != 0;
+        }
+
+        void markSuperseded(int slot) {
+            superseded.put(slot, (byte) 1);
+        }
+
+        /**
+         * Slot at {@code position} of the newest-first order.
+         */
+        int newestFirst(int position) {
+            return oldestFirst.get(size - 1 - position);
+        }
+
+        /**
+         * Rows arrive about in send order, so a new slot usually stays last; a late one is moved
+         * back past the newer rows only.
+         */
+        private void insertInOrder(int slot) {
+            int position = slot;
+            while (position > 0 && compareNewestFirst(this, oldestFirst.get(position - 1), this, slot) < 0) {
+                oldestFirst.put(position, oldestFirst.get(position - 1));
+                position--;
+            }
+            oldestFirst.put(position, slot);
+        }
+
+        private static LongBuffer longColumn(int rows) {
+            return ByteBuffer.allocateDirect(rows * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+        }
+
+        private static IntBuffer intColumn(int rows) {
+            return ByteBuffer.allocateDirect(rows * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        }
+
+        private static byte ordinal(Enum<?> value) {
+            return (byte) (value == null ? -1 : value.ordinal());
+        }
+    }
+
+    /**
+     * Append-only string storage in direct buffers. A reference packs the block index in the high
+     * and the offset in the low 32 bits; a string is an int byte length (-1 for null) followed by
+     * UTF-8 bytes, and consecutive strings of a snapshot are stored back to back.
+     */
+    static final class Arena {
+        private final int blockSize;
+        private final List<ByteBuffer> blocks = new ArrayList<>();
+        private ByteBuffer current;
+
+        Arena(int blockSize) {
+            this.blockSize = blockSize;
+        }
+
+        long putString(String value) {
+            return value == null ? NULL_REF : putString(utf8(value));
+        }
+
+        long putString(byte[] utf8) {
+            return put(encode(utf8));
+        }
+
+        long putMessage(MessageSnapshot message) {
+            byte[] messageId = encode(message.messageId());
+            byte[] content = encode(message.content());
+            ByteBuffer block = ByteBuffer.allocate(messageId.length + 1 + content.length);
+            block.put(messageId).put(Chunk.ordinal(message.category())).put(content);
+            return put(block.array());
+        }
+
+        long putUser(UserSnapshot user) {
+            byte[][] fields = {encode(user.userId()), encode(user.name()), encode(user.email()), encode(user.phone())};
+            ByteBuffer block = ByteBuffer.allocate(Arrays.stream(fields).mapToInt(field -> field.length).sum());
+            for (byte[] field : fields) {
+                block.put(field);
+            }
+            return put(block.array());
+        }
+
+        String getString(long ref) {
+            if (ref == NULL_REF) {
+                return null;
+            }
+            ByteBuffer block = blocks.get(block(ref));
+            int offset = offset(ref);
+            int length = block.getInt(offset);
+            if (length < 0) {
+                return null;
+            }
+            byte[] utf8 = new byte[length];
+            block.get(offset + Integer.BYTES, utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        byte getByte(long ref) {
+            return blocks.get(block(ref)).get(offset(ref));
+        }
+
+        /**
+         * Reference of whatever follows the string at {@code ref} in the same block.
+         */
+        long next(long ref) {
+            int length = blocks.get(block(ref)).getInt(offset(ref));
+            return ref + Integer.BYTES + Math.max(length, 0);
+        }
+
+        boolean stringEquals(long ref, byte[] utf8) {
+            ByteBuffer block = blocks.get(block(ref));
+            int offset = offset(ref);
+            if (block.getInt(offset) != utf8.length) {
+                return false;
+            }
+            for (int i = 0; i < utf8.length; i++) {
+                if (block.get(offset + Integer.BYTES + i) != utf8[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Compares the non-null string at {@code ref} with one encoded like an arena string.
+         */
+        int compare(long ref, ByteBuffer encoded) {
+            return compare(blocks.get(block(ref)), offset(ref), encoded, 0);
+        }
+
+        /**
+         * Orders two non-null strings of possibly different arenas by their UTF-8 bytes, which is
+         * {@link String#compareTo} order for ids without supplementary characters.
+         */
+        static int compare(Arena arenaA, long refA, Arena arenaB, long refB) {
+            return compare(arenaA.blocks.get(block(refA)), offset(refA), arenaB.blocks.get(block(refB)), offset(refB));
+        }
+
+        private static int compare(ByteBuffer blockA, int offsetA, ByteBuffer blockB, int offsetB) {
+            int lengthA = blockA.getInt(offsetA);
+            int lengthB = blockB.getInt(offsetB);
+            for (int i = 0; i < Math.min(lengthA, lengthB); i++) {
+                int byteA = Byte.toUnsignedInt(blockA.get(offsetA + Integer.BYTES + i));
+                int byteB = Byte.toUnsignedInt(blockB.get(offsetB + Integer.BYTES + i));
+                if (byteA != byteB) {
+                    return Integer.compare(byteA, byteB);
+                }
+            }
+            return Integer.compare(lengthA, lengthB);
+        }
+
+        private long put(byte[] bytes) {
+            if (current == null || current.remaining() < bytes.length) {
+                current = ByteBuffer.allocateDirect(Math.max(blockSize, bytes.length));
+                blocks.add(current);
+            }
+            long ref = ((long) (blocks.size() - 1) << 32) | current.position();
+            current.put(bytes);
+            return ref;
+        }
+
+        private static byte[] encode(String value) {
+            return value == null ? ByteBuffer.allocate(Integer.BYTES).putInt(-1).array() : encode(utf8(value));
+        }
+
+        private static byte[] encode(byte[] utf8) {
+            return ByteBuffer.allocate(Integer.BYTES + utf8.length).putInt(utf8.length).put(utf8).array();
+        }
+
+        private static int block(long ref) {
+            return (int) (ref >>> 32);
+        }
+
+        private static int offset(long ref) {
+            return (int) ref;
+        }
+    }
+
+    private record MessageSnapshot(String messageId, MessageCategory category, String content) {
+    }
+
+    private record UserSnapshot(String userId, String name, String email, String phone) {
+    }
+}
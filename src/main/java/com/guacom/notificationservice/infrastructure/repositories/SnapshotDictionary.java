@@ -0,0 +1,45 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives every distinct value a dense int id, so rows can share a value by storing four bytes instead
+ * of their own copy. Looking up a value by id is lock-free; only adding a new value takes a lock.
+ */
+final class SnapshotDictionary<T> {
+    private final Map<T, Integer> ids = new ConcurrentHashMap<>();
+    private volatile Object[] values = new Object[16];
+    private int size;
+
+    int idOf(T value) {
+        Integer id = ids.get(value);
+        return id != null ? id : add(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int id) {
+        return (T) values[id];
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    private synchronized int add(T value) {
+        Integer existing = ids.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        Object[] current = values;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = value;
+        // The volatile write publishes the value before its id becomes visible in the map
+        values = current;
+        ids.put(value, size);
+        return size++;
+    }
+}
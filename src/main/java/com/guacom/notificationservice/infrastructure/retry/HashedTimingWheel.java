@@ -0,0 +1,179 @@
+package com.guacom.notificationservice.infrastructure.retry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+/**
+ * Timer holding any number of delayed tasks for the cost of one small node each.
+ * <p>
+ * Time is cut into ticks and the wheel has {@code wheelSize} buckets, each a linked list of the
+ * tasks due in its tick, possibly some whole turns of the wheel later. Scheduling pushes the node
+ * onto a lock-free stack; a single thread wakes up once per tick, moves new nodes into their bucket
+ * and hands the tasks of the current bucket that are due to {@code executor}. Tasks therefore run up
+ * to one tick late, never early.
+ */
+final class HashedTimingWheel {
+    private static final Logger logger = Logger.getLogger(HashedTimingWheel.class.getName());
+    // Left on the incoming stack by stop(), so a task pushed after it is rejected rather than lost
+    private static final Node CLOSED = new Node(null, null, 0);
+
+    private final long tickNanos;
+    private final Node[] buckets;
+    private final int mask;
+    private final Executor executor;
+    private final long startNanos;
+    private final Thread worker;
+
+    private final AtomicReference<Node> incoming = new AtomicReference<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean running = true;
+    // Only touched by the worker thread
+    private long tick;
+
+    HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int wheelSize, Executor executor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.buckets = new Node[wheelSize];
+        this.mask = wheelSize - 1;
+        this.executor = executor;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * @param abandon handed back by {@link #stop()} if the wheel stops before {@code task} is due
+     */
+    void schedule(long delay, TimeUnit unit, Runnable task, Runnable abandon) {
+        Node node = new Node(task, abandon, System.nanoTime() + Math.max(0, unit.toNanos(delay)));
+        Node head;
+        do {
+            head = incoming.get();
+            if (!running || head == CLOSED) {
+                throw new RejectedExecutionException("Timing wheel has been stopped");
+            }
+            node.next = head;
+        } while (!incoming.compareAndSet(head, node));
+        pending.incrementAndGet();
+    }
+
+    /**
+     * Tasks scheduled and not yet handed to the executor.
+     */
+    int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Stops the worker; tasks that were still pending never run.
+     *
+     * @return the {@code abandon} callbacks of the tasks that never ran, none of them run yet
+     */
+    List<Runnable> stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(tickNanos) + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Runnable> abandoned = new ArrayList<>(pending.get());
+        for (Node node = incoming.getAndSet(CLOSED); node != null && node != CLOSED; node = node.next) {
+            abandoned.add(node.abandon);
+        }
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            for (Node node = buckets[bucket]; node != null; node = node.next) {
+                abandoned.add(node.abandon);
+            }
+            buckets[bucket] = null;
+        }
+        pending.addAndGet(-abandoned.size());
+        return abandoned;
+    }
+
+    private void run() {
+        while (running) {
+            long tickEnd = startNanos + (tick + 1) * tickNanos;
+            long wait;
+            while (running && (wait = tickEnd - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+            if (!running) {
+                return;
+            }
+            transferIncoming();
+            expire((int) (tick & mask));
+            tick++;
+        }
+    }
+
+    private void transferIncoming() {
+        Node node = incoming.getAndSet(null);
+        while (node != null) {
+            Node next = node.next;
+            // The tick whose end is the first one at or after the deadline
+            long dueTick = Math.max(tick, (node.deadline - startNanos) / tickNanos);
+            node.rounds = (dueTick - tick) / buckets.length;
+            int bucket = (int) (dueTick & mask);
+            node.next = buckets[bucket];
+            buckets[bucket] = node;
+            node = next;
+        }
+    }
+
+    private void expire(int bucket) {
+        Node previous = null;
+        Node node = buckets[bucket];
+        while (node != null) {
+            Node next = node.next;
+            if (node.rounds > 0) {
+                node.rounds--;
+                previous = node;
+            } else {
+                if (previous == null) {
+                    buckets[bucket] = next;
+                } else {
+                    previous.next = next;
+                }
+                pending.decrementAndGet();
+                run(node.task);
+            }
+            node = next;
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            logger.warning(String.format("Could not run a scheduled task: %s", e.getMessage()));
+        }
+    }
+
+    private static final class Node {
+        final Runnable task;
+        final Runnable abandon;
+        final long deadline;
+        long rounds;
+        Node next;
+
+        Node(Runnable task, Runnable abandon, long deadline) {
+            this.task = task;
+            this.abandon = abandon;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.guacom.notificationservice.infrastructure.retry;
+
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.interfaces.RetryScheduler;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Exponential backoff with jitter per channel, and a single hashed timing wheel holding every
+ * pending retry, so hundreds of thousands of them cost one small node each instead of one
+ * scheduled task each. On shutdown, retries still waiting are abandoned and their deliveries closed.
+ */
+@Component
+public class TimingWheelRetryScheduler implements RetryScheduler {
+    private static final Logger logger = Logger.getLogger(TimingWheelRetryScheduler.class.getName());
+
+    private final Map<NotificationChannel, NotificationProperties.RetryPolicy> policies;
+    private final ExecutorService workers;
+    private final HashedTimingWheel wheel;
+    private volatile boolean accepting = true;
+
+    @Autowired
+    public TimingWheelRetryScheduler(NotificationProperties properties, MeterRegistry meterRegistry) {
+        this(properties.getRetry(), channelPolicies(properties));
+        Gauge.builder("notification.retry.pending", wheel, HashedTimingWheel::pendingCount)
+                .description("Deliveries waiting for their next attempt")
+                .register(meterRegistry);
+    }
+
+    public TimingWheelRetryScheduler(NotificationProperties.Retry settings,
+                                     Map<NotificationChannel, NotificationProperties.RetryPolicy> policies) {
+        if (settings.getWorkers() < 1) {
+            throw new IllegalArgumentException("Retry workers must be at least 1");
+        }
+        policies.forEach(TimingWheelRetryScheduler::validate);
+        this.policies = new EnumMap<>(policies);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(settings.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "notification-retry-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.wheel = new HashedTimingWheel("notification-retry-timer", settings.getTickDuration().toNanos(),
+                TimeUnit.NANOSECONDS, settings.getWheelSize(), workers);
+    }
+
+    @Override
+    public long backoffMillis(NotificationChannel channel, int attempt) {
+        NotificationProperties.RetryPolicy policy = policies.get(channel);
+        if (!accepting || policy == null || attempt < 2 || attempt > policy.getMaxAttempts()) {
+            return -1;
+        }
+        double backoff = Math.min(
+                policy.getInitialBackoff().toMillis() * Math.pow(policy.getMultiplier(), attempt - 2),
+                policy.getMaxBackoff().toMillis());
+        return (long) (backoff * (1 - policy.getJitter() * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    @Override
+    public void schedule(long delayMillis, Runnable retry, Runnable abandon) {
+        try {
+            wheel.schedule(delayMillis, TimeUnit.MILLISECONDS, retry, abandon);
+        } catch (RejectedExecutionException e) {
+            // Shutdown started after backoffMillis() said the retry was welcome
+            abandon.run();
+        }
+    }
+
+    public int getPendingCount() {
+        return wheel.pendingCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        accepting = false;
+        List<Runnable> abandoned = wheel.stop();
+        if (!abandoned.isEmpty()) {
+            logger.warning(String.format("%d pending retries abandoned on shutdown, their deliveries are marked FAILED",
+                    abandoned.size()));
+        }
+        for (Runnable abandon : abandoned) {
+            try {
+                abandon.run();
+            } catch (RuntimeException e) {
+                logger.warning(String.format("Could not close an abandoned retry: %s", e.getMessage()));
+            }
+        }
+        workers.shutdown();
+    }
+
+    private static Map<NotificationChannel, NotificationProperties.RetryPolicy> channelPolicies(
+            NotificationProperties properties) {
+        Map<NotificationChannel, NotificationProperties.RetryPolicy> policies = new EnumMap<>(NotificationChannel.class);
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            policies.put(channel, properties.getChannel(channel).getRetry());
+        }
+        return policies;
+    }
+
+    private static void validate(NotificationChannel channel, NotificationProperties.RetryPolicy policy) {
+        if (policy.getMaxAttempts() < 1
+                || policy.getInitialBackoff().isNegative()
+                || policy.getMaxBackoff().compareTo(policy.getInitialBackoff()) < 0
+                || policy.getMultiplier() < 1
+                || policy.getJitter() < 0 || policy.getJitter() > 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid retry policy for %s: maxAttempts=%d, initialBackoff=%s, multiplier=%s, "
+                            + "maxBackoff=%s, jitter=%s",
+                    channel, policy.getMaxAttempts(), policy.getInitialBackoff(), policy.getMultiplier(),
+                    policy.getMaxBackoff(), policy.getJitter()));
+        }
+    }
+}
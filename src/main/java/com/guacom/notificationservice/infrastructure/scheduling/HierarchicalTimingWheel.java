@@ -0,0 +1,183 @@
+package com.guacom.notificationservice.infrastructure.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Timer for deadlines from seconds to months away, at the cost of one small node per entry.
+ * <p>
+ * There are {@code levels} wheels of {@code wheelSize} buckets each. A bucket of level 0 spans one
+ * tick, a bucket of level {@code n} spans {@code wheelSize^n} ticks, so a single bucket of the
+ * coarsest level holds a whole day or more. An entry goes into the finest level whose wheel reaches
+ * its deadline; whenever time enters the span of a coarser bucket, the bucket is emptied into the
+ * finer levels, until the entry reaches level 0 and expires with its tick. Deadlines beyond the
+ * coarsest wheel wait in it and are placed again on each of its turns.
+ * <p>
+ * Entries expire up to one tick late, never early. Buckets are intrusive doubly linked lists, so
+ * cancelling is O(1) and frees the entry at once. Not thread-safe: callers serialize all access.
+ */
+final class HierarchicalTimingWheel<T> {
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int mask;
+    private final long[] spans;
+    private final Entry<T>[][] buckets;
+
+    private long currentTime;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two of at least 2");
+        }
+        if (levels < 1 || Math.log(Long.MAX_VALUE / 4.0 / tickMillis) / Math.log(wheelSize) < levels) {
+            throw new IllegalArgumentException(String.format("Levels must be between 1 and what a %d ms tick allows",
+                    tickMillis));
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.mask = wheelSize - 1;
+        this.spans = new long[levels];
+        this.buckets = new Entry[levels][wheelSize];
+        long span = tickMillis;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span *= wheelSize;
+            for (int bucket = 0; bucket < wheelSize; bucket++) {
+                buckets[level][bucket] = Entry.sentinel();
+            }
+        }
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+    }
+
+    Entry<T> schedule(T value, long deadlineMillis) {
+        Entry<T> entry = new Entry<>(value, deadlineMillis);
+        place(entry);
+        size++;
+        return entry;
+    }
+
+    /**
+     * Removes an entry that has neither expired nor been cancelled yet.
+     *
+     * @return whether the entry was still in the wheel
+     */
+    boolean cancel(Entry<T> entry) {
+        if (!entry.isLinked()) {
+            return false;
+        }
+        entry.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward tick by tick up to {@code timeMillis}, passing every entry whose
+     * deadline is now in the past to {@code expired}, earlier ticks first.
+     */
+    void advanceTo(long timeMillis, Consumer<T> expired) {
+        while (timeMillis - currentTime >= tickMillis) {
+            // Emptied before cascading, which may refill the bucket with entries due a turn later
+            List<Entry<T>> expiring = drain(buckets[0][bucketIndex(currentTime, 0)]);
+            currentTime += tickMillis;
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTime % spans[level] == 0) {
+                    for (Entry<T> entry : drain(buckets[level][bucketIndex(currentTime, level)])) {
+                        place(entry);
+                    }
+                }
+            }
+            for (Entry<T> entry : expiring) {
+                if (entry.deadline >= currentTime) {
+                    // Beyond the range of a single level wheel, it takes another turn
+                    place(entry);
+                } else {
+                    size--;
+                    expired.accept(entry.value);
+                }
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long currentTime() {
+        return currentTime;
+    }
+
+    private void place(Entry<T> entry) {
+        long deadline = Math.max(entry.deadline, currentTime);
+        int level = 0;
+        while (level < spans.length - 1 && deadline - currentTime >= spans[level] * wheelSize) {
+            level++;
+        }
+        buckets[level][bucketIndex(deadline, level)].append(entry);
+    }
+
+    private int bucketIndex(long time, int level) {
+        return (int) ((time / spans[level]) & mask);
+    }
+
+    private static <T> List<Entry<T>> drain(Entry<T> head) {
+        List<Entry<T>> entries = new ArrayList<>();
+        for (Entry<T> entry = head.next; entry != head; ) {
+            Entry<T> next = entry.next;
+            entry.unlink();
+            entries.add(entry);
+            entry = next;
+        }
+        return entries;
+    }
+
+    static final class Entry<T> {
+        private final T value;
+        private final long deadline;
+        private Entry<T> previous;
+        private Entry<T> next;
+
+        private Entry(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        private static <T> Entry<T> sentinel() {
+            Entry<T> head = new Entry<>(null, 0);
+            head.previous = head;
+            head.next = head;
+            return head;
+        }
+
+        T value() {
+            return value;
+        }
+
+        long deadline() {
+            return deadline;
+        }
+
+        private boolean isLinked() {
+            return next != null;
+        }
+
+        private void append(Entry<T> entry) {
+            entry.previous = previous;
+            entry.next = this;
+            previous.next = entry;
+            previous = entry;
+        }
+
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = null;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.guacom.notificationservice.infrastructure.scheduling;
+
+import com.guacom.notificationservice.domain.entities.ScheduledMessage;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of scheduled messages and their outcomes:
+ * <pre>
+ * int payloadLength | int crc32(payload) | byte type | payload
+ * </pre>
+ * A {@code SCHEDULED} record carries the whole message; {@code RELEASED} and {@code CANCELLED}
+ * records only its id. Every append is forced to disk before it returns, so an accepted message is
+ * never lost and a released one is never sent again. Replaying the file yields the messages without
+ * an outcome; a torn record at the end is cut off. Once finished messages outnumber pending ones, the
+ * file is rewritten with just the pending ones and atomically swapped in.
+ * <p>
+ * Forces are group-committed outside the journal's monitor: while one append forces the file, the
+ * appends arriving meanwhile only write their record and wait, and the next force commits all of
+ * them at once. Release workers that finish together thus share one fsync instead of queueing for
+ * one each, at the cost of an append waiting for a force already running before its own. A
+ * compaction still holds the monitor while it rewrites the file, which only happens once finished
+ * messages outnumber pending ones.
+ */
+final class ScheduledMessageJournal implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(ScheduledMessageJournal.class.getName());
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final byte SCHEDULED = 1;
+    private static final byte RELEASED = 2;
+    private static final byte CANCELLED = 3;
+    private static final MessageCategory[] CATEGORIES = MessageCategory.values();
+
+    private final Path file;
+    private final int compactionThreshold;
+    // Messages scheduled and without an outcome yet, the only ones a compaction keeps
+    private final Map<String, ScheduledMessage> live = new LinkedHashMap<>();
+    // Guards forcing, so that one thread forces while the appends behind it collect
+    private final Object forceLock = new Object();
+    // Records written and records known to be on disk, counted since the journal was opened
+    private final AtomicLong durable = new AtomicLong();
+    private long written;
+    private FileChannel channel;
+    private long records;
+
+    ScheduledMessageJournal(Path file, int compactionThreshold) {
+        this.file = file;
+        this.compactionThreshold = compactionThreshold;
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            this.channel = open(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open scheduled message journal " + file, e);
+        }
+    }
+
+    /**
+     * Reads the whole file and returns the messages that were neither released nor cancelled, in
+     * the order they were scheduled.
+     */
+    synchronized List<ScheduledMessage> recover() {
+        live.clear();
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException(String.format("Scheduled message journal %s is larger than 2GB", file));
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int offset = 0;
+            int length;
+            records = 0;
+            while ((length = recordLength(buffer, offset, (int) size)) > 0) {
+                int position = offset + HEADER_BYTES;
+                byte type = buffer.get(position++);
+                Reader in = new Reader(buffer, position);
+                if (type == SCHEDULED) {
+                    ScheduledMessage message = new ScheduledMessage(in.readString(), CATEGORIES[in.readByte()],
+                            in.readString(), in.readTime(), in.readTime());
+                    live.put(message.getId(), message);
+                } else {
+                    live.remove(in.readString());
+                }
+                records++;
+                offset += length;
+            }
+            if (offset < size) {
+                logger.warning(String.format("Cutting off %d bytes of a torn record at the end of %s",
+                        size - offset, file));
+                channel.truncate(offset);
+                channel.position(offset);
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read scheduled message journal " + file, e);
+        }
+        return new ArrayList<>(live.values());
+    }
+
+    void appendScheduled(ScheduledMessage message) {
+        ByteBuffer record = encodeScheduled(message);
+        long sequence;
+        synchronized (this) {
+            sequence = writeRecord(record);
+            live.put(message.getId(), message);
+        }
+        awaitDurable(sequence);
+    }
+
+    void appendReleased(String messageId) {
+        appendOutcome(RELEASED, messageId);
+    }
+
+    void appendCancelled(String messageId) {
+        appendOutcome(CANCELLED, messageId);
+    }
+
+    synchronized boolean needsCompaction() {
+        long finished = records - live.size();
+        return finished >= compactionThreshold && finished > live.size();
+    }
+
+    /**
+     * Rewrites the file with only the pending messages once {@link #needsCompaction()} says so.
+     */
+    synchronized void compact() {
+        if (!needsCompaction()) {
+            return;
+        }
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        try {
+            try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (ScheduledMessage message : live.values()) {
+                    write(out, encodeScheduled(message));
+                }
+                out.force(true);
+            }
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel.close();
+            channel = open(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact scheduled message journal " + file, e);
+        }
+        // The compacted file is on disk and reflects every record written so far
+        durable.accumulateAndGet(written, Math::max);
+        logger.info(String.format("Compacted scheduled message journal %s from %d to %d records",
+                file, records, live.size()));
+        records = live.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warning(String.format("Could not close scheduled message journal %s: %s", file, e.getMessage()));
+        }
+    }
+
+    private void appendOutcome(byte type, String messageId) {
+        ByteBuffer record = encode(type, out -> writeString(out, messageId));
+        long sequence;
+        synchronized (this) {
+            sequence = writeRecord(record);
+            live.remove(messageId);
+        }
+        awaitDurable(sequence);
+    }
+
+    /**
+     * Writes the record without forcing it, under the journal's monitor.
+     *
+     * @return the record's sequence, to wait for with {@link #awaitDurable}
+     */
+    private long writeRecord(ByteBuffer record) {
+        try {
+            write(channel, record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to scheduled message journal " + file, e);
+        }
+        records++;
+        return ++written;
+    }
+
+    /**
+     * Returns once the record of {@code sequence} is on disk, forcing the file unless a force that
+     * started after the record was written already did.
+     */
+    private void awaitDurable(long sequence) {
+        synchronized (forceLock) {
+            if (durable.get() >= sequence) {
+                return;
+            }
+            FileChannel target;
+            long upTo;
+            synchronized (this) {
+                target = channel;
+                upTo = written;
+            }
+            try {
+                target.force(false);
+            } catch (ClosedChannelException e) {
+                if (isCurrent(target)) {
+                    throw new UncheckedIOException("Scheduled message journal " + file + " is closed", e);
+                }
+                // Compacted meanwhile, the new file already holds the outcome of everything up to here
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot force scheduled message journal " + file, e);
+            }
+            durable.accumulateAndGet(upTo, Math::max);
+        }
+    }
+
+    private synchronized boolean isCurrent(FileChannel target) {
+        return channel == target;
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        return channel.position(channel.size());
+    }
+
+    private static void write(FileChannel channel, ByteBuffer record) throws IOException {
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    private static ByteBuffer encodeScheduled(ScheduledMessage message) {
+        return encode(SCHEDULED, out -> {
+            writeString(out, message.getId());
+            out.writeByte(message.getCategory().ordinal());
+            writeString(out, message.getContent());
+            writeTime(out, message.getSendAt());
+            writeTime(out, message.getAcceptedAt());
+        });
+    }
+
+    private static ByteBuffer encode(byte type, PayloadWriter payload) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeByte(type);
+            payload.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] record = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(record, HEADER_BYTES, record.length - HEADER_BYTES);
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        buffer.putInt(0, record.length - HEADER_BYTES);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue());
+        return buffer;
+    }
+
+    private static int recordLength(ByteBuffer buffer, int offset, int limit) {
+        if (offset + HEADER_BYTES > limit) {
+            return -1;
+        }
+        int payloadLength = buffer.getInt(offset);
+        if (payloadLength <= 0 || payloadLength > limit - offset - HEADER_BYTES) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate()
+                .limit(offset + HEADER_BYTES + payloadLength)
+                .position(offset + HEADER_BYTES));
+        if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+            return -1;
+        }
+        return HEADER_BYTES + payloadLength;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    @FunctionalInterface
+    private interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private int position;
+
+        Reader(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte readByte() {
+            return buffer.get(position++);
+        }
+
+        String readString() {
+            int length = buffer.getInt(position);
+            position += Integer.BYTES;
+            byte[] utf8 = new byte[length];
+            buffer.get(position, utf8);
+            position += length;
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        LocalDateTime readTime() {
+            long seconds = buffer.getLong(position);
+            int nanos = buffer.getInt(position + Long.BYTES);
+            position += Long.BYTES + Integer.BYTES;
+            return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.guacom.notificationservice.infrastructure.scheduling;
+
+import com.guacom.notificationservice.application.dto.ScheduledMessageDto;
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.entities.ScheduledMessage;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.exceptions.ResourceNotFoundException;
+import com.guacom.notificationservice.domain.exceptions.ServiceUnavailableException;
+import com.guacom.notificationservice.domain.interfaces.MessageScheduler;
+import com.guacom.notificationservice.domain.interfaces.MessageService;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Holds scheduled messages in a {@link HierarchicalTimingWheel} backed by a
+ * {@link ScheduledMessageJournal}, and releases them into {@link MessageService#processMessage}.
+ * <p>
+ * A message is journaled before it is accepted and its release is journaled before it is
+ * dispatched, so a restart neither loses a message nor sends it twice; one whose dispatch was cut
+ * short by the restart is not resumed. Messages that fall due together are queued for a fixed number
+ * of release workers: a spike of thousands of due messages is worked off at the pace the channels
+ * sustain rather than started all at once, and stays listed and cancellable until a worker takes it.
+ */
+@Component
+public class TimingWheelMessageScheduler implements MessageScheduler {
+    private static final Logger logger = Logger.getLogger(TimingWheelMessageScheduler.class.getName());
+    private static final int MAX_LIST_SIZE = 1000;
+
+    private final MessageService messageService;
+    private final NotificationProperties.Scheduling settings;
+    private final ScheduledMessageJournal journal;
+    private final HierarchicalTimingWheel<ScheduledMessage> wheel;
+    private final Map<String, HierarchicalTimingWheel.Entry<ScheduledMessage>> entries = new ConcurrentHashMap<>();
+    private final BlockingQueue<ScheduledMessage> due = new LinkedBlockingQueue<>();
+    // Messages accepted and neither released nor cancelled, reserved before they are journaled
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final ScheduledExecutorService timer;
+    private final ExecutorService releaseWorkers;
+    private volatile boolean running = true;
+
+    @Autowired
+    public TimingWheelMessageScheduler(MessageService messageService, NotificationProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this(messageService, properties.getScheduling());
+        Gauge.builder("notification.scheduler.pending", entries, Map::size)
+                .description("Scheduled messages not released yet")
+                .register(meterRegistry);
+        Gauge.builder("notification.scheduler.due", due, BlockingQueue::size)
+                .description("Scheduled messages past their send time waiting for a release worker")
+                .register(meterRegistry);
+    }
+
+    public TimingWheelMessageScheduler(MessageService messageService, NotificationProperties.Scheduling settings) {
+        if (settings.getReleaseWorkers() < 1) {
+            throw new IllegalArgumentException("Release workers must be at least 1");
+        }
+        if (settings.getMaxPending() < 1) {
+            throw new IllegalArgumentException("Max pending scheduled messages must be at least 1");
+        }
+        this.messageService = messageService;
+        this.settings = settings;
+        long tickMillis = settings.getTickDuration().toMillis();
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, settings.getWheelSize(), settings.getLevels(),
+                System.currentTimeMillis());
+
+        this.journal = new ScheduledMessageJournal(Path.of(settings.getJournalFile()),
+                settings.getCompactionThreshold());
+        List<ScheduledMessage> recovered = journal.recover();
+        synchronized (wheel) {
+            for (ScheduledMessage message : recovered) {
+                entries.put(message.getId(), wheel.schedule(message, epochMillis(message.getSendAt())));
+            }
+        }
+        pending.set(recovered.size());
+        journal.compact();
+        if (!recovered.isEmpty()) {
+            logger.info(String.format("Recovered %d scheduled messages from %s",
+                    recovered.size(), settings.getJournalFile()));
+        }
+
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-scheduler-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.releaseWorkers = Executors.newFixedThreadPool(settings.getReleaseWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "message-release-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < settings.getReleaseWorkers(); i++) {
+            releaseWorkers.execute(this::releaseDueMessages);
+        }
+    }
+
+    @Override
+    public ScheduledMessageDto schedule(MessageCategory category, String content, LocalDateTime sendAt) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime latest = now.plus(settings.getMaxDelay());
+        if (sendAt.isAfter(latest)) {
+            throw new IllegalArgumentException(String.format("Send time cannot be later than %s", latest));
+        }
+        reserveSlot();
+
+        ScheduledMessage scheduled;
+        try {
+            Message message = messageService.createMessage(category, content);
+            scheduled = new ScheduledMessage(message.getId(), message.getCategory(), message.getContent(), sendAt, now);
+            journal.appendScheduled(scheduled);
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+        synchronized (wheel) {
+            entries.put(scheduled.getId(), wheel.schedule(scheduled, epochMillis(sendAt)));
+        }
+
+        logger.info(String.format("Message %s scheduled for %s", scheduled.getId(), sendAt));
+        return convertToDto(scheduled);
+    }
+
+    @Override
+    public List<ScheduledMessageDto> getScheduled(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return entries.values().stream()
+                .map(HierarchicalTimingWheel.Entry::value)
+                .filter(ScheduledMessage::isPending)
+                .sorted(Comparator.comparing(ScheduledMessage::getSendAt))
+                .limit(Math.min(limit, MAX_LIST_SIZE))
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    @Override
+    public ScheduledMessageDto getScheduled(String messageId) {
+        HierarchicalTimingWheel.Entry<ScheduledMessage> entry = entries.get(messageId);
+        if (entry == null) {
+            throw new ResourceNotFoundException("Scheduled message not found: " + messageId);
+        }
+        return convertToDto(entry.value());
+    }
+
+    /**
+     * Cancels a message that has not been taken by a release worker yet.
+     */
+    @Override
+    public ScheduledMessageDto cancel(String messageId) {
+        HierarchicalTimingWheel.Entry<ScheduledMessage> entry = entries.get(messageId);
+        if (entry == null || !entry.value().cancel()) {
+            throw new ResourceNotFoundException("Scheduled message not found: " + messageId);
+        }
+        // A message already queued as due stays in the queue and is skipped by the release workers
+        synchronized (wheel) {
+            wheel.cancel(entry);
+        }
+        entries.remove(messageId);
+        pending.decrementAndGet();
+        journal.appendCancelled(messageId);
+        compactJournal();
+
+        logger.info(String.format("Scheduled message %s cancelled", messageId));
+        return convertToDto(entry.value());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        timer.shutdownNow();
+        releaseWorkers.shutdown();
+        if (!releaseWorkers.awaitTermination(settings.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            logger.warning(String.format("Release workers did not finish within %s", settings.getShutdownTimeout()));
+        }
+        if (!due.isEmpty()) {
+            logger.info(String.format("%d due messages will be released after the restart", due.size()));
+        }
+        journal.close();
+    }
+
+    private void advance() {
+        try {
+            synchronized (wheel) {
+                wheel.advanceTo(System.currentTimeMillis(), due::add);
+            }
+        } catch (RuntimeException e) {
+            logger.warning(String.format("Scheduling timer failed to advance: %s", e.getMessage()));
+        }
+    }
+
+    private void releaseDueMessages() {
+        while (running) {
+            ScheduledMessage message;
+            try {
+                message = due.poll(settings.getTickDuration().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (message != null && message.release()) {
+                release(message);
+            }
+        }
+    }
+
+    private void release(ScheduledMessage message) {
+        entries.remove(message.getId());
+        pending.decrementAndGet();
+        try {
+            journal.appendReleased(message.getId());
+        } catch (UncheckedIOException e) {
+            logger.severe(String.format("Could not journal the release of message %s, it may be sent again after a restart: %s",
+                    message.getId(), e.getMessage()));
+        }
+        compactJournal();
+
+        LongAdder sent = new LongAdder();
+        LongAdder failed = new LongAdder();
+        LongAdder retrying = new LongAdder();
+        try {
+            messageService.processMessage(message.toMessage(), result -> {
+                switch (result.getStatus()) {
+                    case FAILED -> failed.increment();
+                    case RETRYING -> retrying.increment();
+                    default -> sent.increment();
+                }
+            });
+            logger.info(String.format("Scheduled message %s released: %d sent, %d retrying, %d failed",
+                    message.getId(), sent.sum(), retrying.sum(), failed.sum()));
+        } catch (RuntimeException e) {
+            logger.warning(String.format("Scheduled message %s failed after %d notifications: %s",
+                    message.getId(), sent.sum() + failed.sum() + retrying.sum(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Takes one of the {@code max-pending} slots, so concurrent requests cannot overshoot it.
+     */
+    private void reserveSlot() {
+        int current;
+        do {
+            current = pending.get();
+            if (current >= settings.getMaxPending()) {
+                logger.warning(String.format("%d messages already scheduled, rejecting a new one", current));
+                throw new ServiceUnavailableException("Too many scheduled messages, please retry later");
+            }
+        } while (!pending.compareAndSet(current, current + 1));
+    }
+
+    private void compactJournal() {
+        try {
+            journal.compact();
+        } catch (UncheckedIOException e) {
+            logger.warning(String.format("Could not compact the scheduled message journal: %s", e.getMessage()));
+        }
+    }
+
+    private long epochMillis(LocalDateTime time) {
+        return time.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private ScheduledMessageDto convertToDto(ScheduledMessage message) {
+        return ScheduledMessageDto.builder()
+                .messageId(message.getId())
+                .category(message.getCategory())
+                .content(message.getContent())
+                .status(message.getStatus())
+                .sendAt(message.getSendAt())
+                .acceptedAt(message.getAcceptedAt())
+                .build();
+    }
+}
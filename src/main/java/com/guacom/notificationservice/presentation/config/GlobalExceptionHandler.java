@@ -1,6 +1,8 @@
 package com.guacom.notificationservice.presentation.config;
 
 import com.guacom.notificationservice.domain.exceptions.NotificationException;
+import com.guacom.notificationservice.domain.exceptions.ResourceNotFoundException;
+import com.guacom.notificationservice.domain.exceptions.ServiceUnavailableException;
 import com.guacom.notificationservice.presentation.dto.ApiResponse;
 import com.guacom.notificationservice.presentation.dto.ErrorDetails;
 import org.springframework.http.HttpStatus;
@@ -46,6 +48,44 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ApiResponse<Object>> handleResourceNotFoundException(
+            ResourceNotFoundException ex, WebRequest request) {
+
+        logger.warning(String.format("Resource not found: %s", ex.getMessage()));
+
+        ErrorDetails errorDetails = ErrorDetails.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Resource Not Found")
+                .message(ex.getMessage())
+                .path(getPath(request))
+                .build();
+
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage(), errorDetails);
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+
+        logger.warning(String.format("Service unavailable: %s", ex.getMessage()));
+
+        ErrorDetails errorDetails = ErrorDetails.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(ex.getMessage())
+                .path(getPath(request))
+                .build();
+
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage(), errorDetails);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Object>> handleMethodArgumentNotValid(
             MethodArgumentNotValidException ex, WebRequest request) {
@@ -0,0 +1,44 @@
+package com.guacom.notificationservice.presentation.controllers;
+
+import com.guacom.notificationservice.application.dto.CircuitBreakerDto;
+import com.guacom.notificationservice.infrastructure.channels.ChannelCircuitBreaker;
+import com.guacom.notificationservice.infrastructure.channels.NotificationChannelFactory;
+import com.guacom.notificationservice.presentation.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/channels")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ChannelController {
+
+    private final NotificationChannelFactory channelFactory;
+
+    @GetMapping("/circuit-breakers")
+    public ResponseEntity<ApiResponse<List<CircuitBreakerDto>>> getCircuitBreakers() {
+        List<CircuitBreakerDto> breakers = channelFactory.getCircuitBreakers().values().stream()
+                .map(ChannelController::toDto)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success(
+                String.format("Retrieved %d circuit breakers", breakers.size()),
+                breakers
+        ));
+    }
+
+    private static CircuitBreakerDto toDto(ChannelCircuitBreaker breaker) {
+        return CircuitBreakerDto.builder()
+                .channel(breaker.getChannel())
+                .state(breaker.getState())
+                .stateSince(breaker.getStateSince())
+                .failureRate(breaker.getFailureRate())
+                .bufferedCalls(breaker.getBufferedCalls())
+                .failedCalls(breaker.getFailedCalls())
+                .rejectedCalls(breaker.getRejectedCalls())
+                .build();
+    }
+}
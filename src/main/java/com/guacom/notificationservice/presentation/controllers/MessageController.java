@@ -1,16 +1,32 @@
 package com.guacom.notificationservice.presentation.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guacom.notificationservice.application.dto.DispatchJobDto;
 import com.guacom.notificationservice.application.dto.NotificationLogDto;
+import com.guacom.notificationservice.application.dto.ScheduledMessageDto;
+import com.guacom.notificationservice.application.services.MessageDispatchServiceImpl;
 import com.guacom.notificationservice.application.services.MessageServiceImpl;
+import com.guacom.notificationservice.domain.entities.Message;
 import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.interfaces.MessageScheduler;
 import com.guacom.notificationservice.presentation.dto.ApiResponse;
 import com.guacom.notificationservice.presentation.dto.CreateMessageRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 @RestController
@@ -21,12 +37,22 @@ public class MessageController {
 
     private static final Logger logger = Logger.getLogger(MessageController.class.getName());
 
+    private static final byte[] NDJSON_LINE_END = {'\n'};
+    private static final byte[] SSE_EVENT_END = {'\n', '\n'};
+
     private final MessageServiceImpl messageService;
+    private final MessageDispatchServiceImpl messageDispatchService;
+    private final MessageScheduler messageScheduler;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
-    public ResponseEntity<ApiResponse<List<NotificationLogDto>>> sendMessage(
+    public ResponseEntity<? extends ApiResponse<?>> sendMessage(
             @Valid @RequestBody CreateMessageRequest request) {
 
+        if (request.getSendAt() != null) {
+            return scheduleMessage(request);
+        }
+
         logger.info(String.format("Processing message send request for category: %s", request.getCategory()));
 
         List<NotificationLogDto> results = messageService.processMessage(
@@ -44,6 +70,191 @@ public class MessageController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMessageAsNdjson(
+            @Valid @RequestBody CreateMessageRequest request) {
+        return streamMessage(request, MediaType.APPLICATION_NDJSON);
+    }
+
+    @PostMapping(params = "stream=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamMessageAsNdjsonByParam(
+            @Valid @RequestBody CreateMessageRequest request) {
+        return streamMessage(request, MediaType.APPLICATION_NDJSON);
+    }
+
+    @PostMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMessageAsEvents(
+            @Valid @RequestBody CreateMessageRequest request) {
+        return streamMessage(request, MediaType.TEXT_EVENT_STREAM);
+    }
+
+    @PostMapping(params = "stream=sse")
+    public ResponseEntity<StreamingResponseBody> streamMessageAsEventsByParam(
+            @Valid @RequestBody CreateMessageRequest request) {
+        return streamMessage(request, MediaType.TEXT_EVENT_STREAM);
+    }
+
+    @PostMapping(params = "async=true")
+    public ResponseEntity<? extends ApiResponse<?>> submitMessage(
+            @Valid @RequestBody CreateMessageRequest request) {
+
+        if (request.getSendAt() != null) {
+            return scheduleMessage(request);
+        }
+
+        logger.info(String.format("Accepting asynchronous message request for category: %s", request.getCategory()));
+
+        DispatchJobDto job = messageDispatchService.submit(request.getCategory(), request.getContent());
+
+        ApiResponse<DispatchJobDto> response = ApiResponse.success(
+                String.format("Message accepted for dispatch. Job ID: %s", job.getJobId()),
+                job
+        );
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/messages/jobs/" + job.getJobId()))
+                .body(response);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<DispatchJobDto>> getJob(@PathVariable String jobId) {
+        logger.info(String.format("Retrieving dispatch job %s", jobId));
+
+        DispatchJobDto job = messageDispatchService.getJob(jobId);
+
+        ApiResponse<DispatchJobDto> response = ApiResponse.success(
+                String.format("Dispatch job is %s", job.getStatus()),
+                job
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/scheduled")
+    public ResponseEntity<ApiResponse<List<ScheduledMessageDto>>> getScheduledMessages(
+            @RequestParam(defaultValue = "100") int limit) {
+        logger.info(String.format("Retrieving scheduled messages (limit %d)", limit));
+
+        List<ScheduledMessageDto> messages = messageScheduler.getScheduled(limit);
+
+        ApiResponse<List<ScheduledMessageDto>> response = ApiResponse.success(
+                String.format("Retrieved %d scheduled messages", messages.size()),
+                messages
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/scheduled/{messageId}")
+    public ResponseEntity<ApiResponse<ScheduledMessageDto>> getScheduledMessage(@PathVariable String messageId) {
+        logger.info(String.format("Retrieving scheduled message %s", messageId));
+
+        ScheduledMessageDto message = messageScheduler.getScheduled(messageId);
+
+        ApiResponse<ScheduledMessageDto> response = ApiResponse.success(
+                String.format("Message is scheduled for %s", message.getSendAt()),
+                message
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/scheduled/{messageId}")
+    public ResponseEntity<ApiResponse<ScheduledMessageDto>> cancelScheduledMessage(@PathVariable String messageId) {
+        logger.info(String.format("Cancelling scheduled message %s", messageId));
+
+        ScheduledMessageDto message = messageScheduler.cancel(messageId);
+
+        ApiResponse<ScheduledMessageDto> response = ApiResponse.success(
+                String.format("Scheduled message %s cancelled", messageId),
+                message
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<ApiResponse<ScheduledMessageDto>> scheduleMessage(CreateMessageRequest request) {
+        logger.info(String.format("Scheduling message for category: %s at %s",
+                request.getCategory(), request.getSendAt()));
+
+        ScheduledMessageDto scheduled = messageScheduler.schedule(
+                request.getCategory(),
+                request.getContent(),
+                request.getSendAt()
+        );
+
+        ApiResponse<ScheduledMessageDto> response = ApiResponse.success(
+                String.format("Message scheduled for %s. Message ID: %s", scheduled.getSendAt(), scheduled.getMessageId()),
+                scheduled
+        );
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/messages/scheduled/" + scheduled.getMessageId()))
+                .body(response);
+    }
+
+    /**
+     * Writes every notification result as soon as it is produced, one NDJSON line or one
+     * {@code notification} event each, instead of collecting the whole broadcast first. The message
+     * is validated before the response starts so that bad requests still get a regular error body.
+     */
+    private ResponseEntity<StreamingResponseBody> streamMessage(CreateMessageRequest request, MediaType format) {
+        if (request.getSendAt() != null) {
+            throw new IllegalArgumentException("A scheduled message cannot be streamed");
+        }
+        logger.info(String.format("Streaming message send request for category: %s as %s",
+                request.getCategory(), format));
+
+        Message message = messageService.createMessage(request.getCategory(), request.getContent());
+        boolean events = MediaType.TEXT_EVENT_STREAM.equals(format);
+
+        StreamingResponseBody body = outputStream -> {
+            Object lock = new Object();
+            AtomicInteger sent = new AtomicInteger();
+            AtomicReference<IOException> writeFailure = new AtomicReference<>();
+
+            // Results arrive from several dispatch threads; a client that went away stops the
+            // writes but not the broadcast itself.
+            messageService.processMessage(message, result -> {
+                sent.incrementAndGet();
+                synchronized (lock) {
+                    if (writeFailure.get() != null) {
+                        return;
+                    }
+                    try {
+                        writeRecord(outputStream, events ? "notification" : null, result);
+                    } catch (IOException e) {
+                        writeFailure.set(e);
+                    }
+                }
+            });
+
+            if (writeFailure.get() != null) {
+                logger.warning(String.format("Client stopped reading the stream of message %s: %s",
+                        message.getId(), writeFailure.get().getMessage()));
+                return;
+            }
+            if (events) {
+                writeRecord(outputStream, "complete", Map.of("messageId", message.getId(), "sent", sent.get()));
+            }
+            logger.info(String.format("Message streamed successfully. Sent %d notifications", sent.get()));
+        };
+
+        return ResponseEntity.ok()
+                .contentType(format)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body(body);
+    }
+
+    private void writeRecord(OutputStream outputStream, String event, Object data) throws IOException {
+        if (event != null) {
+            outputStream.write(("event: " + event + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+        }
+        outputStream.write(objectMapper.writeValueAsBytes(data));
+        outputStream.write(event != null ? SSE_EVENT_END : NDJSON_LINE_END);
+        outputStream.flush();
+    }
+
     @GetMapping("/categories")
     public ResponseEntity<ApiResponse<MessageCategory[]>> getCategories() {
         logger.info("Retrieving message categories");
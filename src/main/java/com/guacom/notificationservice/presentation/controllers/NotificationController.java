@@ -1,12 +1,11 @@
 package com.guacom.notificationservice.presentation.controllers;
 
-import com.guacom.notificationservice.application.dto.NotificationLogDto;
+import com.guacom.notificationservice.application.dto.NotificationHistoryPageDto;
 import com.guacom.notificationservice.application.services.NotificationServiceImpl;
 import com.guacom.notificationservice.presentation.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 import java.util.logging.Logger;
 
 @RestController
@@ -20,14 +19,16 @@ public class NotificationController {
     private final NotificationServiceImpl notificationService;
 
     @GetMapping("/history")
-    public ResponseEntity<ApiResponse<List<NotificationLogDto>>> getNotificationHistory() {
-        logger.info("Retrieving notification history");
+    public ResponseEntity<ApiResponse<NotificationHistoryPageDto>> getNotificationHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        logger.info(String.format("Retrieving notification history page (limit %d)", limit));
 
-        List<NotificationLogDto> history = notificationService.getNotificationHistory();
+        NotificationHistoryPageDto page = notificationService.getNotificationHistory(cursor, limit);
 
-        ApiResponse<List<NotificationLogDto>> response = ApiResponse.success(
-                String.format("Retrieved %d notification records", history.size()),
-                history
+        ApiResponse<NotificationHistoryPageDto> response = ApiResponse.success(
+                String.format("Retrieved %d notification records", page.getItems().size()),
+                page
         );
 
         return ResponseEntity.ok(response);
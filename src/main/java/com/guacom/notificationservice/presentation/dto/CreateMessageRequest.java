@@ -7,6 +7,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,4 +20,13 @@ public class CreateMessageRequest {
     @NotNull(message = "Content is required")
     @Size(min = 10, max = 1000, message = "Content must be between 10 and 1000 characters")
     private String content;
-}
\ No newline at end of file
+
+    /**
+     * Server local time to send the message at; sent right away when absent.
+     */
+    private LocalDateTime sendAt;
+
+    public CreateMessageRequest(MessageCategory category, String content) {
+        this(category, content, null);
+    }
+}
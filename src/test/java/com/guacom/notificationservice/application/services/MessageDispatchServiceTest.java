@@ -0,0 +1,216 @@
+package com.guacom.notificationservice.application.services;
+
+import com.guacom.notificationservice.application.dto.DispatchJobDto;
+import com.guacom.notificationservice.application.dto.NotificationLogDto;
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.enums.DispatchJobStatus;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
+import com.guacom.notificationservice.domain.exceptions.ResourceNotFoundException;
+import com.guacom.notificationservice.domain.exceptions.ServiceUnavailableException;
+import com.guacom.notificationservice.domain.interfaces.MessageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageDispatchServiceTest {
+
+    private static final String CONTENT = "Important sports news update";
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final AsyncDispatchSettings DEFAULT_SETTINGS =
+            new AsyncDispatchSettings(4, 100, 10_000, SHUTDOWN_TIMEOUT);
+
+    @Mock
+    private MessageService messageService;
+
+    private MessageDispatchServiceImpl dispatchService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatchService.shutdown();
+    }
+
+    @Test
+    void submit_ShouldAcceptImmediatelyAndReportProgress() throws Exception {
+        // Arrange
+        dispatchService = new MessageDispatchServiceImpl(messageService, DEFAULT_SETTINGS);
+        Message message = Message.builder()
+                .id("message-1")
+                .category(MessageCategory.SPORTS)
+                .content(CONTENT)
+                .build();
+
+        when(messageService.createMessage(MessageCategory.SPORTS, CONTENT)).thenReturn(message);
+        doAnswer(invocation -> {
+            Consumer<NotificationLogDto> listener = invocation.getArgument(1);
+            listener.accept(NotificationLogDto.builder().status(NotificationStatus.SENT).build());
+            listener.accept(NotificationLogDto.builder().status(NotificationStatus.FAILED).build());
+            return null;
+        }).when(messageService).processMessage(eq(message), any(), any());
+
+        // Act
+        DispatchJobDto accepted = dispatchService.submit(MessageCategory.SPORTS, CONTENT);
+        DispatchJobDto finished = awaitFinished(accepted.getJobId());
+
+        // Assert
+        assertEquals("message-1", accepted.getJobId());
+        assertEquals(DispatchJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(2, finished.getProcessedNotifications());
+        assertEquals(1, finished.getSentNotifications());
+        assertEquals(1, finished.getFailedNotifications());
+        assertEquals(0, finished.getRetryingNotifications());
+        assertNotNull(finished.getCompletedAt());
+    }
+
+    @Test
+    void submit_ShouldCompleteJobOnlyOnceRetriesHaveSettled() throws Exception {
+        // Arrange
+        dispatchService = new MessageDispatchServiceImpl(messageService, DEFAULT_SETTINGS);
+        Message message = Message.builder()
+                .id("message-1")
+                .category(MessageCategory.SPORTS)
+                .content(CONTENT)
+                .build();
+        CompletableFuture<Consumer<NotificationLogDto>> retryOutcomes = new CompletableFuture<>();
+
+        when(messageService.createMessage(MessageCategory.SPORTS, CONTENT)).thenReturn(message);
+        doAnswer(invocation -> {
+            Consumer<NotificationLogDto> listener = invocation.getArgument(1);
+            listener.accept(NotificationLogDto.builder().status(NotificationStatus.SENT).build());
+            listener.accept(NotificationLogDto.builder().status(NotificationStatus.RETRYING).build());
+            listener.accept(NotificationLogDto.builder().status(NotificationStatus.RETRYING).build());
+            retryOutcomes.complete(invocation.getArgument(2));
+            return null;
+        }).when(messageService).processMessage(eq(message), any(), any());
+
+        // Act
+        DispatchJobDto accepted = dispatchService.submit(MessageCategory.SPORTS, CONTENT);
+        Consumer<NotificationLogDto> outcomes = retryOutcomes.get(5, TimeUnit.SECONDS);
+        // Give the worker time to return from the dispatch, which must not complete the job by itself
+        Thread.sleep(50);
+        DispatchJobDto dispatched = dispatchService.getJob(accepted.getJobId());
+        outcomes.accept(NotificationLogDto.builder().status(NotificationStatus.SENT).build());
+        DispatchJobDto oneRetryLeft = dispatchService.getJob(accepted.getJobId());
+        outcomes.accept(NotificationLogDto.builder().status(NotificationStatus.FAILED).build());
+        DispatchJobDto finished = awaitFinished(accepted.getJobId());
+
+        // Assert
+        assertEquals(DispatchJobStatus.RUNNING, dispatched.getStatus());
+        assertEquals(2, dispatched.getRetryingNotifications());
+        assertEquals(DispatchJobStatus.RUNNING, oneRetryLeft.getStatus());
+        assertEquals(2, oneRetryLeft.getSentNotifications());
+        assertEquals(1, oneRetryLeft.getRetryingNotifications());
+        assertEquals(DispatchJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(3, finished.getProcessedNotifications());
+        assertEquals(2, finished.getSentNotifications());
+        assertEquals(1, finished.getFailedNotifications());
+        assertEquals(0, finished.getRetryingNotifications());
+        assertNotNull(finished.getCompletedAt());
+    }
+
+    @Test
+    void submit_ShouldRejectWhenDispatchQueueIsFull() {
+        // Arrange
+        dispatchService = new MessageDispatchServiceImpl(messageService,
+                new AsyncDispatchSettings(1, 1, 10_000, SHUTDOWN_TIMEOUT));
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(messageService.createMessage(any(), any())).thenAnswer(invocation -> Message.builder()
+                .id(UUID.randomUUID().toString())
+                .category(MessageCategory.SPORTS)
+                .content(CONTENT)
+                .build());
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(messageService).processMessage(any(Message.class), any(), any());
+
+        try {
+            // Act
+            dispatchService.submit(MessageCategory.SPORTS, CONTENT);
+            dispatchService.submit(MessageCategory.SPORTS, CONTENT);
+
+            // Assert
+            assertThrows(ServiceUnavailableException.class,
+                    () -> dispatchService.submit(MessageCategory.SPORTS, CONTENT));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void submit_ShouldEvictFinishedJobs_WhileAnOlderJobIsStillRunning() throws Exception {
+        // Arrange
+        dispatchService = new MessageDispatchServiceImpl(messageService,
+                new AsyncDispatchSettings(2, 100, 2, SHUTDOWN_TIMEOUT));
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger ids = new AtomicInteger();
+        when(messageService.createMessage(any(), any())).thenAnswer(invocation -> Message.builder()
+                .id("message-" + ids.incrementAndGet())
+                .category(MessageCategory.SPORTS)
+                .content(CONTENT)
+                .build());
+        doAnswer(invocation -> {
+            if ("message-1".equals(invocation.<Message>getArgument(0).getId())) {
+                release.await();
+            }
+            return null;
+        }).when(messageService).processMessage(any(Message.class), any(), any());
+
+        try {
+            // Act
+            DispatchJobDto running = dispatchService.submit(MessageCategory.SPORTS, CONTENT);
+            DispatchJobDto first = dispatchService.submit(MessageCategory.SPORTS, CONTENT);
+            awaitFinished(first.getJobId());
+            DispatchJobDto last = null;
+            for (int i = 0; i < 3; i++) {
+                last = dispatchService.submit(MessageCategory.SPORTS, CONTENT);
+                awaitFinished(last.getJobId());
+            }
+
+            // Assert
+            assertEquals(DispatchJobStatus.RUNNING, dispatchService.getJob(running.getJobId()).getStatus());
+            assertEquals(DispatchJobStatus.COMPLETED, dispatchService.getJob(last.getJobId()).getStatus());
+            assertThrows(ResourceNotFoundException.class, () -> dispatchService.getJob(first.getJobId()));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void getJob_ShouldThrowException_ForUnknownJob() {
+        // Arrange
+        dispatchService = new MessageDispatchServiceImpl(messageService, DEFAULT_SETTINGS);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> dispatchService.getJob("missing"));
+    }
+
+    private DispatchJobDto awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        DispatchJobDto job = dispatchService.getJob(jobId);
+        while (!job.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            job = dispatchService.getJob(jobId);
+        }
+        return job;
+    }
+}
@@ -4,6 +4,7 @@ import com.guacom.notificationservice.application.dto.NotificationLogDto;
 import com.guacom.notificationservice.application.validators.MessageValidator;
 import com.guacom.notificationservice.domain.enums.MessageCategory;
 import com.guacom.notificationservice.domain.interfaces.NotificationService;
+import com.guacom.notificationservice.infrastructure.ids.SnowflakeIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,7 +30,8 @@ class MessageServiceTest {
     @BeforeEach
     void setUp() {
         messageValidator = new MessageValidator();
-        messageService = new MessageServiceImpl(messageValidator, notificationService);
+        messageService = new MessageServiceImpl(messageValidator, notificationService,
+                SnowflakeIdGenerator.defaultInstance());
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.guacom.notificationservice.application.services;
 
+import com.guacom.notificationservice.application.dto.NotificationHistoryPageDto;
 import com.guacom.notificationservice.application.dto.NotificationLogDto;
 import com.guacom.notificationservice.domain.entities.Message;
 import com.guacom.notificationservice.domain.entities.NotificationLog;
@@ -11,7 +12,10 @@ import com.guacom.notificationservice.domain.enums.NotificationStatus;
 import com.guacom.notificationservice.domain.interfaces.ChannelFactory;
 import com.guacom.notificationservice.domain.interfaces.NotificationChannelStrategy;
 import com.guacom.notificationservice.domain.interfaces.NotificationRepository;
+import com.guacom.notificationservice.domain.interfaces.RetryScheduler;
 import com.guacom.notificationservice.domain.interfaces.UserRepository;
+import com.guacom.notificationservice.infrastructure.events.AsyncDeliveryEventJournal;
+import com.guacom.notificationservice.infrastructure.ids.SnowflakeIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,14 +23,30 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,7 +74,8 @@ class NotificationServiceTest {
 
     @BeforeEach
     void setUp() {
-        notificationService = new NotificationServiceImpl(userRepository, notificationRepository, channelFactory);
+        notificationService = serviceBuilder()
+                .build();
 
         testUser = new User(
                 "user-1",
@@ -93,6 +114,141 @@ class NotificationServiceTest {
         verify(notificationRepository, times(2)).save(any(NotificationLog.class));
     }
 
+    @Test
+    void sendNotifications_ShouldKeepResultOrder_WhenDispatchedConcurrently() {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        NotificationServiceImpl concurrentService = serviceBuilder()
+                .dispatchExecutor(executor, 4)
+                .build();
+
+        when(userRepository.findBySubscribedCategory(MessageCategory.SPORTS)).thenReturn(List.of(testUser));
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.SMS)).thenReturn(smsStrategy);
+        when(emailStrategy.sendNotification(testUser, testMessage)).thenReturn(NotificationResult.success("email-123"));
+        when(smsStrategy.sendNotification(testUser, testMessage)).thenReturn(NotificationResult.success("sms-456"));
+
+        try {
+            // Act
+            List<NotificationLogDto> results = concurrentService.sendNotifications(testMessage);
+
+            // Assert
+            assertEquals(testUser.getPreferredChannels(),
+                    results.stream().map(NotificationLogDto::getChannel).toList());
+            verify(notificationRepository, times(2)).save(any(NotificationLog.class));
+        } finally {
+            concurrentService.shutdown();
+        }
+    }
+
+    @Test
+    void sendNotifications_ShouldKeepFeedingOtherChannels_WhileOneChannelIsSaturated() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        NotificationServiceImpl concurrentService = serviceBuilder()
+                .dispatchExecutor(executor, 4)
+                .build();
+        CountDownLatch emailReleased = new CountDownLatch(1);
+        Executor saturatedEmail = delivery -> {
+            // Blocks the submitting lane the way a full bulkhead does
+            try {
+                emailReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivery.run();
+        };
+        int broadcasts = NotificationChannel.values().length + 1;
+        when(userRepository.findBySubscribedCategory(MessageCategory.SPORTS)).thenReturn(List.of(testUser));
+        when(channelFactory.getChannelExecutor(NotificationChannel.EMAIL)).thenReturn(Optional.of(saturatedEmail));
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.SMS)).thenReturn(smsStrategy);
+        when(emailStrategy.sendNotification(testUser, testMessage)).thenReturn(NotificationResult.success("email-123"));
+        when(smsStrategy.sendNotification(testUser, testMessage)).thenReturn(NotificationResult.success("sms-456"));
+        ExecutorService senders = Executors.newFixedThreadPool(broadcasts);
+
+        try {
+            // Act
+            List<Future<List<NotificationLogDto>>> results = new ArrayList<>();
+            for (int i = 0; i < broadcasts; i++) {
+                results.add(senders.submit(() -> concurrentService.sendNotifications(testMessage)));
+            }
+
+            // Assert
+            verify(smsStrategy, timeout(5_000).times(broadcasts)).sendNotification(testUser, testMessage);
+            verify(emailStrategy, never()).sendNotification(testUser, testMessage);
+            emailReleased.countDown();
+            for (Future<List<NotificationLogDto>> result : results) {
+                assertEquals(2, result.get(5, TimeUnit.SECONDS).size());
+            }
+        } finally {
+            emailReleased.countDown();
+            senders.shutdownNow();
+            concurrentService.shutdown();
+        }
+    }
+
+    @Test
+    void sendNotifications_ShouldGroupRecipientsIntoBatches_WhenBatchSizeConfigured() {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        NotificationServiceImpl batchingService = serviceBuilder()
+                .dispatchExecutor(executor, 4)
+                .batchSizes(Map.of(NotificationChannel.EMAIL, 2, NotificationChannel.SMS, 2))
+                .build();
+        User secondUser = new User(
+                "user-2",
+                "Jane Doe",
+                "jane.doe@email.com",
+                "+1987654321",
+                List.of(MessageCategory.SPORTS),
+                List.of(NotificationChannel.SMS, NotificationChannel.EMAIL)
+        );
+        List<User> subscribedUsers = List.of(testUser, secondUser);
+
+        when(userRepository.findBySubscribedCategory(MessageCategory.SPORTS)).thenReturn(subscribedUsers);
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.SMS)).thenReturn(smsStrategy);
+        when(emailStrategy.sendBatch(subscribedUsers, testMessage)).thenReturn(List.of(
+                NotificationResult.success("email-1"), NotificationResult.success("email-2")));
+        when(smsStrategy.sendBatch(subscribedUsers, testMessage)).thenReturn(List.of(
+                NotificationResult.success("sms-1"), NotificationResult.failure("Invalid phone number format")));
+
+        try {
+            // Act
+            List<NotificationLogDto> results = batchingService.sendNotifications(testMessage);
+
+            // Assert
+            assertThat(results).extracting(NotificationLogDto::getExternalMessageId)
+                    .containsExactly("email-1", "sms-1", null, "email-2");
+            assertEquals(NotificationStatus.FAILED, results.get(2).getStatus());
+            verify(emailStrategy, never()).sendNotification(any(User.class), any(Message.class));
+            verify(smsStrategy, never()).sendNotification(any(User.class), any(Message.class));
+            verify(notificationRepository, times(4)).save(any(NotificationLog.class));
+        } finally {
+            batchingService.shutdown();
+        }
+    }
+
+    @Test
+    void sendBatchNotification_ShouldFailEveryRecipient_WhenProviderThrows() {
+        // Arrange
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.SMS)).thenReturn(smsStrategy);
+        when(smsStrategy.sendBatch(List.of(testUser, testUser), testMessage))
+                .thenThrow(new RuntimeException("Provider unavailable"));
+
+        // Act
+        List<NotificationLogDto> results = notificationService.sendBatchNotification(
+                List.of(testUser, testUser), testMessage, NotificationChannel.SMS);
+
+        // Assert
+        assertThat(results).hasSize(2)
+                .allSatisfy(result -> {
+                    assertEquals(NotificationStatus.FAILED, result.getStatus());
+                    assertEquals("System error: Provider unavailable", result.getErrorMessage());
+                });
+    }
+
     @Test
     void sendSingleNotification_ShouldHandleSuccessfulDelivery() {
         // Arrange
@@ -108,7 +264,7 @@ class NotificationServiceTest {
     }
 
     @Test
-    void getNotificationHistory_ShouldReturnAllNotificationsAsDto() {
+    void getNotificationHistory_ShouldReturnFirstPageAsDto() {
         // Arrange
         List<NotificationLog> mockLogs = List.of(
                 createMockNotificationLog(UUID.randomUUID(), UUID.randomUUID(), NotificationChannel.EMAIL, NotificationStatus.SENT),
@@ -116,19 +272,21 @@ class NotificationServiceTest {
                 createMockNotificationLog(UUID.randomUUID(), UUID.randomUUID(), NotificationChannel.PUSH, NotificationStatus.SENT)
         );
 
-        when(notificationRepository.findAllOrderByCreatedDateDesc()).thenReturn(mockLogs);
+        when(notificationRepository.findPageOrderByCreatedDateDesc(null, null, 11)).thenReturn(mockLogs);
 
         // Act
-        List<NotificationLogDto> result = notificationService.getNotificationHistory();
+        NotificationHistoryPageDto result = notificationService.getNotificationHistory(null, 10);
 
         // Assert
         assertNotNull(result);
-        assertEquals(mockLogs.size(), result.size());
+        assertEquals(mockLogs.size(), result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
 
 
         for (int i = 0; i < mockLogs.size(); i++) {
             NotificationLog log = mockLogs.get(i);
-            NotificationLogDto dto = result.get(i);
+            NotificationLogDto dto = result.getItems().get(i);
 
             assertThat(dto)
                     .extracting(
@@ -148,7 +306,233 @@ class NotificationServiceTest {
         }
 
 
-        verify(notificationRepository).findAllOrderByCreatedDateDesc();
+        verify(notificationRepository).findPageOrderByCreatedDateDesc(null, null, 11);
+    }
+
+    @Test
+    void getNotificationHistory_ShouldResumeAfterCursorOfPreviousPage() {
+        // Arrange
+        List<NotificationLog> firstPage = List.of(
+                createMockNotificationLog(UUID.randomUUID(), UUID.randomUUID(), NotificationChannel.EMAIL, NotificationStatus.SENT),
+                createMockNotificationLog(UUID.randomUUID(), UUID.randomUUID(), NotificationChannel.SMS, NotificationStatus.SENT),
+                createMockNotificationLog(UUID.randomUUID(), UUID.randomUUID(), NotificationChannel.PUSH, NotificationStatus.SENT)
+        );
+        NotificationLog lastOfFirstPage = firstPage.get(1);
+        when(notificationRepository.findPageOrderByCreatedDateDesc(null, null, 3)).thenReturn(firstPage);
+        when(notificationRepository.findPageOrderByCreatedDateDesc(
+                lastOfFirstPage.getSentAt(), lastOfFirstPage.getId(), 3)).thenReturn(List.of(firstPage.get(2)));
+
+        // Act
+        NotificationHistoryPageDto page = notificationService.getNotificationHistory(null, 2);
+        NotificationHistoryPageDto nextPage = notificationService.getNotificationHistory(page.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        assertNotNull(page.getNextCursor());
+        assertEquals(1, nextPage.getItems().size());
+        assertEquals(firstPage.get(2).getId(), nextPage.getItems().get(0).getId());
+        assertFalse(nextPage.isHasMore());
+    }
+
+    @Test
+    void getNotificationHistory_ShouldRejectMalformedCursor() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> notificationService.getNotificationHistory("not-a-cursor", 10));
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void sendSingleNotification_ShouldRetryTransientFailure_UpdatingTheSameLog() {
+        // Arrange
+        ManualRetryScheduler retries = new ManualRetryScheduler(3);
+        NotificationServiceImpl retryingService = serviceBuilder()
+                .retryScheduler(retries)
+                .build();
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(emailStrategy.sendNotification(testUser, testMessage))
+                .thenReturn(NotificationResult.retryableFailure("Email delivery failed: timeout"))
+                .thenReturn(NotificationResult.success("email-123"));
+
+        // Act
+        NotificationLogDto result = retryingService.sendSingleNotification(testUser, testMessage, NotificationChannel.EMAIL);
+        retries.runNext();
+
+        // Assert
+        assertEquals(NotificationStatus.RETRYING, result.getStatus());
+        assertEquals("Attempt 1 failed, retrying in 2 ms: Email delivery failed: timeout", result.getErrorMessage());
+        ArgumentCaptor<NotificationLog> logCaptor = ArgumentCaptor.forClass(NotificationLog.class);
+        verify(notificationRepository, times(2)).save(logCaptor.capture());
+        assertThat(logCaptor.getAllValues()).extracting(NotificationLog::getId).containsOnly(result.getId());
+        assertThat(logCaptor.getAllValues()).extracting(NotificationLog::getStatus)
+                .containsExactly(NotificationStatus.RETRYING, NotificationStatus.SENT);
+        assertEquals(result.getSentAt(), logCaptor.getValue().getSentAt());
+        assertEquals("email-123", logCaptor.getValue().getExternalMessageId());
+        assertThat(retries.scheduled).isEmpty();
+    }
+
+    @Test
+    void sendSingleNotification_ShouldFail_WhenRetriesAreExhausted() {
+        // Arrange
+        ManualRetryScheduler retries = new ManualRetryScheduler(2);
+        NotificationServiceImpl retryingService = serviceBuilder()
+                .retryScheduler(retries)
+                .build();
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(emailStrategy.sendNotification(testUser, testMessage))
+                .thenThrow(new RuntimeException("Connection reset"));
+
+        // Act
+        retryingService.sendSingleNotification(testUser, testMessage, NotificationChannel.EMAIL);
+        retries.runNext();
+
+        // Assert
+        ArgumentCaptor<NotificationLog> logCaptor = ArgumentCaptor.forClass(NotificationLog.class);
+        verify(notificationRepository, times(2)).save(logCaptor.capture());
+        NotificationLog finalLog = logCaptor.getValue();
+        assertEquals(NotificationStatus.FAILED, finalLog.getStatus());
+        assertEquals("Failed after 2 attempts: System error: Connection reset", finalLog.getErrorMessage());
+        assertThat(retries.scheduled).isEmpty();
+    }
+
+    @Test
+    void sendSingleNotification_ShouldWriteFailedLog_WhenRetryIsAbandoned() {
+        // Arrange
+        ManualRetryScheduler retries = new ManualRetryScheduler(3);
+        NotificationServiceImpl retryingService = serviceBuilder()
+                .retryScheduler(retries)
+                .build();
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(emailStrategy.sendNotification(testUser, testMessage))
+                .thenReturn(NotificationResult.retryableFailure("Email delivery failed: timeout"));
+
+        // Act
+        NotificationLogDto result = retryingService.sendSingleNotification(testUser, testMessage, NotificationChannel.EMAIL);
+        retries.abandonNext();
+
+        // Assert
+        ArgumentCaptor<NotificationLog> logCaptor = ArgumentCaptor.forClass(NotificationLog.class);
+        verify(notificationRepository, times(2)).save(logCaptor.capture());
+        assertThat(logCaptor.getAllValues()).extracting(NotificationLog::getId).containsOnly(result.getId());
+        assertThat(logCaptor.getAllValues()).extracting(NotificationLog::getStatus)
+                .containsExactly(NotificationStatus.RETRYING, NotificationStatus.FAILED);
+        verify(emailStrategy, times(1)).sendNotification(testUser, testMessage);
+    }
+
+    @Test
+    void sendBatchNotification_ShouldSendRetriesDueTogetherAsOneBatch_ThroughTheChannelExecutor() throws Exception {
+        // Arrange
+        ManualRetryScheduler retries = new ManualRetryScheduler(3);
+        NotificationServiceImpl retryingService = serviceBuilder()
+                .dispatchExecutor(Executors.newFixedThreadPool(2), 2)
+                .batchSizes(Map.of(NotificationChannel.EMAIL, 3))
+                .retryScheduler(retries)
+                .build();
+        User secondUser = new User("user-2", "Jane Doe", "jane.doe@email.com", "+1987654321",
+                List.of(MessageCategory.SPORTS), List.of(NotificationChannel.EMAIL));
+        User thirdUser = new User("user-3", "Max Doe", "max.doe@email.com", "+1555123456",
+                List.of(MessageCategory.SPORTS), List.of(NotificationChannel.EMAIL));
+        CountDownLatch firstRetryHeld = new CountDownLatch(1);
+        CountDownLatch emailReleased = new CountDownLatch(1);
+        Executor heldEmail = delivery -> {
+            firstRetryHeld.countDown();
+            try {
+                emailReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivery.run();
+        };
+        NotificationResult timedOut = NotificationResult.retryableFailure("Email delivery failed: timeout");
+        when(channelFactory.getChannelExecutor(NotificationChannel.EMAIL)).thenReturn(Optional.of(heldEmail));
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(emailStrategy.sendBatch(List.of(testUser, secondUser, thirdUser), testMessage))
+                .thenReturn(List.of(timedOut, timedOut, timedOut));
+        when(emailStrategy.sendNotification(testUser, testMessage)).thenReturn(NotificationResult.success("email-1"));
+        when(emailStrategy.sendBatch(List.of(secondUser, thirdUser), testMessage)).thenReturn(List.of(
+                NotificationResult.success("email-2"), NotificationResult.success("email-3")));
+
+        try {
+            retryingService.sendBatchNotification(List.of(testUser, secondUser, thirdUser), testMessage,
+                    NotificationChannel.EMAIL);
+
+            // Act: the first retry holds the channel while the other two come due
+            retries.runNext();
+            assertTrue(firstRetryHeld.await(5, TimeUnit.SECONDS));
+            retries.runNext();
+            retries.runNext();
+            emailReleased.countDown();
+
+            // Assert
+            verify(emailStrategy, timeout(5_000)).sendNotification(testUser, testMessage);
+            verify(emailStrategy, timeout(5_000)).sendBatch(List.of(secondUser, thirdUser), testMessage);
+            ArgumentCaptor<NotificationLog> logCaptor = ArgumentCaptor.forClass(NotificationLog.class);
+            verify(notificationRepository, timeout(5_000).times(6)).save(logCaptor.capture());
+            assertThat(logCaptor.getAllValues()).extracting(NotificationLog::getStatus)
+                    .containsOnly(NotificationStatus.RETRYING, NotificationStatus.SENT);
+        } finally {
+            emailReleased.countDown();
+            retryingService.shutdown();
+        }
+    }
+
+    @Test
+    void sendNotifications_ShouldReportOutcomeOfRetriedDeliveries_AfterTheirLastAttempt() {
+        // Arrange
+        ManualRetryScheduler retries = new ManualRetryScheduler(3);
+        NotificationServiceImpl retryingService = serviceBuilder()
+                .retryScheduler(retries)
+                .build();
+        when(userRepository.findBySubscribedCategory(MessageCategory.SPORTS)).thenReturn(List.of(testUser));
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.SMS)).thenReturn(smsStrategy);
+        when(emailStrategy.sendNotification(testUser, testMessage))
+                .thenReturn(NotificationResult.retryableFailure("Email delivery failed: timeout"))
+                .thenReturn(NotificationResult.retryableFailure("Email delivery failed: timeout"))
+                .thenReturn(NotificationResult.success("email-123"));
+        when(smsStrategy.sendNotification(testUser, testMessage)).thenReturn(NotificationResult.success("sms-456"));
+        List<NotificationLogDto> delivered = new ArrayList<>();
+        List<NotificationLogDto> retryOutcomes = new ArrayList<>();
+
+        // Act
+        retryingService.sendNotifications(testMessage, delivered::add, retryOutcomes::add);
+        retries.runNext();
+        boolean reportedBeforeLastAttempt = !retryOutcomes.isEmpty();
+        retries.runNext();
+
+        // Assert
+        assertThat(delivered).extracting(NotificationLogDto::getStatus)
+                .containsExactlyInAnyOrder(NotificationStatus.RETRYING, NotificationStatus.SENT);
+        assertFalse(reportedBeforeLastAttempt);
+        assertThat(retryOutcomes).singleElement().satisfies(outcome -> {
+            assertEquals(NotificationStatus.SENT, outcome.getStatus());
+            assertEquals("email-123", outcome.getExternalMessageId());
+        });
+    }
+
+    @Test
+    void sendSingleNotification_ShouldNotRetryPermanentFailure() {
+        // Arrange
+        ManualRetryScheduler retries = new ManualRetryScheduler(3);
+        NotificationServiceImpl retryingService = serviceBuilder()
+                .retryScheduler(retries)
+                .build();
+        when(channelFactory.getNotificationChannelStrategy(NotificationChannel.SMS)).thenReturn(smsStrategy);
+        when(smsStrategy.sendNotification(testUser, testMessage))
+                .thenReturn(NotificationResult.failure("Invalid phone number format"));
+
+        // Act
+        NotificationLogDto result = retryingService.sendSingleNotification(testUser, testMessage, NotificationChannel.SMS);
+
+        // Assert
+        assertEquals(NotificationStatus.FAILED, result.getStatus());
+        assertThat(retries.scheduled).isEmpty();
+    }
+
+    private NotificationServiceImpl.Builder serviceBuilder() {
+        return NotificationServiceImpl.builder(userRepository, notificationRepository, channelFactory,
+                SnowflakeIdGenerator.defaultInstance(), AsyncDeliveryEventJournal.synchronous());
     }
 
     private NotificationLog createMockNotificationLog(UUID userId, UUID messageId,
@@ -160,6 +544,7 @@ class NotificationServiceTest {
         log.setMessageId(messageId.toString());
         log.setChannel(channel);
         log.setStatus(status);
+        log.setSentAt(LocalDateTime.now());
         return log;
     }
 
@@ -199,4 +584,38 @@ class NotificationServiceTest {
         assertEquals(message.getId(), savedLog.getMessageId());
         assertEquals(channel, savedLog.getChannel());
     }
+
+    /**
+     * Retries wait in a list until the test runs them; attempt {@code n} backs off {@code n} ms.
+     */
+    private static final class ManualRetryScheduler implements RetryScheduler {
+        private final int maxAttempts;
+        private final Deque<Runnable> scheduled = new ArrayDeque<>();
+        private final Deque<Runnable> abandons = new ArrayDeque<>();
+
+        ManualRetryScheduler(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        @Override
+        public long backoffMillis(NotificationChannel channel, int attempt) {
+            return attempt <= maxAttempts ? attempt : -1;
+        }
+
+        @Override
+        public void schedule(long delayMillis, Runnable retry, Runnable abandon) {
+            scheduled.add(retry);
+            abandons.add(abandon);
+        }
+
+        void runNext() {
+            abandons.remove();
+            scheduled.remove().run();
+        }
+
+        void abandonNext() {
+            scheduled.remove();
+            abandons.remove().run();
+        }
+    }
 }
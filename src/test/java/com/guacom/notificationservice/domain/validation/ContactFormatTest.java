@@ -0,0 +1,114 @@
+package com.guacom.notificationservice.domain.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContactFormatTest {
+    // The patterns the channels validated with before
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?[0-9\\s\\-\\(\\)]{10,}$");
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "john.smith@email.com",
+            "  a+b_c-d@sub.example.org  ",
+            "x@y.co",
+            "x@y.c",
+            "x@.co",
+            "@example.com",
+            "john@",
+            "john@example",
+            "john@example.c0m",
+            "john smith@email.com",
+            "john@@email.com",
+            "john@exa_mple.com",
+            "a@b..cd",
+            ""
+    })
+    void isValidEmail_ShouldAgreeWithFormerPattern(String email) {
+        // Act
+        boolean valid = ContactFormat.isValidEmail(email);
+
+        // Assert
+        assertThat(valid).isEqualTo(EMAIL_PATTERN.matcher(email.trim()).matches());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "+1234567890",
+            "1234567890",
+            "+1 (234) 567-8900",
+            "+44 20 7946 0958",
+            " 0044 20 7946 0958 ",
+            "123456789",
+            "+(12) 345-67",
+            "+1-555-0101",
+            "+15550101",
+            "+123456789",
+            "+1234567",
+            "555-CALL-NOW",
+            "++1234567890",
+            "12345 67890x",
+            ""
+    })
+    void isValidPhone_ShouldAgreeWithFormerPattern(String phone) {
+        // Act
+        boolean valid = ContactFormat.isValidPhone(phone);
+
+        // Assert
+        assertThat(valid).isEqualTo(PHONE_PATTERN.matcher(phone.trim()).matches());
+    }
+
+    @Test
+    void isValidPhone_ShouldRejectNumbersShorterThanTenCharacters() {
+        // Assert
+        assertThat(ContactFormat.isValidPhone("+15550101")).isFalse();
+        assertThat(ContactFormat.isValidPhone("+123456789")).isFalse();
+        assertThat(ContactFormat.isValidPhone("123456789")).isFalse();
+        assertThat(ContactFormat.isValidPhone("+1234567890")).isTrue();
+        assertThat(ContactFormat.isValidPhone(null)).isFalse();
+    }
+
+    @Test
+    void normalizeEmail_ShouldTrimAndLowerCase_WhenValid() {
+        // Assert
+        assertThat(ContactFormat.normalizeEmail("  John.Smith@Email.COM ")).isEqualTo("john.smith@email.com");
+        assertThat(ContactFormat.normalizeEmail("Not An Email")).isEqualTo("Not An Email");
+        assertThat(ContactFormat.normalizeEmail(null)).isNull();
+    }
+
+    @Test
+    void normalizePhone_ShouldConvertInternationalNumbersToE164() {
+        // Assert
+        assertThat(ContactFormat.normalizePhone("+1 (234) 567-8900")).isEqualTo("+12345678900");
+        assertThat(ContactFormat.normalizePhone("0044 20 7946 0958")).isEqualTo("+442079460958");
+        assertThat(ContactFormat.normalizePhone(" (555) 123-4567 ")).isEqualTo("(555) 123-4567");
+        assertThat(ContactFormat.normalizePhone("+1 2 3 4 5 6")).isEqualTo("+1 2 3 4 5 6");
+        assertThat(ContactFormat.normalizePhone("call me")).isEqualTo("call me");
+    }
+
+    @Test
+    void normalizePhone_ShouldKeepTrimmedOriginal_WhenNumberIsNotRealE164() {
+        // Assert
+        assertThat(ContactFormat.normalizePhone(" +1-555-0101 ")).isEqualTo("+1-555-0101");
+        assertThat(ContactFormat.normalizePhone("+0 123 456 7890")).isEqualTo("+0 123 456 7890");
+        assertThat(ContactFormat.normalizePhone("+1 234 567 890 123 456")).isEqualTo("+1 234 567 890 123 456");
+        assertThat(ContactFormat.normalizePhone("+1 (234) 5")).isEqualTo("+1 (234) 5");
+    }
+
+    @Test
+    void normalizePhone_ShouldKeepNumbersValid() {
+        // Arrange
+        String[] numbers = {"+1-555-0101", "+44 20 7946 0958", "00 1 555 123 4567", "1234567890", "+1 2 3 4 5 6"};
+
+        // Act & Assert
+        for (String number : numbers) {
+            assertThat(ContactFormat.isValidPhone(ContactFormat.normalizePhone(number))).as(number).isTrue();
+        }
+    }
+}
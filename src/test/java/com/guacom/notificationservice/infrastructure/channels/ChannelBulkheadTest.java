@@ -0,0 +1,69 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelBulkheadTest {
+
+    @Test
+    void execute_ShouldRunDeliveriesOnDedicatedWorkers() throws Exception {
+        // Arrange
+        ChannelBulkhead bulkhead = new ChannelBulkhead(NotificationChannel.SMS, 2, 10);
+        CompletableFuture<String> workerName = new CompletableFuture<>();
+
+        try {
+            // Act
+            bulkhead.execute(() -> workerName.complete(Thread.currentThread().getName()));
+
+            // Assert
+            assertTrue(workerName.get(5, TimeUnit.SECONDS).startsWith("notification-sms-"));
+        } finally {
+            bulkhead.shutdown();
+        }
+    }
+
+    @Test
+    void execute_ShouldBlockSubmitter_WhenWorkersAndQueueAreFull() throws Exception {
+        // Arrange
+        ChannelBulkhead bulkhead = new ChannelBulkhead(NotificationChannel.SMS, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blockedDelivery = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        try {
+            bulkhead.execute(blockedDelivery);
+            bulkhead.execute(blockedDelivery);
+
+            // Act
+            CompletableFuture<Void> thirdSubmission = CompletableFuture.runAsync(() -> bulkhead.execute(() -> { }));
+
+            // Assert
+            assertThrows(TimeoutException.class, () -> thirdSubmission.get(200, TimeUnit.MILLISECONDS));
+            assertEquals(1, bulkhead.getQueueDepth());
+
+            release.countDown();
+            thirdSubmission.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            bulkhead.shutdown();
+        }
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidLimits() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ChannelBulkhead(NotificationChannel.EMAIL, 0, 10));
+    }
+}
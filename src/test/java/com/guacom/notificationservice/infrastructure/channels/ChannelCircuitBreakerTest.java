@@ -0,0 +1,121 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.enums.CircuitState;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelCircuitBreakerTest {
+
+    @Test
+    void onFailure_ShouldOpenCircuit_WhenFailureRateReachesThreshold() {
+        // Arrange
+        ChannelCircuitBreaker breaker = new ChannelCircuitBreaker(NotificationChannel.SMS, settings(Duration.ofMinutes(1)));
+
+        // Act: 2 successes and 2 failures fill the window of 4 at a 50% failure rate
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+        breaker.onFailure(breaker.tryAcquire());
+
+        // Assert
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejectedCalls());
+    }
+
+    @Test
+    void onSuccess_ShouldKeepCircuitClosed_WhenOldFailuresLeaveTheWindow() {
+        // Arrange
+        ChannelCircuitBreaker breaker = new ChannelCircuitBreaker(NotificationChannel.SMS, settings(Duration.ofMinutes(1)));
+        breaker.onFailure(breaker.tryAcquire());
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(breaker.tryAcquire());
+        }
+
+        // Assert
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+        assertEquals(4, breaker.getBufferedCalls());
+        assertEquals(0, breaker.getFailedCalls());
+        assertEquals(0.0, breaker.getFailureRate());
+    }
+
+    @Test
+    void tryAcquire_ShouldCloseCircuit_WhenEveryTrialCallSucceeds() {
+        // Arrange
+        ChannelCircuitBreaker breaker = openBreaker(Duration.ZERO);
+
+        // Act
+        ChannelCircuitBreaker.Phase first = breaker.tryAcquire();
+        ChannelCircuitBreaker.Phase second = breaker.tryAcquire();
+        assertNull(breaker.tryAcquire());
+        breaker.onSuccess(first);
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+        breaker.onSuccess(second);
+
+        // Assert
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getBufferedCalls());
+    }
+
+    @Test
+    void onFailure_ShouldReopenCircuit_WhenTrialCallFails() {
+        // Arrange
+        ChannelCircuitBreaker breaker = openBreaker(Duration.ZERO);
+        ChannelCircuitBreaker.Phase trial = breaker.tryAcquire();
+
+        // Act
+        breaker.onFailure(trial);
+
+        // Assert
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+
+    @Test
+    void onIgnored_ShouldGiveTrialPermitBack() {
+        // Arrange
+        ChannelCircuitBreaker breaker = openBreaker(Duration.ZERO);
+        ChannelCircuitBreaker.Phase first = breaker.tryAcquire();
+        breaker.tryAcquire();
+
+        // Act
+        breaker.onIgnored(first);
+
+        // Assert
+        assertNotNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void constructor_ShouldRejectMinimumCallsAboveWindowSize() {
+        NotificationProperties.CircuitBreaker settings = settings(Duration.ofMinutes(1));
+        settings.setMinimumCalls(10);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChannelCircuitBreaker(NotificationChannel.SMS, settings));
+    }
+
+    private ChannelCircuitBreaker openBreaker(Duration openDuration) {
+        ChannelCircuitBreaker breaker = new ChannelCircuitBreaker(NotificationChannel.SMS, settings(openDuration));
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+        return breaker;
+    }
+
+    private static NotificationProperties.CircuitBreaker settings(Duration openDuration) {
+        NotificationProperties.CircuitBreaker settings = new NotificationProperties.CircuitBreaker();
+        settings.setWindowSize(4);
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setOpenDuration(openDuration);
+        settings.setHalfOpenCalls(2);
+        return settings;
+    }
+}
@@ -0,0 +1,64 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelRateLimiterTest {
+
+    @Test
+    void acquire_ShouldLetBurstThroughWithoutWaiting() {
+        // Arrange
+        ChannelRateLimiter limiter = new ChannelRateLimiter(NotificationChannel.SMS, settings(10, 5, Duration.ZERO));
+
+        // Act
+        int granted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (limiter.acquire()) {
+                granted++;
+            }
+        }
+
+        // Assert
+        assertEquals(5, granted);
+        assertEquals(0, limiter.getThrottledCalls());
+        assertEquals(5, limiter.getRejectedCalls());
+    }
+
+    @Test
+    void acquire_ShouldPaceCallsBeyondBurstAtConfiguredRate() {
+        // Arrange
+        ChannelRateLimiter limiter = new ChannelRateLimiter(NotificationChannel.PUSH, settings(100, 1, Duration.ofSeconds(5)));
+        long started = System.nanoTime();
+
+        // Act: the first permit is free, the next 20 are due every 10 ms
+        for (int i = 0; i < 21; i++) {
+            assertTrue(limiter.acquire());
+        }
+
+        // Assert
+        assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(20, limiter.getThrottledCalls());
+        assertEquals(0, limiter.getAvailablePermits());
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChannelRateLimiter(NotificationChannel.SMS, settings(0, 5, Duration.ZERO)));
+    }
+
+    private static NotificationProperties.RateLimit settings(double permitsPerSecond, int burst, Duration maxWait) {
+        NotificationProperties.RateLimit settings = new NotificationProperties.RateLimit();
+        settings.setEnabled(true);
+        settings.setPermitsPerSecond(permitsPerSecond);
+        settings.setBurst(burst);
+        settings.setMaxWait(maxWait);
+        return settings;
+    }
+}
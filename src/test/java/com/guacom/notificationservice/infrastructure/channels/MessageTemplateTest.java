@@ -0,0 +1,79 @@
+package com.guacom.notificationservice.infrastructure.channels;
+
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageTemplateTest {
+
+    private final User user = User.builder().id("user-1").name("John Doe").build();
+
+    @Test
+    void render_ShouldFillBoundValuesAndUserFields() {
+        // Arrange
+        MessageTemplate template = MessageTemplate.compilePerCategory("Hi {name}! [{category}] {content}")
+                .get(MessageCategory.MOVIES)
+                .bind(Map.of("content", "Premiere tonight {name}"));
+
+        // Act
+        String rendered = template.render(user);
+
+        // Assert: bound values are never parsed as placeholders
+        assertThat(rendered).isEqualTo("Hi John Doe! [Movies] Premiere tonight {name}");
+    }
+
+    @Test
+    void render_ShouldCutToMaxLengthWithEllipsis() {
+        // Arrange
+        MessageTemplate template = MessageTemplate.compile("{name}: {content}").bind(Map.of("content", "A".repeat(20)));
+
+        // Act & Assert
+        assertThat(template.render(user, 15)).isEqualTo("John Doe: AA...");
+        assertThat(template.render(user, 30)).isEqualTo("John Doe: " + "A".repeat(20));
+    }
+
+    @Test
+    void render_ShouldFail_WhenPlaceholderIsNeitherBoundNorUserField() {
+        // Arrange
+        MessageTemplate template = MessageTemplate.compile("Sent on {sentOn}");
+
+        // Act & Assert
+        assertThatThrownBy(() -> template.render(user)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void emailFormatMessage_ShouldMatchPreviousLayout() {
+        // Arrange
+        EmailNotificationStrategy strategy = new EmailNotificationStrategy();
+        Message message = Message.builder()
+                .id("message-1")
+                .category(MessageCategory.SPORTS)
+                .content("Final score 2-1")
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30, 5))
+                .build();
+
+        // Act
+        String body = strategy.formatMessage(message, user);
+
+        // Assert
+        assertThat(body).isEqualTo("""
+                Dear John Doe,
+
+                We have a new Sports update for you:
+
+                Final score 2-1
+
+                This message was sent on 2024-01-15 10:30:05.
+
+                Best regards,
+                Guacom Team
+                """);
+    }
+}
@@ -1,18 +1,29 @@
 package com.guacom.notificationservice.infrastructure.channels;
 
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.entities.NotificationResult;
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.CircuitState;
 import com.guacom.notificationservice.domain.enums.NotificationChannel;
 import com.guacom.notificationservice.domain.exceptions.NotificationException;
 import com.guacom.notificationservice.domain.interfaces.NotificationChannelStrategy;
+import com.guacom.notificationservice.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -75,4 +86,140 @@ class NotificationChannelFactoryTest {
 
         assertTrue(exception.getMessage().contains("No strategy found for channel"));
     }
+
+    @Test
+    void getChannelExecutor_ShouldBeEmpty_WithoutBulkheads() {
+        // Act & Assert
+        assertTrue(factory.getChannelExecutor(NotificationChannel.EMAIL).isEmpty());
+    }
+
+    @Test
+    void getChannelExecutor_ShouldIsolateEachConfiguredChannel() {
+        // Arrange
+        NotificationProperties properties = new NotificationProperties();
+        properties.getChannel(NotificationChannel.PUSH).getBulkhead().setEnabled(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        NotificationChannelFactory isolatedFactory = new NotificationChannelFactory(
+                Arrays.asList(emailStrategy, smsStrategy, pushStrategy), properties, meterRegistry);
+
+        try {
+            // Act & Assert
+            assertTrue(isolatedFactory.getChannelExecutor(NotificationChannel.EMAIL).isPresent());
+            assertTrue(isolatedFactory.getChannelExecutor(NotificationChannel.SMS).isPresent());
+            assertNotSame(isolatedFactory.getChannelExecutor(NotificationChannel.EMAIL).get(),
+                    isolatedFactory.getChannelExecutor(NotificationChannel.SMS).get());
+            assertTrue(isolatedFactory.getChannelExecutor(NotificationChannel.PUSH).isEmpty());
+            assertNotNull(meterRegistry.find("notification.channel.queue.depth").tag("channel", "SMS").gauge());
+        } finally {
+            isolatedFactory.shutdown();
+        }
+    }
+
+    @Test
+    void getStrategy_ShouldFailFastWithoutCallingProvider_WhenCircuitIsOpen() {
+        // Arrange
+        NotificationProperties properties = new NotificationProperties();
+        properties.getChannel(NotificationChannel.SMS).getCircuitBreaker().setMinimumCalls(2);
+        properties.getChannel(NotificationChannel.SMS).getCircuitBreaker().setWindowSize(2);
+        User user = User.builder().build();
+        Message message = new Message();
+        when(smsStrategy.sendNotification(user, message))
+                .thenReturn(NotificationResult.retryableFailure("SMS delivery failed: timeout"));
+
+        NotificationChannelFactory guardedFactory = new NotificationChannelFactory(
+                Arrays.asList(emailStrategy, smsStrategy, pushStrategy), properties, new SimpleMeterRegistry());
+
+        try {
+            NotificationChannelStrategy strategy = guardedFactory.getNotificationChannelStrategy(NotificationChannel.SMS);
+
+            // Act
+            strategy.sendNotification(user, message);
+            strategy.sendNotification(user, message);
+            NotificationResult rejected = strategy.sendNotification(user, message);
+
+            // Assert
+            verify(smsStrategy, times(2)).sendNotification(user, message);
+            assertFalse(rejected.isSuccess());
+            assertTrue(rejected.isRetryable());
+            assertEquals(CircuitState.OPEN, guardedFactory.getCircuitBreakers().get(NotificationChannel.SMS).getState());
+            assertEquals(1, guardedFactory.getCircuitBreakers().get(NotificationChannel.SMS).getRejectedCalls());
+        } finally {
+            guardedFactory.shutdown();
+        }
+    }
+
+    @Test
+    void getStrategy_ShouldNotCountRateLimitedSendsAgainstCircuit() {
+        // Arrange
+        NotificationProperties properties = new NotificationProperties();
+        NotificationProperties.RateLimit rateLimit = properties.getChannel(NotificationChannel.SMS).getRateLimit();
+        rateLimit.setEnabled(true);
+        rateLimit.setPermitsPerSecond(1);
+        rateLimit.setBurst(1);
+        rateLimit.setMaxWait(Duration.ZERO);
+        User user = User.builder().build();
+        Message message = new Message();
+        when(smsStrategy.sendNotification(user, message)).thenReturn(NotificationResult.success("sms-1"));
+
+        NotificationChannelFactory guardedFactory = new NotificationChannelFactory(
+                Arrays.asList(emailStrategy, smsStrategy, pushStrategy), properties, new SimpleMeterRegistry());
+
+        try {
+            NotificationChannelStrategy strategy = guardedFactory.getNotificationChannelStrategy(NotificationChannel.SMS);
+
+            // Act
+            NotificationResult sent = strategy.sendNotification(user, message);
+            NotificationResult throttled = strategy.sendNotification(user, message);
+
+            // Assert
+            assertTrue(sent.isSuccess());
+            assertTrue(throttled.isRetryable());
+            verify(smsStrategy, times(1)).sendNotification(user, message);
+            assertEquals(1, guardedFactory.getRateLimiters().get(NotificationChannel.SMS).getRejectedCalls());
+            assertEquals(1, guardedFactory.getCircuitBreakers().get(NotificationChannel.SMS).getBufferedCalls());
+            assertNull(guardedFactory.getRateLimiters().get(NotificationChannel.EMAIL));
+        } finally {
+            guardedFactory.shutdown();
+        }
+    }
+
+    @Test
+    void getStrategy_ShouldNotShrinkConcurrencyLimit_WhenSendsWaitForRateLimit() {
+        // Arrange
+        NotificationProperties properties = new NotificationProperties();
+        NotificationProperties.RateLimit rateLimit = properties.getChannel(NotificationChannel.SMS).getRateLimit();
+        rateLimit.setEnabled(true);
+        rateLimit.setPermitsPerSecond(10);
+        rateLimit.setBurst(1);
+        rateLimit.setMaxWait(Duration.ofSeconds(1));
+        NotificationProperties.AdaptiveConcurrency adaptiveConcurrency =
+                properties.getChannel(NotificationChannel.SMS).getAdaptiveConcurrency();
+        adaptiveConcurrency.setLatencyTolerance(1000);
+        AdaptiveConcurrencyLimiter concurrencyLimiter =
+                new AdaptiveConcurrencyLimiter(Map.of(NotificationChannel.SMS, adaptiveConcurrency));
+        User user = User.builder().build();
+        Message message = new Message();
+        when(smsStrategy.sendNotification(user, message)).thenReturn(NotificationResult.success("sms-1"));
+
+        NotificationChannelFactory guardedFactory = new NotificationChannelFactory(
+                Arrays.asList(emailStrategy, smsStrategy, pushStrategy), properties, new SimpleMeterRegistry(),
+                concurrencyLimiter);
+
+        try {
+            NotificationChannelStrategy strategy = guardedFactory.getNotificationChannelStrategy(NotificationChannel.SMS);
+
+            // Act
+            for (int i = 0; i < 4; i++) {
+                assertTrue(strategy.sendNotification(user, message).isSuccess());
+            }
+
+            // Assert
+            verify(smsStrategy, times(4)).sendNotification(user, message);
+            assertEquals(0, guardedFactory.getRateLimiters().get(NotificationChannel.SMS).getRejectedCalls());
+            assertTrue(concurrencyLimiter.getLimit(NotificationChannel.SMS) >= adaptiveConcurrency.getInitialLimit());
+        } finally {
+            guardedFactory.shutdown();
+        }
+    }
 }
@@ -329,8 +329,8 @@ class PushNotificationStrategyTest {
         assertThat(result.isSuccess()).isTrue();
         String externalId = result.getExternalMessageId();
 
-        assertThat(externalId).matches("^PUSH-[a-f0-9]{8}$");
-        assertThat(externalId).hasSize(13);
+        assertThat(externalId).matches("^PUSH-[0-9A-HJKMNP-TV-Z]{13}$");
+        assertThat(externalId).hasSize(18);
     }
 
     @Test
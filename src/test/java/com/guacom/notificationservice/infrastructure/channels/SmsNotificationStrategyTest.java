@@ -127,6 +127,31 @@ class SmsNotificationStrategyTest {
         assertFalse(smsStrategy.validateRecipient(user));
     }
 
+    @Test
+    void sendBatch_ShouldReturnResultPerRecipientInOrder() {
+        // Arrange
+        User invalidUser = new User(
+                "user-2",
+                "Jane Doe",
+                "jane.doe@email.com",
+                "invalid-phone",
+                List.of(MessageCategory.FINANCE),
+                List.of(NotificationChannel.SMS)
+        );
+
+        // Act
+        List<NotificationResult> results = smsStrategy.sendBatch(List.of(validUser, invalidUser, validUser), testMessage);
+
+        // Assert
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(0).getExternalMessageId().startsWith("SMS-"));
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("Invalid phone number format", results.get(1).getErrorMessage());
+        assertTrue(results.get(2).isSuccess());
+        assertNotEquals(results.get(0).getExternalMessageId(), results.get(2).getExternalMessageId());
+    }
+
     @Test
     void formatMessage_ShouldCreateProperSmsFormat() {
         // Act
@@ -138,6 +163,27 @@ class SmsNotificationStrategyTest {
         assertTrue(formattedMessage.contains("Important financial update for testing"));
     }
 
+    @Test
+    void formatMessage_ShouldRenderCurrentContent_WhenMessagesInterleaveOrChange() {
+        // Arrange
+        Message otherMessage = Message.builder()
+                .id("message-2")
+                .category(MessageCategory.FINANCE)
+                .content("Another broadcast")
+                .build();
+        smsStrategy.formatMessage(testMessage, validUser);
+        smsStrategy.formatMessage(otherMessage, validUser);
+
+        // Act
+        testMessage.setContent("Corrected financial update");
+        String changed = smsStrategy.formatMessage(testMessage, validUser);
+        String other = smsStrategy.formatMessage(otherMessage, validUser);
+
+        // Assert
+        assertTrue(changed.contains("Corrected financial update"));
+        assertTrue(other.contains("Another broadcast"));
+    }
+
     @Test
     void formatMessage_ShouldTruncateLongMessages() {
         // Arrange
@@ -0,0 +1,99 @@
+package com.guacom.notificationservice.infrastructure.concurrency;
+
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdLimitTest {
+
+    @Test
+    void release_ShouldGrowLimit_WhenCallsAreFastAndLimitIsInUse() {
+        // Arrange
+        AimdLimit limit = new AimdLimit(settings(2));
+
+        // Act
+        for (int round = 0; round < 20; round++) {
+            int slots = limit.getLimit();
+            for (int i = 0; i < slots; i++) {
+                limit.acquire();
+            }
+            for (int i = 0; i < slots; i++) {
+                limit.release(AimdLimit.SINGLE, TimeUnit.MILLISECONDS.toNanos(1), false);
+            }
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() > 2);
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void release_ShouldShrinkLimit_WhenProviderIsOverloaded() {
+        // Arrange
+        AimdLimit limit = new AimdLimit(settings(10));
+        limit.acquire();
+
+        // Act
+        limit.release(AimdLimit.SINGLE, 0, true);
+
+        // Assert
+        assertEquals(9, limit.getLimit());
+    }
+
+    @Test
+    void release_ShouldShrinkLimit_WhenCallIsMuchSlowerThanBaseline() {
+        // Arrange
+        AimdLimit limit = new AimdLimit(settings(10));
+        limit.acquire();
+        limit.release(AimdLimit.SINGLE, 1, false);
+        limit.acquire();
+
+        // Act
+        limit.release(AimdLimit.SINGLE, 10, false);
+
+        // Assert
+        assertEquals(9, limit.getLimit());
+    }
+
+    @Test
+    void release_ShouldKeepSeparateBaselineForBatches() {
+        // Arrange
+        AimdLimit limit = new AimdLimit(settings(10));
+        limit.acquire();
+        limit.release(AimdLimit.SINGLE, 1, false);
+        limit.acquire();
+
+        // Act
+        limit.release(AimdLimit.BATCH, 10, false);
+
+        // Assert
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void acquire_ShouldWaitForReleasedSlot_WhenLimitIsReached() throws Exception {
+        // Arrange
+        AimdLimit limit = new AimdLimit(settings(1));
+        limit.acquire();
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(limit::acquire);
+
+        // Act & Assert
+        assertThrows(TimeoutException.class, () -> waiting.get(100, TimeUnit.MILLISECONDS));
+        limit.release(AimdLimit.SINGLE, TimeUnit.MILLISECONDS.toNanos(1), false);
+        waiting.get(5, TimeUnit.SECONDS);
+        assertEquals(1, limit.getInFlight());
+    }
+
+    private static NotificationProperties.AdaptiveConcurrency settings(int initialLimit) {
+        NotificationProperties.AdaptiveConcurrency settings = new NotificationProperties.AdaptiveConcurrency();
+        settings.setInitialLimit(initialLimit);
+        settings.setMinLimit(1);
+        settings.setMaxLimit(64);
+        return settings;
+    }
+}
@@ -0,0 +1,143 @@
+package com.guacom.notificationservice.infrastructure.events;
+
+import com.guacom.notificationservice.domain.enums.DeliveryEventType;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncDeliveryEventJournalTest {
+
+    private final Logger journalLogger = Logger.getLogger(AsyncDeliveryEventJournal.class.getName());
+    private final CapturingHandler handler = new CapturingHandler();
+
+    @BeforeEach
+    void setUp() {
+        journalLogger.addHandler(handler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journalLogger.removeHandler(handler);
+    }
+
+    @Test
+    void record_ShouldLogStructuredLineOnLoggerThread() {
+        // Arrange
+        AsyncDeliveryEventJournal journal = new AsyncDeliveryEventJournal(settings(true, 16, Map.of()));
+
+        // Act
+        journal.record(DeliveryEventType.NOTIFICATION_FAILED, "msg-1", NotificationChannel.EMAIL, "user-1", 1,
+                "Invalid email address format");
+        journal.shutdown();
+
+        // Assert
+        assertThat(handler.lines).singleElement().satisfies(line -> assertThat(line)
+                .startsWith("event=NOTIFICATION_FAILED at=")
+                .contains(" message=msg-1 channel=EMAIL user=user-1 count=1")
+                .endsWith(" detail=\"Invalid email address format\""));
+        assertThat(handler.threads).containsOnly("delivery-event-logger");
+    }
+
+    @Test
+    void record_ShouldDropEvents_WhenBufferIsFull() throws InterruptedException {
+        // Arrange
+        AsyncDeliveryEventJournal journal = new AsyncDeliveryEventJournal(settings(true, 2, Map.of()));
+        handler.blockUntilReleased();
+
+        // Act
+        journal.record(DeliveryEventType.NOTIFICATION_SENT, "msg-1", NotificationChannel.SMS, "user-1", 1, null);
+        journal.record(DeliveryEventType.NOTIFICATION_SENT, "msg-1", NotificationChannel.SMS, "user-2", 1, null);
+        assertThat(handler.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 3; i <= 5; i++) {
+            journal.record(DeliveryEventType.NOTIFICATION_SENT, "msg-1", NotificationChannel.SMS, "user-" + i, 1, null);
+        }
+        handler.release.countDown();
+        journal.shutdown();
+
+        // Assert
+        assertThat(journal.getDroppedCount()).isEqualTo(3);
+        assertThat(handler.lines).filteredOn(line -> line.startsWith("event="))
+                .hasSize(2)
+                .anySatisfy(line -> assertThat(line).contains("user=user-1"))
+                .anySatisfy(line -> assertThat(line).contains("user=user-2"));
+    }
+
+    @Test
+    void record_ShouldSkipEventsOfTypesSampledAtZero() {
+        // Arrange
+        AsyncDeliveryEventJournal journal = new AsyncDeliveryEventJournal(settings(false, 16,
+                Map.of(DeliveryEventType.DELIVERY_ATTEMPTED, 0.0)));
+
+        // Act
+        journal.record(DeliveryEventType.DELIVERY_ATTEMPTED, "msg-1", NotificationChannel.PUSH, "user-1", 1, null);
+        journal.record(DeliveryEventType.NOTIFICATION_SENT, "msg-1", NotificationChannel.PUSH, "user-1", 1, "log-1");
+
+        // Assert
+        assertThat(handler.lines).singleElement().satisfies(line -> assertThat(line)
+                .startsWith("event=NOTIFICATION_SENT"));
+        assertThat(handler.threads).containsOnly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void constructor_ShouldRejectBufferSizeThatIsNotPowerOfTwo() {
+        // Act & Assert
+        assertThatThrownBy(() -> new AsyncDeliveryEventJournal(settings(true, 100, Map.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private NotificationProperties.Events settings(boolean async, int bufferSize,
+                                                   Map<DeliveryEventType, Double> sampleRates) {
+        NotificationProperties.Events settings = new NotificationProperties.Events();
+        settings.setAsync(async);
+        settings.setBufferSize(bufferSize);
+        settings.setFlushInterval(Duration.ofHours(1));
+        settings.getSampleRates().putAll(sampleRates);
+        return settings;
+    }
+
+    private static final class CapturingHandler extends Handler {
+        private final List<String> lines = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private CountDownLatch release = new CountDownLatch(0);
+
+        void blockUntilReleased() {
+            release = new CountDownLatch(1);
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            lines.add(record.getMessage());
+            threads.add(Thread.currentThread().getName());
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.guacom.notificationservice.infrastructure.ids;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 86_400_000L;
+
+    @Test
+    void nextId_ShouldReturnFixedWidthCrockfordBase32() {
+        // Arrange
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+
+        // Act
+        String id = generator.nextId();
+
+        // Assert
+        assertThat(id).matches("^[0-9A-HJKMNP-TV-Z]{13}$");
+    }
+
+    @Test
+    void nextId_ShouldSortByTime_EvenWhenSequenceOverflowsOrClockStepsBack() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, clock::get);
+        List<String> ids = new ArrayList<>();
+
+        // Act: more ids than one millisecond has sequence numbers, then the clock goes back
+        for (int i = 0; i < 5000; i++) {
+            ids.add(generator.nextId());
+        }
+        clock.set(NOW - 1000);
+        ids.add(generator.nextId());
+        clock.set(NOW + 1000);
+        ids.add(generator.nextId());
+
+        // Assert
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void nextId_ShouldOrderIdsOfDifferentNodesByMillisecond() {
+        // Arrange
+        SnowflakeIdGenerator highNode = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, () -> NOW);
+        SnowflakeIdGenerator lowNode = new SnowflakeIdGenerator(0, () -> NOW + 1);
+
+        // Act & Assert
+        assertThat(highNode.nextId()).isLessThan(lowNode.nextId());
+    }
+
+    @Test
+    void nextId_ShouldNeverRepeat_AcrossThreads() throws Exception {
+        // Arrange
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    void constructor_ShouldRejectNodeIdOutOfRange() {
+        // Act & Assert
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.guacom.notificationservice.infrastructure.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentile_ShouldBeWithinBucketPrecision() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        // Assert
+        assertThat(histogram.count()).isEqualTo(100_000);
+        assertThat((double) histogram.percentile(50)).isCloseTo(50_000, within(50_000 * 0.016));
+        assertThat((double) histogram.percentile(99)).isCloseTo(99_000, within(99_000 * 0.016));
+        assertThat((double) histogram.percentile(99.9)).isCloseTo(99_900, within(99_900 * 0.016));
+        assertThat(histogram.percentile(100)).isEqualTo(100_000);
+    }
+
+    @Test
+    void bucketOf_ShouldMapEveryValueIntoItsBucketBounds() {
+        // Arrange
+        long[] values = {0, 1, 127, 128, 129, 1_000, 65_535, 1_000_000, Long.MAX_VALUE / 2};
+
+        // Act & Assert
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(bucket)).as("upper bound of %d", value).isGreaterThanOrEqualTo(value);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(bucket - 1)).as("previous bound of %d", value).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    void percentile_ShouldBeZero_WhenNothingRecorded() {
+        // Assert
+        assertThat(new LatencyHistogram().percentile(99)).isZero();
+    }
+}
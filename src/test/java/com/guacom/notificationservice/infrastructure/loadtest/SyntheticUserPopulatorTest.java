@@ -0,0 +1,54 @@
+package com.guacom.notificationservice.infrastructure.loadtest;
+
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import com.guacom.notificationservice.infrastructure.repositories.InMemoryUserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SyntheticUserPopulatorTest {
+
+    @Test
+    void populate_ShouldFollowConfiguredDistribution() {
+        // Arrange
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        NotificationProperties.LoadTest settings = new NotificationProperties.LoadTest();
+        settings.setUsers(10_000);
+        settings.getCategoryRates().put(MessageCategory.SPORTS, 0.8);
+        settings.getCategoryRates().put(MessageCategory.MOVIES, 0.0);
+        settings.getChannelRates().put(NotificationChannel.SMS, 1.0);
+
+        // Act
+        new SyntheticUserPopulator(userRepository, settings).populate();
+
+        // Assert
+        assertThat(userRepository.count()).isEqualTo(10_000);
+        assertThat((double) userRepository.findBySubscribedCategory(MessageCategory.SPORTS).size())
+                .isCloseTo(8_000, within(300.0));
+        assertThat((double) userRepository.findBySubscribedCategory(MessageCategory.FINANCE).size())
+                .isCloseTo(5_000, within(300.0));
+        assertThat(userRepository.findBySubscribedCategory(MessageCategory.MOVIES)).isEmpty();
+        List<User> sports = userRepository.findBySubscribedCategory(MessageCategory.SPORTS);
+        assertThat(userRepository.findBySubscribedCategoryAndChannel(MessageCategory.SPORTS, NotificationChannel.SMS))
+                .hasSameSizeAs(sports);
+        assertThat(sports).allSatisfy(user -> assertThat(user.hasValidContact(NotificationChannel.SMS)).isTrue());
+    }
+
+    @Test
+    void constructor_ShouldRejectRateAboveOne() {
+        // Arrange
+        NotificationProperties.LoadTest settings = new NotificationProperties.LoadTest();
+        settings.getChannelRates().put(NotificationChannel.EMAIL, 1.5);
+
+        // Act & Assert
+        assertThatThrownBy(() -> new SyntheticUserPopulator(new InMemoryUserRepository(), settings))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
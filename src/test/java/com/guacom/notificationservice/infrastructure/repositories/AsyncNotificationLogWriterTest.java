@@ -0,0 +1,222 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
+import com.guacom.notificationservice.domain.interfaces.NotificationRepository;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncNotificationLogWriterTest {
+
+    @Test
+    void write_ShouldStoreLogsInBatchesOfAtMostMaxBatchSize() {
+        // Arrange
+        RecordingRepository repository = new RecordingRepository();
+        AsyncNotificationLogWriter writer = new AsyncNotificationLogWriter(repository, settings(true, 2, Duration.ofSeconds(5)));
+
+        // Act
+        for (int i = 1; i <= 5; i++) {
+            writer.write(createLog("log-" + i));
+        }
+        writer.shutdown();
+
+        // Assert
+        assertThat(repository.batches).allSatisfy(batch -> assertThat(batch).hasSizeBetween(1, 2));
+        assertThat(repository.batches.stream().flatMap(List::stream).map(NotificationLog::getId))
+                .containsExactly("log-1", "log-2", "log-3", "log-4", "log-5");
+    }
+
+    @Test
+    void write_ShouldStorePartialBatch_AfterMaxLinger() throws InterruptedException {
+        // Arrange
+        RecordingRepository repository = new RecordingRepository();
+        AsyncNotificationLogWriter writer = new AsyncNotificationLogWriter(repository, settings(true, 100, Duration.ofMillis(10)));
+
+        // Act
+        writer.write(createLog("log-1"));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (repository.batches.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // Assert
+        assertThat(repository.batches).hasSize(1);
+        assertThat(repository.batches.get(0)).extracting(NotificationLog::getId).containsExactly("log-1");
+        writer.shutdown();
+    }
+
+    @Test
+    void write_ShouldDropAndCountLog_WhenQueueIsFull() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingRepository repository = new RecordingRepository(release);
+        NotificationProperties.Writer settings = settings(true, 1, Duration.ofMillis(1));
+        settings.setQueueCapacity(1);
+        AsyncNotificationLogWriter writer = new AsyncNotificationLogWriter(repository, settings);
+        writer.write(createLog("log-1"));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (repository.batches.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        writer.write(createLog("log-2"));
+
+        // Act
+        CompletableFuture<Void> full = CompletableFuture.runAsync(() -> writer.write(createLog("log-3")));
+        full.get(5, TimeUnit.SECONDS);
+        release.countDown();
+        writer.shutdown();
+
+        // Assert
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        assertThat(repository.batches.stream().flatMap(List::stream).map(NotificationLog::getId))
+                .containsExactly("log-1", "log-2");
+    }
+
+    @Test
+    void write_ShouldStoreEveryLog_WhenWrittenConcurrently() throws Exception {
+        // Arrange
+        RecordingRepository repository = new RecordingRepository();
+        AsyncNotificationLogWriter writer = new AsyncNotificationLogWriter(repository, settings(true, 64, Duration.ofMillis(1)));
+        int writers = 4;
+        int logsPerWriter = 1_000;
+
+        // Act
+        CompletableFuture<?>[] running = new CompletableFuture<?>[writers];
+        for (int w = 0; w < writers; w++) {
+            int writerId = w;
+            running[w] = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < logsPerWriter; i++) {
+                    writer.write(createLog("log-" + writerId + "-" + i));
+                }
+            });
+        }
+        CompletableFuture.allOf(running).get(5, TimeUnit.SECONDS);
+        writer.shutdown();
+
+        // Assert
+        assertThat(writer.getDroppedCount()).isZero();
+        assertThat(repository.batches.stream().mapToLong(List::size).sum()).isEqualTo(writers * logsPerWriter);
+    }
+
+    @Test
+    void write_ShouldSaveLogsOneByOne_WhenBatchSaveFails() {
+        // Arrange
+        RecordingRepository repository = new RecordingRepository() {
+            @Override
+            public void saveAll(List<NotificationLog> logs) {
+                throw new IllegalStateException("batch rejected");
+            }
+
+            @Override
+            public void save(NotificationLog log) {
+                if (log.getId().equals("log-2")) {
+                    throw new IllegalStateException("log rejected");
+                }
+                super.save(log);
+            }
+        };
+        AsyncNotificationLogWriter writer = new AsyncNotificationLogWriter(repository, settings(true, 100, Duration.ofSeconds(5)));
+
+        // Act
+        for (int i = 1; i <= 3; i++) {
+            writer.write(createLog("log-" + i));
+        }
+        writer.shutdown();
+
+        // Assert
+        assertThat(repository.saved).extracting(NotificationLog::getId).containsExactly("log-1", "log-3");
+        assertThat(writer.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void write_ShouldSaveOnCallingThread_AfterShutdown() {
+        // Arrange
+        RecordingRepository repository = new RecordingRepository();
+        AsyncNotificationLogWriter writer = new AsyncNotificationLogWriter(repository, settings(true, 100, Duration.ofSeconds(5)));
+        writer.write(createLog("log-1"));
+        writer.shutdown();
+
+        // Act
+        writer.write(createLog("log-2"));
+
+        // Assert
+        assertThat(repository.batches.stream().flatMap(List::stream).map(NotificationLog::getId))
+                .containsExactly("log-1");
+        assertThat(repository.saved).extracting(NotificationLog::getId).containsExactly("log-2");
+    }
+
+    @Test
+    void write_ShouldSaveOnCallingThread_WhenAsyncDisabled() {
+        // Arrange
+        RecordingRepository repository = new RecordingRepository();
+        AsyncNotificationLogWriter writer = new AsyncNotificationLogWriter(repository, settings(false, 100, Duration.ofSeconds(5)));
+
+        // Act
+        writer.write(createLog("log-1"));
+
+        // Assert
+        assertThat(repository.saved).extracting(NotificationLog::getId).containsExactly("log-1");
+        assertThat(repository.batches).isEmpty();
+    }
+
+    private NotificationProperties.Writer settings(boolean async, int maxBatchSize, Duration maxLinger) {
+        NotificationProperties.Writer settings = new NotificationProperties.Writer();
+        settings.setAsync(async);
+        settings.setMaxBatchSize(maxBatchSize);
+        settings.setMaxLinger(maxLinger);
+        return settings;
+    }
+
+    private NotificationLog createLog(String id) {
+        return NotificationLog.builder()
+                .id(id)
+                .userId("user-1")
+                .status(NotificationStatus.SENT)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static class RecordingRepository extends InMemoryNotificationRepository {
+        private final List<NotificationLog> saved = new CopyOnWriteArrayList<>();
+        private final List<List<NotificationLog>> batches = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+
+        RecordingRepository() {
+            this(new CountDownLatch(0));
+        }
+
+        /**
+         * Holds every batch until {@code release} opens, as a repository that fell behind would.
+         */
+        RecordingRepository(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void save(NotificationLog log) {
+            saved.add(log);
+            super.save(log);
+        }
+
+        @Override
+        public void saveAll(List<NotificationLog> logs) {
+            batches.add(logs);
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            logs.forEach(super::save);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileNotificationRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 0, 0, 123_456_789);
+
+    @TempDir
+    Path journalDirectory;
+
+    private NotificationProperties.Journal journal;
+
+    @BeforeEach
+    void setUp() {
+        journal = new NotificationProperties.Journal();
+        journal.setDirectory(journalDirectory.toString());
+        journal.setSegmentSize(DataSize.ofKilobytes(4));
+    }
+
+    @Test
+    void save_ShouldReturnEqualLogs_FromAllFinders() {
+        // Arrange
+        FileNotificationRepository repository = new FileNotificationRepository(journal);
+        NotificationLog log = createLog("log-1", "user-1", NOW);
+
+        // Act
+        repository.save(log);
+
+        // Assert
+        assertThat(repository.findById("log-1")).contains(log);
+        assertThat(repository.findByUserId("user-1")).containsExactly(log);
+        assertThat(repository.findPageOrderByCreatedDateDesc(null, null, 10)).containsExactly(log);
+        repository.close();
+    }
+
+    @Test
+    void constructor_ShouldRecoverHistoryAcrossSegments_AfterRestart() {
+        // Arrange
+        FileNotificationRepository repository = new FileNotificationRepository(journal);
+        for (int i = 0; i < 50; i++) {
+            repository.save(createLog("log-" + i, "user-" + (i % 3), NOW.plusSeconds(i)));
+        }
+        repository.save(createLog("log-0", "user-0", NOW.plusSeconds(100)));
+        repository.close();
+
+        // Act
+        FileNotificationRepository reopened = new FileNotificationRepository(journal);
+
+        // Assert
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+        assertThat(reopened.findAllOrderByCreatedDateDesc())
+                .hasSize(50)
+                .extracting(NotificationLog::getId)
+                .startsWith("log-0", "log-49", "log-48");
+        assertThat(reopened.findById("log-7")).contains(createLog("log-7", "user-1", NOW.plusSeconds(7)));
+        reopened.close();
+    }
+
+    @Test
+    void constructor_ShouldDiscardTornRecord_AndKeepAppending() throws IOException {
+        // Arrange
+        FileNotificationRepository repository = new FileNotificationRepository(journal);
+        repository.save(createLog("log-1", "user-1", NOW));
+        repository.close();
+
+        byte[] intact = NotificationLogCodec.encode(createLog("log-1", "user-1", NOW));
+        byte[] torn = NotificationLogCodec.encode(createLog("log-2", "user-1", NOW.plusSeconds(1)));
+        try (FileChannel channel = FileChannel.open(segmentFiles()[0], StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(torn, 0, torn.length / 2), intact.length);
+        }
+
+        // Act
+        FileNotificationRepository reopened = new FileNotificationRepository(journal);
+        reopened.save(createLog("log-3", "user-1", NOW.plusSeconds(2)));
+        reopened.close();
+        FileNotificationRepository recovered = new FileNotificationRepository(journal);
+
+        // Assert
+        assertThat(recovered.findAllOrderByCreatedDateDesc())
+                .extracting(NotificationLog::getId)
+                .containsExactly("log-3", "log-1");
+        recovered.close();
+    }
+
+    @Test
+    void constructor_ShouldDeleteExpiredSegments_WithoutRecoveringTheirRecords() throws IOException {
+        // Arrange
+        FileNotificationRepository repository = new FileNotificationRepository(journal);
+        for (int i = 0; i < 50; i++) {
+            repository.save(createLog("log-" + i, "user-1", NOW.plusSeconds(i)));
+        }
+        repository.close();
+
+        Path[] files = segmentFiles();
+        FileTime twoDaysAgo = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        for (int i = 0; i < files.length - 1; i++) {
+            Files.setLastModifiedTime(files[i], twoDaysAgo);
+        }
+
+        // Act
+        FileNotificationRepository reopened = new FileNotificationRepository(journal);
+
+        // Assert
+        assertThat(files).hasSizeGreaterThan(1);
+        assertThat(segmentFiles()).containsExactly(files[files.length - 1]);
+        assertThat(reopened.findById("log-0")).isEmpty();
+        assertThat(reopened.findById("log-49")).isPresent();
+        assertThat(reopened.findByUserId("user-1")).hasSizeLessThan(50);
+        reopened.close();
+    }
+
+    @Test
+    void dropExpiredSegments_ShouldDropSealedSegments_AndKeepRecordsSavedAgainSince() throws InterruptedException {
+        // Arrange
+        NotificationProperties.Retention retention = new NotificationProperties.Retention();
+        retention.setMaxAge(Duration.ofMillis(1));
+        FileNotificationRepository repository = new FileNotificationRepository(journal, retention);
+        for (int i = 0; i < 50; i++) {
+            repository.save(createLog("log-" + i, "user-" + (i % 3), NOW.plusSeconds(i)));
+        }
+        repository.save(createLog("log-0", "user-0", NOW.plusSeconds(100)));
+        Thread.sleep(10);
+
+        // Act
+        repository.dropExpiredSegments();
+
+        // Assert
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(repository.findById("log-1")).isEmpty();
+        assertThat(repository.findById("log-0")).contains(createLog("log-0", "user-0", NOW.plusSeconds(100)));
+        assertThat(repository.findAllOrderByCreatedDateDesc())
+                .extracting(NotificationLog::getId)
+                .startsWith("log-0", "log-49")
+                .doesNotContain("log-1");
+        assertThat(repository.findByUserId("user-1")).extracting(NotificationLog::getId).doesNotContain("log-1");
+        repository.close();
+    }
+
+    private Path[] segmentFiles() {
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            return files.sorted().toArray(Path[]::new);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private NotificationLog createLog(String id, String userId, LocalDateTime sentAt) {
+        return NotificationLog.builder()
+                .id(id)
+                .messageId("message-1")
+                .userId(userId)
+                .userName("John Doe")
+                .userEmail("john.doe@email.com")
+                .userPhone(null)
+                .messageCategory(MessageCategory.SPORTS)
+                .messageContent("Important sports update with accents: ñ, é")
+                .channel(NotificationChannel.EMAIL)
+                .status(NotificationStatus.SENT)
+                .sentAt(sentAt)
+                .deliveredAt(sentAt)
+                .externalMessageId("EMAIL-" + id)
+                .build();
+    }
+}
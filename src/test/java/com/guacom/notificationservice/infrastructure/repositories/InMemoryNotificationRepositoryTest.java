@@ -0,0 +1,179 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryNotificationRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private InMemoryNotificationRepository notificationRepository;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = new InMemoryNotificationRepository();
+    }
+
+    @Test
+    void findAllOrderByCreatedDateDesc_ShouldReturnNewestFirst() {
+        // Arrange
+        notificationRepository.save(createLog("log-1", "user-1", NOW.minusMinutes(5)));
+        notificationRepository.save(createLog("log-2", "user-2", NOW));
+        notificationRepository.save(createLog("log-3", "user-1", NOW.minusMinutes(1)));
+
+        // Act & Assert
+        assertThat(notificationRepository.findAllOrderByCreatedDateDesc())
+                .extracting(NotificationLog::getId)
+                .containsExactly("log-2", "log-3", "log-1");
+    }
+
+    @Test
+    void findByUserId_ShouldReturnOnlyThatUsersLogsNewestFirst() {
+        // Arrange
+        notificationRepository.save(createLog("log-1", "user-1", NOW.minusMinutes(5)));
+        notificationRepository.save(createLog("log-2", "user-2", NOW));
+        notificationRepository.save(createLog("log-3", "user-1", NOW.minusMinutes(1)));
+
+        // Act & Assert
+        assertThat(notificationRepository.findByUserId("user-1"))
+                .extracting(NotificationLog::getId)
+                .containsExactly("log-3", "log-1");
+        assertThat(notificationRepository.findByUserId("unknown-user")).isEmpty();
+    }
+
+    @Test
+    void save_ShouldMoveIndexEntries_WhenLogIsSavedAgain() {
+        // Arrange
+        notificationRepository.save(createLog("log-1", "user-1", NOW.minusMinutes(5)));
+        notificationRepository.save(createLog("log-2", "user-1", NOW.minusMinutes(1)));
+
+        // Act
+        notificationRepository.save(createLog("log-1", "user-1", NOW));
+
+        // Assert
+        assertThat(notificationRepository.findAllOrderByCreatedDateDesc())
+                .extracting(NotificationLog::getId)
+                .containsExactly("log-1", "log-2");
+        assertThat(notificationRepository.findByUserId("user-1")).hasSize(2);
+    }
+
+    @Test
+    void save_ShouldMoveLogBetweenSegments_WithoutCountingItTwice() {
+        // Arrange
+        notificationRepository.save(createLog("log-1", "user-1", NOW.minusHours(5)));
+
+        // Act
+        notificationRepository.save(createLog("log-1", "user-1", NOW));
+
+        // Assert
+        assertThat(notificationRepository.findById("log-1"))
+                .hasValueSatisfying(log -> assertThat(log.getSentAt()).isEqualTo(NOW));
+        assertThat(notificationRepository.findByUserId("user-1")).hasSize(1);
+        assertThat(notificationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void findPageOrderByCreatedDateDesc_ShouldContinueStrictlyAfterGivenPosition() {
+        // Arrange
+        notificationRepository.save(createLog("log-1", "user-1", NOW.minusMinutes(2)));
+        notificationRepository.save(createLog("log-2", "user-1", NOW.minusMinutes(1)));
+        notificationRepository.save(createLog("log-3", "user-2", NOW.minusMinutes(1)));
+        notificationRepository.save(createLog("log-4", "user-2", NOW));
+
+        // Act
+        var firstPage = notificationRepository.findPageOrderByCreatedDateDesc(null, null, 2);
+        NotificationLog last = firstPage.get(firstPage.size() - 1);
+        var secondPage = notificationRepository.findPageOrderByCreatedDateDesc(last.getSentAt(), last.getId(), 2);
+
+        // Assert
+        assertThat(firstPage).extracting(NotificationLog::getId).containsExactly("log-4", "log-2");
+        assertThat(secondPage).extracting(NotificationLog::getId).containsExactly("log-3", "log-1");
+    }
+
+    @Test
+    void save_ShouldDropSegmentsOlderThanMaxAge() {
+        // Arrange
+        notificationRepository.save(createLog("expired", "user-1", NOW.minusDays(3)));
+        notificationRepository.save(createLog("recent", "user-1", NOW.minusMinutes(1)));
+
+        // Act & Assert
+        assertThat(notificationRepository.findById("expired")).isEmpty();
+        assertThat(notificationRepository.findAllOrderByCreatedDateDesc())
+                .extracting(NotificationLog::getId)
+                .containsExactly("recent");
+        assertThat(notificationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void save_ShouldDropOldestSegments_WhenMaxRecordsExceeded() {
+        // Arrange
+        NotificationProperties.Retention retention = new NotificationProperties.Retention();
+        retention.setMaxRecords(3);
+        InMemoryNotificationRepository boundedRepository = new InMemoryNotificationRepository(retention);
+
+        boundedRepository.save(createLog("log-1", "user-1", NOW.minusHours(3)));
+        boundedRepository.save(createLog("log-2", "user-1", NOW.minusHours(3)));
+        boundedRepository.save(createLog("log-3", "user-1", NOW.minusHours(2)));
+
+        // Act
+        boundedRepository.save(createLog("log-4", "user-1", NOW));
+
+        // Assert
+        assertThat(boundedRepository.findByUserId("user-1"))
+                .extracting(NotificationLog::getId)
+                .containsExactly("log-4", "log-3");
+        assertThat(boundedRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void save_ShouldKeepSharedMessageOnce_AndRebuildEveryLogOnRead() {
+        // Arrange
+        NotificationLog first = createBroadcastLog("log-1", "user-1", new String("Match starts at 8pm"));
+        NotificationLog second = createBroadcastLog("log-2", "user-2", new String("Match starts at 8pm"));
+
+        // Act
+        notificationRepository.save(first);
+        notificationRepository.save(second);
+
+        // Assert
+        NotificationLog storedFirst = notificationRepository.findById("log-1").orElseThrow();
+        NotificationLog storedSecond = notificationRepository.findById("log-2").orElseThrow();
+        assertThat(storedFirst).isEqualTo(first);
+        assertThat(storedSecond).isEqualTo(second);
+        assertThat(storedFirst.getMessageContent()).isSameAs(storedSecond.getMessageContent());
+    }
+
+    private NotificationLog createBroadcastLog(String id, String userId, String content) {
+        return NotificationLog.builder()
+                .id(id)
+                .messageId("message-1")
+                .userId(userId)
+                .userName("User " + userId)
+                .userEmail(userId + "@email.com")
+                .messageCategory(MessageCategory.SPORTS)
+                .messageContent(content)
+                .channel(NotificationChannel.EMAIL)
+                .status(NotificationStatus.SENT)
+                .sentAt(NOW)
+                .externalMessageId("EMAIL-" + id)
+                .build();
+    }
+
+    private NotificationLog createLog(String id, String userId, LocalDateTime sentAt) {
+        return NotificationLog.builder()
+                .id(id)
+                .userId(userId)
+                .status(NotificationStatus.SENT)
+                .sentAt(sentAt)
+                .build();
+    }
+}
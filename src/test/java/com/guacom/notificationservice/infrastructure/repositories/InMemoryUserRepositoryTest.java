@@ -0,0 +1,115 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.User;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryUserRepositoryTest {
+
+    private InMemoryUserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = new InMemoryUserRepository();
+        userRepository.initializeData();
+    }
+
+    @Test
+    void findBySubscribedCategory_ShouldReturnOnlySubscribers() {
+        // Act
+        List<User> subscribers = userRepository.findBySubscribedCategory(MessageCategory.MOVIES);
+
+        // Assert
+        assertThat(subscribers).extracting(User::getId)
+                .containsExactlyInAnyOrder("user-2", "user-4", "user-6", "user-8");
+    }
+
+    @Test
+    void findBySubscribedCategoryAndChannel_ShouldReturnUsersReachableThroughChannel() {
+        // Act
+        List<User> audience = userRepository.findBySubscribedCategoryAndChannel(
+                MessageCategory.FINANCE, NotificationChannel.SMS);
+
+        // Assert
+        assertThat(audience).extracting(User::getId)
+                .containsExactlyInAnyOrder("user-1", "user-3", "user-4", "user-7");
+    }
+
+    @Test
+    void save_ShouldReindexUser_WhenSubscriptionsChange() {
+        // Arrange
+        User user = userRepository.findById("user-6").orElseThrow();
+        user.setSubscribedCategories(List.of(MessageCategory.SPORTS));
+
+        // Act
+        userRepository.save(user);
+
+        // Assert
+        assertThat(userRepository.findBySubscribedCategory(MessageCategory.MOVIES))
+                .extracting(User::getId).doesNotContain("user-6");
+        assertThat(userRepository.findBySubscribedCategoryAndChannel(MessageCategory.SPORTS, NotificationChannel.EMAIL))
+                .extracting(User::getId).contains("user-6");
+    }
+
+    @Test
+    void save_ShouldStoreContactDetailsNormalizedOnAssignment() {
+        // Arrange
+        User user = new User("user-9", "Ivy Chen", "  Ivy.Chen@Email.COM ", "0044 20 7946 0958",
+                List.of(MessageCategory.SPORTS), List.of(NotificationChannel.EMAIL, NotificationChannel.SMS));
+        String emailBeforeSave = user.getEmail();
+
+        // Act
+        userRepository.save(user);
+
+        // Assert
+        User stored = userRepository.findById("user-9").orElseThrow();
+        assertThat(stored.getEmail()).isEqualTo("ivy.chen@email.com").isEqualTo(emailBeforeSave);
+        assertThat(stored.getPhoneNumber()).isEqualTo("+442079460958");
+        assertThat(stored.hasValidContact(NotificationChannel.EMAIL)).isTrue();
+        assertThat(stored.hasValidContact(NotificationChannel.SMS)).isTrue();
+        assertThat(userRepository.findById("user-1").orElseThrow().getPhoneNumber()).isEqualTo("+1-555-0101");
+    }
+
+    @Test
+    void deleteById_ShouldRemoveUserFromAudiences() {
+        // Act
+        userRepository.deleteById("user-3");
+
+        // Assert
+        assertThat(userRepository.findById("user-3")).isEmpty();
+        assertThat(userRepository.findBySubscribedCategory(MessageCategory.FINANCE))
+                .extracting(User::getId).doesNotContain("user-3");
+        assertThat(userRepository.findBySubscribedCategoryAndChannel(MessageCategory.FINANCE, NotificationChannel.SMS))
+                .extracting(User::getId).doesNotContain("user-3");
+    }
+
+    @Test
+    void findBySubscribedCategoryAndChannel_ShouldKeepIndexingBeyondInitialCapacity() {
+        // Arrange
+        for (int i = 0; i < 200; i++) {
+            userRepository.save(new User("bulk-" + i, "Bulk User " + i, "bulk" + i + "@email.com", "+1-555-9" + i,
+                    List.of(MessageCategory.MOVIES),
+                    i % 2 == 0 ? List.of(NotificationChannel.PUSH) : List.of(NotificationChannel.EMAIL)));
+        }
+        userRepository.deleteById("bulk-0");
+        userRepository.save(new User("bulk-reused", "Reused", "reused@email.com", "+1-555-0000",
+                List.of(MessageCategory.MOVIES), List.of(NotificationChannel.PUSH)));
+
+        // Act
+        List<User> audience = userRepository.findBySubscribedCategoryAndChannel(
+                MessageCategory.MOVIES, NotificationChannel.PUSH);
+
+        // Assert
+        assertThat(audience).hasSize(103)
+                .extracting(User::getId)
+                .contains("user-2", "user-8", "bulk-198", "bulk-reused")
+                .doesNotContain("bulk-0", "bulk-1", "user-6")
+                .doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,148 @@
+package com.guacom.notificationservice.infrastructure.repositories;
+
+import com.guacom.notificationservice.domain.entities.NotificationLog;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapNotificationRepositoryTest {
+
+    // The store keeps millisecond timestamps
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    private OffHeapNotificationRepository notificationRepository;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = createRepository(new NotificationProperties.Retention());
+    }
+
+    @Test
+    void findById_ShouldReturnEqualLog_AfterRoundTripThroughColumns() {
+        // Arrange
+        NotificationLog log = createLog("log-1", "user-1", NOW);
+        NotificationLog failed = NotificationLog.builder()
+                .id("log-2")
+                .userId("user-1")
+                .status(NotificationStatus.FAILED)
+                .errorMessage("Provider unavailable")
+                .build();
+
+        // Act
+        notificationRepository.save(log);
+        notificationRepository.save(failed);
+
+        // Assert
+        assertThat(notificationRepository.findById("log-1")).contains(log);
+        assertThat(notificationRepository.findById("log-2")).contains(failed);
+        assertThat(notificationRepository.findById("unknown")).isEmpty();
+    }
+
+    @Test
+    void findPageOrderByCreatedDateDesc_ShouldMergeChunksNewestFirst() {
+        // Arrange: rows arrive out of order and spread over several chunks
+        List<NotificationLog> saved = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            NotificationLog log = createLog("log-" + i, "user-" + (i % 3), NOW.minusMinutes((i * 7L) % 20));
+            notificationRepository.save(log);
+            saved.add(log);
+        }
+
+        // Act
+        List<NotificationLog> pages = new ArrayList<>();
+        List<NotificationLog> page = notificationRepository.findPageOrderByCreatedDateDesc(null, null, 6);
+        while (!page.isEmpty()) {
+            pages.addAll(page);
+            NotificationLog last = page.get(page.size() - 1);
+            page = notificationRepository.findPageOrderByCreatedDateDesc(last.getSentAt(), last.getId(), 6);
+        }
+
+        // Assert
+        saved.sort((a, b) -> HistoryKey.NEWEST_FIRST.compare(HistoryKey.of(a), HistoryKey.of(b)));
+        assertThat(pages).containsExactlyElementsOf(saved);
+        assertThat(notificationRepository.findAllOrderByCreatedDateDesc()).containsExactlyElementsOf(saved);
+    }
+
+    @Test
+    void findByUserId_ShouldReturnOnlyThatUsersLogsNewestFirst() {
+        // Arrange
+        notificationRepository.save(createLog("log-1", "user-1", NOW.minusMinutes(5)));
+        notificationRepository.save(createLog("log-2", "user-2", NOW));
+        notificationRepository.save(createLog("log-3", "user-1", NOW.minusMinutes(1)));
+
+        // Act & Assert
+        assertThat(notificationRepository.findByUserId("user-1"))
+                .extracting(NotificationLog::getId)
+                .containsExactly("log-3", "log-1");
+        assertThat(notificationRepository.findByUserId("unknown-user")).isEmpty();
+    }
+
+    @Test
+    void save_ShouldReplacePreviousRow_WhenLogIsSavedAgain() {
+        // Arrange
+        notificationRepository.save(createLog("log-1", "user-1", NOW.minusMinutes(5)));
+        notificationRepository.save(createLog("log-2", "user-1", NOW.minusMinutes(1)));
+
+        // Act
+        notificationRepository.save(createLog("log-1", "user-2", NOW));
+
+        // Assert
+        assertThat(notificationRepository.findAllOrderByCreatedDateDesc())
+                .extracting(NotificationLog::getId)
+                .containsExactly("log-1", "log-2");
+        assertThat(notificationRepository.findByUserId("user-1")).extracting(NotificationLog::getId).containsExactly("log-2");
+        assertThat(notificationRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void save_ShouldDropOldestChunks_WhenMaxRecordsExceeded() {
+        // Arrange
+        NotificationProperties.Retention retention = new NotificationProperties.Retention();
+        retention.setMaxRecords(8);
+        OffHeapNotificationRepository boundedRepository = createRepository(retention);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            boundedRepository.save(createLog("log-" + i, "user-1", NOW.plusSeconds(i)));
+        }
+
+        // Assert: chunks of four rows, so the log shrinks back to two full chunks
+        assertThat(boundedRepository.count()).isEqualTo(8);
+        assertThat(boundedRepository.findById("log-0")).isEmpty();
+        assertThat(boundedRepository.findByUserId("user-1")).extracting(NotificationLog::getId)
+                .containsExactly("log-19", "log-18", "log-17", "log-16", "log-15", "log-14", "log-13", "log-12");
+    }
+
+    private OffHeapNotificationRepository createRepository(NotificationProperties.Retention retention) {
+        NotificationProperties.OffHeap offHeap = new NotificationProperties.OffHeap();
+        offHeap.setChunkRows(4);
+        return new OffHeapNotificationRepository(offHeap, retention);
+    }
+
+    private NotificationLog createLog(String id, String userId, LocalDateTime sentAt) {
+        return NotificationLog.builder()
+                .id(id)
+                .messageId("message-1")
+                .userId(userId)
+                .userName("User " + userId)
+                .userEmail(userId + "@email.com")
+                .messageCategory(MessageCategory.FINANCE)
+                .messageContent("Market update")
+                .channel(NotificationChannel.PUSH)
+                .status(NotificationStatus.SENT)
+                .sentAt(sentAt)
+                .deliveredAt(sentAt)
+                .externalMessageId("PUSH-" + id)
+                .build();
+    }
+}
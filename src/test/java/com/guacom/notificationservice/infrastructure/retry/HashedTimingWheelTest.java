@@ -0,0 +1,78 @@
+package com.guacom.notificationservice.infrastructure.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    @Test
+    void schedule_ShouldRunTasksInDeadlineOrder_NeverEarly() throws Exception {
+        // Arrange
+        HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", 5, TimeUnit.MILLISECONDS, 8, Runnable::run);
+        List<String> ran = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        long scheduledAt = System.nanoTime();
+        List<Long> elapsed = new CopyOnWriteArrayList<>();
+
+        try {
+            // Act: 120 ms is several turns of a 40 ms wheel
+            wheel.schedule(120, TimeUnit.MILLISECONDS, () -> {
+                ran.add("late");
+                elapsed.add(System.nanoTime() - scheduledAt);
+                done.countDown();
+            }, () -> { });
+            wheel.schedule(10, TimeUnit.MILLISECONDS, () -> {
+                ran.add("early");
+                done.countDown();
+            }, () -> { });
+            wheel.schedule(50, TimeUnit.MILLISECONDS, () -> {
+                ran.add("middle");
+                done.countDown();
+            }, () -> { });
+
+            // Assert
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(ran).containsExactly("early", "middle", "late");
+            assertThat(elapsed.get(0)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(120));
+            assertThat(wheel.pendingCount()).isZero();
+        } finally {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void stop_ShouldHandBackTasksThatNeverRan() {
+        // Arrange
+        HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", 10, TimeUnit.MILLISECONDS, 16, Runnable::run);
+        AtomicInteger ran = new AtomicInteger();
+        AtomicInteger abandoned = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            wheel.schedule(1, TimeUnit.HOURS, ran::incrementAndGet, abandoned::incrementAndGet);
+        }
+
+        // Act
+        wheel.stop().forEach(Runnable::run);
+
+        // Assert
+        assertThat(abandoned).hasValue(1000);
+        assertThat(ran).hasValue(0);
+        assertThat(wheel.pendingCount()).isZero();
+        assertThatThrownBy(() -> wheel.schedule(1, TimeUnit.SECONDS, () -> { }, () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void constructor_ShouldRejectWheelSizeThatIsNotAPowerOfTwo() {
+        assertThatThrownBy(() -> new HashedTimingWheel("test-wheel", 10, TimeUnit.MILLISECONDS, 100, Runnable::run))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
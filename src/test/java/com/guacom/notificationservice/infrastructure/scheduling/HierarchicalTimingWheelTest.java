@@ -0,0 +1,83 @@
+package com.guacom.notificationservice.infrastructure.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000;
+
+    @Test
+    void advanceTo_ShouldExpireEntriesWithTheirTick_AcrossAllLevels() {
+        // Arrange: levels of 4 buckets cover 40 ms, 160 ms and 640 ms
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 3, START);
+        wheel.schedule("overflow", START + 2_005);
+        wheel.schedule("level-2", START + 455);
+        wheel.schedule("level-1", START + 95);
+        wheel.schedule("level-0", START + 25);
+        List<String> expired = new ArrayList<>();
+
+        // Act & Assert
+        wheel.advanceTo(START + 29, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advanceTo(START + 30, expired::add);
+        assertThat(expired).containsExactly("level-0");
+
+        wheel.advanceTo(START + 99, expired::add);
+        assertThat(expired).containsExactly("level-0");
+
+        wheel.advanceTo(START + 460, expired::add);
+        assertThat(expired).containsExactly("level-0", "level-1", "level-2");
+
+        wheel.advanceTo(START + 2_009, expired::add);
+        assertThat(expired).hasSize(3);
+        wheel.advanceTo(START + 2_010, expired::add);
+        assertThat(expired).containsExactly("level-0", "level-1", "level-2", "overflow");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void schedule_ShouldExpireOnNextTick_WhenDeadlineHasPassed() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 2, START);
+        List<String> expired = new ArrayList<>();
+
+        // Act
+        wheel.schedule("overdue", START - 60_000);
+        wheel.advanceTo(START + 10, expired::add);
+
+        // Assert
+        assertThat(expired).containsExactly("overdue");
+    }
+
+    @Test
+    void cancel_ShouldRemoveEntryBeforeItExpires() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 2, START);
+        HierarchicalTimingWheel.Entry<String> cancelled = wheel.schedule("cancelled", START + 300);
+        wheel.schedule("kept", START + 300);
+        List<String> expired = new ArrayList<>();
+
+        // Act
+        boolean removed = wheel.cancel(cancelled);
+        wheel.advanceTo(START + 1_000, expired::add);
+
+        // Assert
+        assertThat(removed).isTrue();
+        assertThat(wheel.cancel(cancelled)).isFalse();
+        assertThat(expired).containsExactly("kept");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void constructor_ShouldRejectWheelSizeThatIsNotAPowerOfTwo() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(10, 60, 3, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
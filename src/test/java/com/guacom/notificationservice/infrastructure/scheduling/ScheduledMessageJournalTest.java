@@ -0,0 +1,153 @@
+package com.guacom.notificationservice.infrastructure.scheduling;
+
+import com.guacom.notificationservice.domain.entities.ScheduledMessage;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduledMessageJournalTest {
+
+    private static final LocalDateTime SEND_AT = LocalDateTime.of(2024, 1, 15, 10, 0, 0, 123_456_789);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_ShouldReturnMessagesWithoutOutcome_InScheduleOrder() {
+        // Arrange
+        Path file = directory.resolve("scheduled.journal");
+        try (ScheduledMessageJournal journal = new ScheduledMessageJournal(file, 100)) {
+            journal.recover();
+            journal.appendScheduled(createMessage("message-1"));
+            journal.appendScheduled(createMessage("message-2"));
+            journal.appendScheduled(createMessage("message-3"));
+            journal.appendReleased("message-1");
+            journal.appendCancelled("message-3");
+        }
+
+        // Act
+        List<ScheduledMessage> recovered;
+        try (ScheduledMessageJournal journal = new ScheduledMessageJournal(file, 100)) {
+            recovered = journal.recover();
+        }
+
+        // Assert
+        assertThat(recovered).extracting(ScheduledMessage::getId).containsExactly("message-2");
+        ScheduledMessage message = recovered.get(0);
+        assertThat(message.getCategory()).isEqualTo(MessageCategory.FINANCE);
+        assertThat(message.getContent()).isEqualTo("Quarterly results for message-2");
+        assertThat(message.getSendAt()).isEqualTo(SEND_AT);
+        assertThat(message.isPending()).isTrue();
+    }
+
+    @Test
+    void recover_ShouldCutOffTornRecord_AndKeepAppending() throws IOException {
+        // Arrange
+        Path file = directory.resolve("scheduled.journal");
+        try (ScheduledMessageJournal journal = new ScheduledMessageJournal(file, 100)) {
+            journal.recover();
+            journal.appendScheduled(createMessage("message-1"));
+        }
+        long intactSize = Files.size(file);
+        Files.write(file, new byte[]{0, 0, 1, 0, 7, 7}, StandardOpenOption.APPEND);
+
+        // Act
+        try (ScheduledMessageJournal journal = new ScheduledMessageJournal(file, 100)) {
+            assertThat(journal.recover()).extracting(ScheduledMessage::getId).containsExactly("message-1");
+            journal.appendScheduled(createMessage("message-2"));
+        }
+
+        // Assert
+        try (ScheduledMessageJournal journal = new ScheduledMessageJournal(file, 100)) {
+            assertThat(journal.recover()).extracting(ScheduledMessage::getId)
+                    .containsExactly("message-1", "message-2");
+        }
+        assertThat(Files.size(file)).isGreaterThan(intactSize);
+    }
+
+    @Test
+    void compact_ShouldKeepOnlyPendingMessages_OnceFinishedOnesOutnumberThem() throws IOException {
+        // Arrange
+        Path file = directory.resolve("scheduled.journal");
+        try (ScheduledMessageJournal journal = new ScheduledMessageJournal(file, 10)) {
+            journal.recover();
+            for (int i = 0; i < 30; i++) {
+                journal.appendScheduled(createMessage("message-" + i));
+            }
+            for (int i = 0; i < 25; i++) {
+                journal.appendReleased("message-" + i);
+            }
+            long sizeBefore = Files.size(file);
+
+            // Act
+            assertThat(journal.needsCompaction()).isTrue();
+            journal.compact();
+            journal.appendCancelled("message-25");
+
+            // Assert
+            assertThat(journal.needsCompaction()).isFalse();
+            assertThat(Files.size(file)).isLessThan(sizeBefore / 4);
+        }
+        try (ScheduledMessageJournal journal = new ScheduledMessageJournal(file, 10)) {
+            assertThat(journal.recover()).extracting(ScheduledMessage::getId)
+                    .containsExactly("message-26", "message-27", "message-28", "message-29");
+        }
+    }
+
+    @Test
+    void appendReleased_ShouldKeepEveryOutcome_WhenWorkersReleaseAndCompactConcurrently() throws Exception {
+        // Arrange
+        Path file = directory.resolve("scheduled.journal");
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+        try (ScheduledMessageJournal journal = new ScheduledMessageJournal(file, 10)) {
+            journal.recover();
+            for (int i = 0; i < 200; i++) {
+                journal.appendScheduled(createMessage("message-" + i));
+            }
+
+            // Act
+            List<Future<?>> releases = new ArrayList<>();
+            for (int worker = 0; worker < 8; worker++) {
+                int first = worker;
+                releases.add(workers.submit(() -> {
+                    for (int i = first; i < 160; i += 8) {
+                        journal.appendReleased("message-" + i);
+                        journal.compact();
+                    }
+                }));
+            }
+            for (Future<?> release : releases) {
+                release.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        // Assert
+        try (ScheduledMessageJournal journal = new ScheduledMessageJournal(file, 10)) {
+            assertThat(journal.recover()).extracting(ScheduledMessage::getId)
+                    .hasSize(40)
+                    .startsWith("message-160")
+                    .endsWith("message-199");
+        }
+    }
+
+    private static ScheduledMessage createMessage(String id) {
+        return new ScheduledMessage(id, MessageCategory.FINANCE, "Quarterly results for " + id,
+                SEND_AT, SEND_AT.minusDays(1));
+    }
+}
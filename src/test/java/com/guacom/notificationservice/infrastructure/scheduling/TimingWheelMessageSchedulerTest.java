@@ -0,0 +1,241 @@
+package com.guacom.notificationservice.infrastructure.scheduling;
+
+import com.guacom.notificationservice.application.dto.NotificationLogDto;
+import com.guacom.notificationservice.application.dto.ScheduledMessageDto;
+import com.guacom.notificationservice.domain.entities.Message;
+import com.guacom.notificationservice.domain.enums.MessageCategory;
+import com.guacom.notificationservice.domain.enums.NotificationStatus;
+import com.guacom.notificationservice.domain.enums.ScheduledMessageStatus;
+import com.guacom.notificationservice.domain.exceptions.ResourceNotFoundException;
+import com.guacom.notificationservice.domain.exceptions.ServiceUnavailableException;
+import com.guacom.notificationservice.domain.interfaces.MessageService;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimingWheelMessageSchedulerTest {
+
+    private static final String CONTENT = "Season tickets go on sale tomorrow";
+
+    @Mock
+    private MessageService messageService;
+
+    @TempDir
+    Path directory;
+
+    private NotificationProperties.Scheduling settings;
+    private TimingWheelMessageScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        settings = new NotificationProperties.Scheduling();
+        settings.setJournalFile(directory.resolve("scheduled.journal").toString());
+        settings.setTickDuration(Duration.ofMillis(10));
+        settings.setReleaseWorkers(2);
+
+        AtomicInteger ids = new AtomicInteger();
+        when(messageService.createMessage(any(), anyString())).thenAnswer(invocation -> Message.builder()
+                .id("message-" + ids.incrementAndGet())
+                .category(invocation.getArgument(0))
+                .content(invocation.getArgument(1))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void schedule_ShouldReleaseMessageIntoProcessing_OnceDue() throws Exception {
+        // Arrange
+        scheduler = new TimingWheelMessageScheduler(messageService, settings);
+        CountDownLatch released = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Consumer<NotificationLogDto> listener = invocation.getArgument(1);
+            listener.accept(NotificationLogDto.builder().status(NotificationStatus.SENT).build());
+            released.countDown();
+            return null;
+        }).when(messageService).processMessage(any(Message.class), any());
+        LocalDateTime sendAt = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // Act
+        ScheduledMessageDto scheduled = scheduler.schedule(MessageCategory.SPORTS, CONTENT, sendAt);
+
+        // Assert
+        assertThat(scheduled.getStatus()).isEqualTo(ScheduledMessageStatus.SCHEDULED);
+        assertThat(scheduler.getScheduled(10)).extracting(ScheduledMessageDto::getMessageId)
+                .containsExactly(scheduled.getMessageId());
+        assertThat(released.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(LocalDateTime.now()).isAfterOrEqualTo(sendAt);
+        assertThatThrownBy(() -> scheduler.getScheduled(scheduled.getMessageId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void cancel_ShouldKeepMessageFromBeingReleased() throws Exception {
+        // Arrange
+        scheduler = new TimingWheelMessageScheduler(messageService, settings);
+        ScheduledMessageDto scheduled = scheduler.schedule(MessageCategory.SPORTS, CONTENT,
+                LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(50)));
+
+        // Act
+        ScheduledMessageDto cancelled = scheduler.cancel(scheduled.getMessageId());
+        Thread.sleep(200);
+
+        // Assert
+        assertThat(cancelled.getStatus()).isEqualTo(ScheduledMessageStatus.CANCELLED);
+        assertThat(scheduler.getScheduled(10)).isEmpty();
+        verify(messageService, never()).processMessage(any(Message.class), any());
+        assertThatThrownBy(() -> scheduler.cancel(scheduled.getMessageId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void constructor_ShouldRecoverPendingMessages_AfterRestart() throws Exception {
+        // Arrange
+        scheduler = new TimingWheelMessageScheduler(messageService, settings);
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
+        scheduler.schedule(MessageCategory.MOVIES, CONTENT, tomorrow.plusHours(1));
+        ScheduledMessageDto cancelled = scheduler.schedule(MessageCategory.MOVIES, CONTENT, tomorrow);
+        scheduler.schedule(MessageCategory.FINANCE, CONTENT, tomorrow.minusHours(1));
+        scheduler.cancel(cancelled.getMessageId());
+        scheduler.shutdown();
+
+        // Act
+        scheduler = new TimingWheelMessageScheduler(messageService, settings);
+        List<ScheduledMessageDto> recovered = scheduler.getScheduled(10);
+
+        // Assert
+        assertThat(recovered).extracting(ScheduledMessageDto::getMessageId)
+                .containsExactly("message-3", "message-1");
+        assertThat(recovered).extracting(ScheduledMessageDto::getSendAt)
+                .containsExactly(tomorrow.minusHours(1), tomorrow.plusHours(1));
+    }
+
+    @Test
+    void schedule_ShouldReleaseSpikeWithinWorkerLimit() throws Exception {
+        // Arrange
+        scheduler = new TimingWheelMessageScheduler(messageService, settings);
+        int spike = 50;
+        CountDownLatch released = new CountDownLatch(spike);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Set<String> releasedIds = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            releasedIds.add(invocation.<Message>getArgument(0).getId());
+            inFlight.decrementAndGet();
+            released.countDown();
+            return null;
+        }).when(messageService).processMessage(any(Message.class), any());
+        LocalDateTime sendAt = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(50));
+
+        // Act
+        for (int i = 0; i < spike; i++) {
+            scheduler.schedule(MessageCategory.SPORTS, CONTENT, sendAt);
+        }
+
+        // Assert
+        assertThat(released.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(releasedIds).hasSize(spike);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(settings.getReleaseWorkers());
+    }
+
+    @Test
+    void schedule_ShouldRejectNewMessages_WhenTooManyArePending() {
+        // Arrange
+        settings.setMaxPending(1);
+        scheduler = new TimingWheelMessageScheduler(messageService, settings);
+        LocalDateTime nextWeek = LocalDateTime.now().plusWeeks(1);
+        scheduler.schedule(MessageCategory.SPORTS, CONTENT, nextWeek);
+
+        // Act & Assert
+        assertThatThrownBy(() -> scheduler.schedule(MessageCategory.SPORTS, CONTENT, nextWeek))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(() -> scheduler.schedule(MessageCategory.SPORTS, CONTENT, nextWeek.plusYears(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void schedule_ShouldNotOvershootMaxPending_WhenRequestsRace() throws Exception {
+        // Arrange
+        settings.setMaxPending(10);
+        scheduler = new TimingWheelMessageScheduler(messageService, settings);
+        LocalDateTime nextWeek = LocalDateTime.now().plusWeeks(1);
+        int requests = 100;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < requests; i++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    scheduler.schedule(MessageCategory.SPORTS, CONTENT, nextWeek);
+                    accepted.incrementAndGet();
+                } catch (ServiceUnavailableException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+
+        // Assert
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(accepted.get()).isEqualTo(settings.getMaxPending());
+        assertThat(rejected.get()).isEqualTo(requests - settings.getMaxPending());
+        assertThat(scheduler.getScheduled(requests)).hasSize(settings.getMaxPending());
+    }
+
+    @Test
+    void cancel_ShouldFreeSlotForNewMessage_WhenMaxPendingIsReached() {
+        // Arrange
+        settings.setMaxPending(1);
+        scheduler = new TimingWheelMessageScheduler(messageService, settings);
+        LocalDateTime nextWeek = LocalDateTime.now().plusWeeks(1);
+        ScheduledMessageDto first = scheduler.schedule(MessageCategory.SPORTS, CONTENT, nextWeek);
+
+        // Act
+        scheduler.cancel(first.getMessageId());
+        ScheduledMessageDto second = scheduler.schedule(MessageCategory.SPORTS, CONTENT, nextWeek);
+
+        // Assert
+        assertThat(second.getStatus()).isEqualTo(ScheduledMessageStatus.SCHEDULED);
+    }
+}
@@ -0,0 +1,48 @@
+package com.guacom.notificationservice.presentation.controllers;
+
+import com.guacom.notificationservice.domain.enums.CircuitState;
+import com.guacom.notificationservice.domain.enums.NotificationChannel;
+import com.guacom.notificationservice.infrastructure.channels.ChannelCircuitBreaker;
+import com.guacom.notificationservice.infrastructure.channels.NotificationChannelFactory;
+import com.guacom.notificationservice.infrastructure.config.NotificationProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ChannelController.class)
+class ChannelControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private NotificationChannelFactory channelFactory;
+
+    @Test
+    void getCircuitBreakers_ShouldReturnStateOfEveryBreaker() throws Exception {
+        // Arrange
+        ChannelCircuitBreaker breaker = new ChannelCircuitBreaker(
+                NotificationChannel.SMS, new NotificationProperties.CircuitBreaker());
+        when(channelFactory.getCircuitBreakers()).thenReturn(Map.of(NotificationChannel.SMS, breaker));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/channels/circuit-breakers")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Retrieved 1 circuit breakers"))
+                .andExpect(jsonPath("$.data[0].channel").value("SMS"))
+                .andExpect(jsonPath("$.data[0].state").value(CircuitState.CLOSED.name()))
+                .andExpect(jsonPath("$.data[0].failureRate").value(-1.0))
+                .andExpect(jsonPath("$.data[0].rejectedCalls").value(0));
+    }
+}
@@ -9,9 +9,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 
+import java.time.LocalDateTime;
+
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -58,6 +62,119 @@ class MessageControllerIT {
                 .andExpect(jsonPath("$.message").value(containsString("Content must be between 10 and 1000 characters")));
     }
 
+    @Test
+    void sendMessage_ShouldAcceptForDispatch_WhenAsyncRequested() throws Exception {
+        // Arrange
+        CreateMessageRequest request = new CreateMessageRequest(
+                MessageCategory.FINANCE,
+                "This is a valid finance message dispatched asynchronously"
+        );
+
+        // Act & Assert
+        mockMvc.perform(post("/api/messages")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.jobId").isNotEmpty())
+                .andExpect(jsonPath("$.data.category").value("FINANCE"));
+    }
+
+    @Test
+    void sendMessage_ShouldStreamNdjson_WhenAcceptHeaderRequestsIt() throws Exception {
+        // Arrange
+        CreateMessageRequest request = new CreateMessageRequest(
+                MessageCategory.SPORTS,
+                "This is a valid sports message streamed as NDJSON"
+        );
+
+        // Act
+        MvcResult started = mockMvc.perform(post("/api/messages")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        String[] lines = body.strip().split("\n");
+        assertEquals(10, lines.length);
+        for (String line : lines) {
+            assertEquals("SPORTS", objectMapper.readTree(line).get("messageCategory").asText());
+        }
+    }
+
+    @Test
+    void sendMessage_ShouldStreamServerSentEvents_WhenStreamParamRequestsIt() throws Exception {
+        // Arrange
+        CreateMessageRequest request = new CreateMessageRequest(
+                MessageCategory.SPORTS,
+                "This is a valid sports message streamed as events"
+        );
+
+        // Act
+        MvcResult started = mockMvc.perform(post("/api/messages")
+                        .param("stream", "sse")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(containsString("event: notification\ndata: {")))
+                .andExpect(content().string(containsString("event: complete\ndata: ")))
+                .andExpect(content().string(containsString("\"sent\":10")));
+    }
+
+    @Test
+    void getJob_ShouldReturnNotFound_ForUnknownJob() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/messages/jobs/unknown-job"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void sendMessage_ShouldScheduleAndCancel_WhenSendAtIsGiven() throws Exception {
+        // Arrange
+        CreateMessageRequest request = new CreateMessageRequest(
+                MessageCategory.MOVIES,
+                "This is a valid movies message scheduled for tomorrow",
+                LocalDateTime.now().plusDays(1)
+        );
+
+        // Act
+        MvcResult scheduled = mockMvc.perform(post("/api/messages")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.data.status").value("SCHEDULED"))
+                .andReturn();
+        String messageId = objectMapper.readTree(scheduled.getResponse().getContentAsString())
+                .path("data").path("messageId").asText();
+
+        // Assert
+        mockMvc.perform(get("/api/messages/scheduled"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[?(@.messageId == '" + messageId + "')]").exists());
+        mockMvc.perform(delete("/api/messages/scheduled/" + messageId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("CANCELLED"));
+        mockMvc.perform(delete("/api/messages/scheduled/" + messageId))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void getCategories_ShouldReturnAllCategories() throws Exception {
         // Act & Assert
@@ -1,6 +1,7 @@
 package com.guacom.notificationservice.presentation.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guacom.notificationservice.application.dto.NotificationHistoryPageDto;
 import com.guacom.notificationservice.application.dto.NotificationLogDto;
 import com.guacom.notificationservice.application.services.NotificationServiceImpl;
 import com.guacom.notificationservice.domain.enums.MessageCategory;
@@ -48,7 +49,7 @@ class NotificationControllerIT {
                 createMockNotificationLog("user3@example.com", NotificationChannel.PUSH, false)
         );
 
-        when(notificationService.getNotificationHistory()).thenReturn(mockHistory);
+        when(notificationService.getNotificationHistory(null, 50)).thenReturn(page(mockHistory, "next-page"));
 
         // Act & Assert
         mockMvc.perform(get("/api/notifications/history")
@@ -56,13 +57,35 @@ class NotificationControllerIT {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Retrieved 3 notification records"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(3))
-                .andExpect(jsonPath("$.data[0].userEmail").value("user1@example.com"))
-                .andExpect(jsonPath("$.data[0].channel").value("EMAIL"))
-                .andExpect(jsonPath("$.data[0].status").value(DELIVERED.name()))
-                .andExpect(jsonPath("$.data[1].userEmail").value("user2@example.com"))
-                .andExpect(jsonPath("$.data[2].status").value(FAILED.name()));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items.length()").value(3))
+                .andExpect(jsonPath("$.data.items[0].userEmail").value("user1@example.com"))
+                .andExpect(jsonPath("$.data.items[0].channel").value("EMAIL"))
+                .andExpect(jsonPath("$.data.items[0].status").value(DELIVERED.name()))
+                .andExpect(jsonPath("$.data.items[1].userEmail").value("user2@example.com"))
+                .andExpect(jsonPath("$.data.items[2].status").value(FAILED.name()))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-page"))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
+    }
+
+    @Test
+    void getNotificationHistory_ShouldPassCursorAndLimitToService() throws Exception {
+        // Arrange
+        List<NotificationLogDto> mockHistory = List.of(
+                createMockNotificationLog("user4@example.com", NotificationChannel.PUSH, true)
+        );
+
+        when(notificationService.getNotificationHistory("next-page", 1)).thenReturn(page(mockHistory, null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/notifications/history")
+                        .param("cursor", "next-page")
+                        .param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].userEmail").value("user4@example.com"))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
     }
 
     @Test
@@ -70,7 +93,7 @@ class NotificationControllerIT {
         // Arrange
         List<NotificationLogDto> emptyHistory = List.of();
 
-        when(notificationService.getNotificationHistory()).thenReturn(emptyHistory);
+        when(notificationService.getNotificationHistory(null, 50)).thenReturn(page(emptyHistory, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/notifications/history")
@@ -78,8 +101,16 @@ class NotificationControllerIT {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Retrieved 0 notification records"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(0));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items.length()").value(0));
+    }
+
+    private NotificationHistoryPageDto page(List<NotificationLogDto> items, String nextCursor) {
+        return NotificationHistoryPageDto.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(nextCursor != null)
+                .build();
     }
 
     // Helper method to create mock notification logs